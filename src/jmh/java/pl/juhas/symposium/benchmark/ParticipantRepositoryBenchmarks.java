@@ -0,0 +1,87 @@
+package pl.juhas.symposium.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import pl.juhas.symposium.dto.ParticipantDTO;
+import pl.juhas.symposium.enums.Country;
+import pl.juhas.symposium.enums.Role;
+import pl.juhas.symposium.repository.ParticipantRepository;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class ParticipantRepositoryBenchmarks {
+
+    private static final Pageable PAGE = PageRequest.ofSize(50);
+
+    @Benchmark
+    public List<ParticipantDTO> findAllAsDto(SeededDatabase db) {
+        return db.participantRepository.findAllAsDto();
+    }
+
+    @Benchmark
+    public List<ParticipantDTO> findAllParticipantsOrderedByRoles(SeededDatabase db) {
+        return db.participantRepository.findAllParticipantsOrderedByRoles();
+    }
+
+    @Benchmark
+    public void streamAllAsDto(SeededDatabase db, Blackhole blackhole) {
+        db.transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<ParticipantDTO> rows = db.participantRepository.streamAllAsDto()) {
+                rows.forEach(blackhole::consume);
+            }
+        });
+    }
+
+    @Benchmark
+    public void streamAllParticipantsOrderedByRoles(SeededDatabase db, Blackhole blackhole) {
+        db.transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<ParticipantDTO> rows = db.participantRepository.streamAllParticipantsOrderedByRoles()) {
+                rows.forEach(blackhole::consume);
+            }
+        });
+    }
+
+    @Benchmark
+    public List<ParticipantRepository.CodeCount> countByRole(SeededDatabase db) {
+        return db.participantRepository.countByRole();
+    }
+
+    @Benchmark
+    public List<ParticipantRepository.CodeCount> countByCountry(SeededDatabase db) {
+        return db.participantRepository.countByCountry();
+    }
+
+    @Benchmark
+    public List<ParticipantDTO> findByRoleAfter(SeededDatabase db) {
+        return db.participantRepository.findByRoleAfter(Role.DOCTOR, db.participants / 2, PAGE);
+    }
+
+    @Benchmark
+    public List<ParticipantDTO> findByCountryAfter(SeededDatabase db) {
+        return db.participantRepository.findByCountryAfter(Country.POLAND, db.participants / 2, PAGE);
+    }
+
+    @Benchmark
+    public List<ParticipantDTO> findPageOrderedByRole(SeededDatabase db) {
+        return db.participantRepository.findPageOrderedByRole(PAGE);
+    }
+
+    @Benchmark
+    public List<ParticipantDTO> findPageOrderedByRoleAfter(SeededDatabase db) {
+        return db.participantRepository.findPageOrderedByRoleAfter(Role.STUDENT, db.participants / 2, PAGE);
+    }
+
+    @Benchmark
+    public List<ParticipantDTO> findPageWithoutRoleAfter(SeededDatabase db) {
+        return db.participantRepository.findPageWithoutRoleAfter(0, PAGE);
+    }
+}
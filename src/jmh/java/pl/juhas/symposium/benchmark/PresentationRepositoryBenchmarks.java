@@ -0,0 +1,79 @@
+package pl.juhas.symposium.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import pl.juhas.symposium.dto.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class PresentationRepositoryBenchmarks {
+
+    private static final Pageable PAGE = PageRequest.ofSize(50);
+
+    @Benchmark
+    public List<SpeakerStatsDTO> findTopSpeaker(SeededDatabase db) {
+        return db.presentationRepository.findTopSpeaker(PageRequest.ofSize(1));
+    }
+
+    @Benchmark
+    public long countPresentationsByConferenceHall(SeededDatabase db) {
+        return db.presentationRepository.countPresentationsByConferenceHall(db.hall);
+    }
+
+    @Benchmark
+    public List<PresentationDTO> findAllAsDto(SeededDatabase db) {
+        return db.presentationRepository.findAllAsDto();
+    }
+
+    @Benchmark
+    public List<PresentationTopicDTO> findAllPresentationTopics(SeededDatabase db) {
+        return db.presentationRepository.findAllPresentationTopics();
+    }
+
+    @Benchmark
+    public List<PresentationSlotDTO> findAllSlots(SeededDatabase db) {
+        return db.presentationRepository.findAllSlots();
+    }
+
+    @Benchmark
+    public List<PresentationDTO> findPageOrderedByStartTime(SeededDatabase db) {
+        return db.presentationRepository.findPageOrderedByStartTime(PAGE);
+    }
+
+    @Benchmark
+    public List<PresentationDTO> findPageOrderedByStartTimeAfter(SeededDatabase db) {
+        return db.presentationRepository.findPageOrderedByStartTimeAfter(db.firstSlot.plusDays(1), 0, PAGE);
+    }
+
+    @Benchmark
+    public List<PresentationDTO> findPageWithoutStartTimeAfter(SeededDatabase db) {
+        return db.presentationRepository.findPageWithoutStartTimeAfter(0, PAGE);
+    }
+
+    @Benchmark
+    public List<ScheduleRowDTO> findScheduleRows(SeededDatabase db) {
+        return db.presentationRepository.findScheduleRows();
+    }
+
+    @Benchmark
+    public List<ScheduleRowDTO> findScheduleRowsBetween(SeededDatabase db) {
+        return db.presentationRepository.findScheduleRowsBetween(db.firstSlot, db.firstSlot.plusDays(1));
+    }
+
+    @Benchmark
+    public List<PresenterAssignmentDTO> findSchedulePresenters(SeededDatabase db) {
+        return db.presentationRepository.findSchedulePresenters();
+    }
+
+    @Benchmark
+    public List<PresenterAssignmentDTO> findSchedulePresentersBetween(SeededDatabase db) {
+        return db.presentationRepository.findSchedulePresentersBetween(db.firstSlot, db.firstSlot.plusDays(1));
+    }
+}
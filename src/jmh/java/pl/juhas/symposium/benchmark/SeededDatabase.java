@@ -0,0 +1,86 @@
+package pl.juhas.symposium.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import pl.juhas.symposium.SymposiumApplication;
+import pl.juhas.symposium.bulk.SyntheticDataGenerator;
+import pl.juhas.symposium.dto.SyntheticDataRequestDTO;
+import pl.juhas.symposium.model.ConferenceHall;
+import pl.juhas.symposium.repository.ConferenceHallRepository;
+import pl.juhas.symposium.repository.ParticipantRepository;
+import pl.juhas.symposium.repository.PresentationRepository;
+import pl.juhas.symposium.repository.TopicRepository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Boots the application without a web server against its own PostgreSQL database,
+ * {@value #DATABASE} on the local server (create it once with {@code createdb symposium_bench}),
+ * and seeds it with the synthetic data generator, always from the same seed. The data is kept between
+ * forks, so only the first benchmark of a run pays for seeding; a
+ * database holding different volumes is truncated and seeded again. Seeding refuses to run against
+ * any other database, so the application data is never truncated.
+ * Volumes are JMH parameters, e.g. {@code -PjmhArgs="-p participants=1000000 -p presentations=50000"}.
+ */
+@State(Scope.Benchmark)
+public class SeededDatabase {
+
+    private static final String DATABASE = "symposium_bench";
+
+    private static final String URL = "jdbc:postgresql://localhost:5432/" + DATABASE + "?reWriteBatchedInserts=true";
+    private static final long SEED = 1;
+    private static final int HALLS = 100;
+    private static final int ATTENDEES_PER_PRESENTATION = 10;
+
+    @Param({"100000"})
+    public int participants;
+
+    @Param({"20000"})
+    public int presentations;
+
+    ConfigurableApplicationContext context;
+    ParticipantRepository participantRepository;
+    PresentationRepository presentationRepository;
+    TransactionTemplate transactionTemplate;
+    ConferenceHall hall;
+    LocalDateTime firstSlot;
+
+    @Setup(Level.Trial)
+    public void seed() {
+        context = new SpringApplicationBuilder(SymposiumApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--logging.level.root=WARN", "--spring.datasource.url=" + URL,
+                        "--symposium.datasource.replica.urls=");
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        String database = jdbcTemplate.queryForObject("SELECT current_database()", String.class);
+        if (!DATABASE.equals(database)) {
+            context.close();
+            throw new IllegalStateException("Benchmarks seed only the " + DATABASE + " database, not " + database);
+        }
+        participantRepository = context.getBean(ParticipantRepository.class);
+        presentationRepository = context.getBean(PresentationRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        firstSlot = LocalDateTime.of(2025, 5, 5, 9, 0);
+
+        if (participantRepository.count() == participants && context.getBean(TopicRepository.class).count() == presentations) {
+            hall = context.getBean(ConferenceHallRepository.class).findAll().getFirst();
+            return;
+        }
+        jdbcTemplate.execute("""
+                TRUNCATE presentation_participants, topic_presenters, waitlist_entry, presentation_seats, presenter_slot,
+                    presentation, topic, conference_hall, hotel, participant, outbox_event, outbox_dead_letter
+                """);
+        context.getBean(SyntheticDataGenerator.class).generate(new SyntheticDataRequestDTO(SEED, participants, 1, HALLS,
+                presentations, 3, ATTENDEES_PER_PRESENTATION, null, null, firstSlot.toLocalDate()));
+        hall = context.getBean(ConferenceHallRepository.class).findAll().getFirst();
+    }
+
+    @TearDown(Level.Trial)
+    public void close() {
+        context.close();
+    }
+}
@@ -0,0 +1,259 @@
+package pl.juhas.symposium.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import pl.juhas.symposium.SymposiumApplication;
+import pl.juhas.symposium.dto.ParticipantDTO;
+import pl.juhas.symposium.dto.ScheduleGenerationRequestDTO;
+import pl.juhas.symposium.enums.Country;
+import pl.juhas.symposium.enums.Role;
+import pl.juhas.symposium.model.ConferenceHall;
+import pl.juhas.symposium.model.Hotel;
+import pl.juhas.symposium.model.Participant;
+import pl.juhas.symposium.model.Topic;
+import pl.juhas.symposium.repository.ConferenceHallRepository;
+import pl.juhas.symposium.repository.HotelRepository;
+import pl.juhas.symposium.repository.ParticipantRepository;
+import pl.juhas.symposium.repository.TopicRepository;
+import pl.juhas.symposium.service.ParticipantRegistrationService;
+import pl.juhas.symposium.service.ScheduleGeneratorService;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.IntStream;
+
+/**
+ * Boots the application once per request-thread mode, seeds the same data set and drives the main
+ * read endpoints with a fixed number of concurrent clients. Prints a comparison and writes it as
+ * JSON to the path given as the first argument.
+ * <p>
+ * Options: {@code -DloadTest.modes=platform,virtual -DloadTest.concurrency=400
+ * -DloadTest.duration=20 -DloadTest.warmup=5 -DloadTest.participants=20000 -DloadTest.poolSize=10}
+ * (durations in seconds).
+ */
+@Slf4j
+public final class ReadEndpointLoadTest {
+
+    private static final List<String> ENDPOINTS = List.of(
+            "/api/participants?size=50",
+            "/api/presentations?size=50",
+            "/api/participants/groups/roles",
+            "/api/schedule?day=2025-05-05",
+            "/api/reports/top-speakers?limit=10",
+            "/api/reports/hall-utilization",
+            "/api/search/typeahead?q=an");
+
+    private static final List<String> MODES = List.of(System.getProperty("loadTest.modes", "platform,virtual").split(","));
+    private static final int CONCURRENCY = Integer.getInteger("loadTest.concurrency", 400);
+    private static final Duration DURATION = Duration.ofSeconds(Integer.getInteger("loadTest.duration", 20));
+    private static final Duration WARMUP = Duration.ofSeconds(Integer.getInteger("loadTest.warmup", 5));
+    private static final int PARTICIPANTS = Integer.getInteger("loadTest.participants", 20_000);
+    private static final int POOL_SIZE = Integer.getInteger("loadTest.poolSize", 10);
+
+    private static final int HALLS = 30;
+    private static final int TOPICS = 1_500;
+    private static final int PRESENTERS = 1_000;
+
+    private ReadEndpointLoadTest() {
+    }
+
+    public record EndpointResult(String endpoint, long requests, long errors, double p50Millis, double p95Millis,
+                                 double p99Millis, double maxMillis) {
+    }
+
+    public record ModeResult(String mode, int concurrency, int poolSize, long requests, long errors,
+                             double requestsPerSecond, double p50Millis, double p95Millis, double p99Millis,
+                             double maxMillis, List<EndpointResult> endpoints) {
+    }
+
+    public static void main(String[] args) throws IOException {
+        List<ModeResult> results = new ArrayList<>();
+        for (String mode : MODES) {
+            results.add(run(mode.strip()));
+        }
+
+        System.out.printf("%n%-10s %10s %8s %10s %10s %10s %10s%n", "mode", "req/s", "errors", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        for (ModeResult result : results) {
+            System.out.printf("%-10s %10.0f %8d %10.2f %10.2f %10.2f %10.2f%n", result.mode(), result.requestsPerSecond(),
+                    result.errors(), result.p50Millis(), result.p95Millis(), result.p99Millis(), result.maxMillis());
+        }
+        if (args.length > 0) {
+            File output = new File(args[0]);
+            output.getParentFile().mkdirs();
+            new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(output, results);
+            System.out.println("Results written to " + output);
+        }
+    }
+
+    private static ModeResult run(String mode) {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SymposiumApplication.class).run(
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + "virtual".equals(mode),
+                "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                "--logging.level.root=WARN")) {
+            seed(context);
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            log.warn("Warming up {} mode for {} s", mode, WARMUP.toSeconds());
+            drive(port, WARMUP);
+            log.warn("Measuring {} mode with {} clients for {} s", mode, CONCURRENCY, DURATION.toSeconds());
+            return summarize(mode, drive(port, DURATION));
+        }
+    }
+
+    private static void seed(ConfigurableApplicationContext context) {
+        // The schema outlives the run, so each mode starts from empty tables
+        context.getBean(JdbcTemplate.class).execute("""
+                TRUNCATE presentation_participants, topic_presenters, waitlist_entry, presentation_seats, presenter_slot, presentation, topic, conference_hall, hotel, participant
+                """);
+        context.getBean(ParticipantRegistrationService.class).registerAll(IntStream.range(0, PARTICIPANTS)
+                .mapToObj(i -> new ParticipantDTO(null, (i % 2 == 0 ? "Anna" : "Marek") + i, "Last" + i,
+                        "participant" + i + "@example.com", Role.values()[i % Role.values().length],
+                        Country.values()[i % Country.values().length]))
+                .iterator());
+
+        Hotel hotel = new Hotel();
+        hotel.setName("Congress Hotel");
+        hotel.setAddress("1 Load St");
+        context.getBean(HotelRepository.class).save(hotel);
+        List<ConferenceHall> halls = new ArrayList<>();
+        for (int i = 0; i < HALLS; i++) {
+            ConferenceHall hall = new ConferenceHall();
+            hall.setName("Hall " + i);
+            hall.setHotel(hotel);
+            halls.add(hall);
+        }
+        context.getBean(ConferenceHallRepository.class).saveAll(halls);
+
+        List<Participant> presenters = context.getBean(ParticipantRepository.class)
+                .findAll(PageRequest.of(0, PRESENTERS)).getContent();
+        List<Topic> topics = new ArrayList<>();
+        for (int i = 0; i < TOPICS; i++) {
+            Topic topic = new Topic();
+            topic.setName("Topic " + i);
+            topic.setPresenters(Set.of(presenters.get(i % presenters.size())));
+            topics.add(topic);
+        }
+        context.getBean(TopicRepository.class).saveAll(topics);
+
+        List<LocalDateTime> slots = new ArrayList<>();
+        for (int day = 0; day < 5; day++) {
+            for (int hour = 8; hour < 18; hour++) {
+                slots.add(LocalDateTime.of(2025, 5, 5 + day, hour, 0));
+            }
+        }
+        context.getBean(ScheduleGeneratorService.class)
+                .generate(new ScheduleGenerationRequestDTO(hotel.getId(), slots, null, 2_000L, 1L));
+    }
+
+    private static Latencies[] drive(int port, Duration duration) {
+        Latencies[] latencies = new Latencies[ENDPOINTS.size()];
+        Arrays.setAll(latencies, i -> new Latencies());
+        List<HttpRequest> requests = ENDPOINTS.stream()
+                .map(path -> HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                        .timeout(Duration.ofSeconds(30)).GET().build())
+                .toList();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        try (HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < CONCURRENCY; c++) {
+                int first = c;
+                clients.submit(() -> {
+                    for (int i = first; System.nanoTime() < deadline; i++) {
+                        int endpoint = i % requests.size();
+                        long started = System.nanoTime();
+                        boolean ok;
+                        try {
+                            ok = client.send(requests.get(endpoint), HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+                        } catch (IOException e) {
+                            ok = false;
+                        }
+                        latencies[endpoint].record(System.nanoTime() - started, ok);
+                    }
+                    return null;
+                });
+            }
+        }
+        return latencies;
+    }
+
+    private static ModeResult summarize(String mode, Latencies[] latencies) {
+        List<EndpointResult> endpoints = new ArrayList<>();
+        Latencies all = new Latencies();
+        for (int i = 0; i < latencies.length; i++) {
+            Latencies endpoint = latencies[i];
+            endpoints.add(new EndpointResult(ENDPOINTS.get(i), endpoint.count(), endpoint.errors(),
+                    endpoint.percentile(50), endpoint.percentile(95), endpoint.percentile(99), endpoint.percentile(100)));
+            all.addAll(endpoint);
+        }
+        return new ModeResult(mode, CONCURRENCY, POOL_SIZE, all.count(), all.errors(),
+                all.count() / (double) DURATION.toSeconds(), all.percentile(50), all.percentile(95),
+                all.percentile(99), all.percentile(100), endpoints);
+    }
+
+    /**
+     * Append-only list of request latencies in nanoseconds.
+     */
+    private static final class Latencies {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private long[] nanos = new long[1024];
+        private int size;
+        private long errors;
+
+        void record(long latency, boolean ok) {
+            lock.lock();
+            try {
+                if (size == nanos.length) {
+                    nanos = Arrays.copyOf(nanos, size * 2);
+                }
+                nanos[size++] = latency;
+                if (!ok) {
+                    errors++;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void addAll(Latencies other) {
+            for (int i = 0; i < other.size; i++) {
+                record(other.nanos[i], true);
+            }
+            errors += other.errors;
+        }
+
+        long count() {
+            return size;
+        }
+
+        long errors() {
+            return errors;
+        }
+
+        double percentile(double percentile) {
+            if (size == 0) {
+                return 0;
+            }
+            long[] sorted = Arrays.copyOf(nanos, size);
+            Arrays.sort(sorted);
+            int index = (int) Math.min(size - 1, Math.ceil(percentile / 100 * size) - 1);
+            return sorted[Math.max(0, index)] / 1_000_000d;
+        }
+    }
+}
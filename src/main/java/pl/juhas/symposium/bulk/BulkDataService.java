@@ -0,0 +1,210 @@
+package pl.juhas.symposium.bulk;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import pl.juhas.symposium.dto.BulkImportResultDTO;
+import pl.juhas.symposium.event.BulkImportCompletedEvent;
+import pl.juhas.symposium.exception.InvalidBulkDataException;
+
+import java.io.*;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * Moves whole tables in and out through PostgreSQL's {@code COPY} protocol instead of JPA. Imports
+ * stream the request body into a temporary staging table and merge it into the real table in the
+ * same transaction; exports stream {@code COPY ... TO STDOUT} straight into the response. Progress
+ * is logged every {@value #PROGRESS_EVERY_MIB} MiB and counted in {@code symposium.bulk.bytes}.
+ * <p>
+ * The merge statement also writes the {@code outbox_event} rows of the rows it inserted or updated,
+ * so outbox consumers see imported changes like any other; in-process listeners only get the
+ * {@link BulkImportCompletedEvent}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkDataService {
+
+    private static final int PROGRESS_EVERY_MIB = 16;
+
+    private static final String MERGE_SQL = """
+            WITH merged AS (%s),
+            recorded AS (
+                INSERT INTO outbox_event (id, aggregate_type, aggregate_id, event_type, payload, created_at, attempts)
+                SELECT nextval('outbox_event_seq'), aggregate_type, aggregate_id, event_type, payload, localtimestamp, 0
+                FROM (%s) changes
+                ORDER BY aggregate_id)
+            SELECT count(*) FILTER (WHERE inserted), count(*) FILTER (WHERE NOT inserted) FROM merged
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ApplicationEventPublisher publisher;
+    private final MeterRegistry meterRegistry;
+
+    public BulkImportResultDTO importRows(BulkTable table, BulkFormat format, InputStream in) {
+        long started = System.nanoTime();
+        long[] counts = transactionTemplate.execute(status -> jdbcTemplate.execute((ConnectionCallback<long[]>) connection -> {
+            try {
+                return stageAndMerge(connection, table, format, in);
+            } catch (SQLException e) {
+                // Class 22 is malformed data, class 23 a violated constraint; both are the client's fault
+                if (e.getSQLState() != null && (e.getSQLState().startsWith("22") || e.getSQLState().startsWith("23"))) {
+                    throw new InvalidBulkDataException(table.table(), e);
+                }
+                throw e;
+            }
+        }));
+        long staged = counts[0], inserted = counts[1], updated = counts[2];
+
+        // The rows were written behind Hibernate's back, so nothing it has cached can be trusted
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        publisher.publishEvent(new BulkImportCompletedEvent(Set.of(table)));
+
+        long elapsedNanos = System.nanoTime() - started;
+        double rowsPerSecond = elapsedNanos == 0 ? 0 : staged * 1_000_000_000d / elapsedNanos;
+        log.info("Imported {} {} rows in {} ms ({} inserted, {} updated, {} rows/s)", staged, table.table(),
+                elapsedNanos / 1_000_000, inserted, updated, Math.round(rowsPerSecond));
+        return new BulkImportResultDTO(table, staged, inserted, updated, staged - inserted - updated,
+                elapsedNanos / 1_000_000, rowsPerSecond);
+    }
+
+    public long export(BulkTable table, BulkFormat format, OutputStream out) {
+        long exported = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            ProgressOutputStream progress = new ProgressOutputStream(out, progress(table, "export"));
+            try {
+                long rows = copyManager(connection).copyOut(
+                        "COPY " + table.exportSource() + " TO STDOUT WITH " + format.copyOptions(), progress);
+                progress.flush();
+                return rows;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        log.info("Exported {} {} rows as {}", exported, table.table(), format);
+        return exported;
+    }
+
+    private long[] stageAndMerge(Connection connection, BulkTable table, BulkFormat format, InputStream in)
+            throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TEMP TABLE " + table.stagingTable() + " ON COMMIT DROP AS SELECT "
+                    + table.readableColumns() + " FROM " + table.table() + " WITH NO DATA");
+        }
+        long staged;
+        try {
+            staged = copyManager(connection).copyIn("COPY " + table.stagingTable() + " (" + table.columns()
+                    + ") FROM STDIN WITH " + format.copyOptions(), new ProgressInputStream(in, progress(table, "import")));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet merged = statement.executeQuery(MERGE_SQL.formatted(table.merge(), table.outbox()))) {
+            merged.next();
+            return new long[]{staged, merged.getLong(1), merged.getLong(2)};
+        }
+    }
+
+    private static CopyManager copyManager(Connection connection) throws SQLException {
+        return connection.unwrap(PGConnection.class).getCopyAPI();
+    }
+
+    private Progress progress(BulkTable table, String direction) {
+        Counter bytes = Counter.builder("symposium.bulk.bytes")
+                .description("Bytes moved through COPY")
+                .baseUnit("bytes")
+                .tag("table", table.table())
+                .tag("direction", direction)
+                .register(meterRegistry);
+        return new Progress(table.table() + " " + direction, bytes);
+    }
+
+    private static final class Progress {
+
+        private final String operation;
+        private final Counter counter;
+        private final long started = System.nanoTime();
+        private long bytes;
+        private long nextReport = (long) PROGRESS_EVERY_MIB << 20;
+
+        Progress(String operation, Counter counter) {
+            this.operation = operation;
+            this.counter = counter;
+        }
+
+        void advance(int count) {
+            if (count <= 0) {
+                return;
+            }
+            bytes += count;
+            counter.increment(count);
+            if (bytes >= nextReport) {
+                nextReport += (long) PROGRESS_EVERY_MIB << 20;
+                long elapsedMillis = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+                log.info("Bulk {}: {} MiB copied in {} ms ({} MiB/s)", operation, bytes >> 20, elapsedMillis,
+                        Math.round((bytes >> 20) * 1000d / elapsedMillis));
+            }
+        }
+    }
+
+    private static final class ProgressInputStream extends FilterInputStream {
+
+        private final Progress progress;
+
+        ProgressInputStream(InputStream in, Progress progress) {
+            super(in);
+            this.progress = progress;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            progress.advance(value < 0 ? 0 : 1);
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            progress.advance(read);
+            return read;
+        }
+    }
+
+    private static final class ProgressOutputStream extends FilterOutputStream {
+
+        private final Progress progress;
+
+        ProgressOutputStream(OutputStream out, Progress progress) {
+            super(out);
+            this.progress = progress;
+        }
+
+        @Override
+        public void write(int value) throws IOException {
+            out.write(value);
+            progress.advance(1);
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) throws IOException {
+            out.write(buffer, offset, length);
+            progress.advance(length);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package pl.juhas.symposium.bulk;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Wire formats of PostgreSQL {@code COPY}. CSV carries a header row; binary is PostgreSQL's own
+ * format and is only meant to be read back by another {@code COPY}.
+ */
+public enum BulkFormat {
+    CSV("text/csv", "(FORMAT csv, HEADER true)"),
+    BINARY("application/octet-stream", "(FORMAT binary)");
+
+    private final MediaType mediaType;
+    private final String copyOptions;
+
+    BulkFormat(String mediaType, String copyOptions) {
+        this.mediaType = MediaType.parseMediaType(mediaType);
+        this.copyOptions = copyOptions;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    String copyOptions() {
+        return copyOptions;
+    }
+
+    public static BulkFormat of(MediaType mediaType) {
+        for (BulkFormat format : values()) {
+            if (format.mediaType.isCompatibleWith(mediaType)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported bulk format: " + mediaType);
+    }
+}
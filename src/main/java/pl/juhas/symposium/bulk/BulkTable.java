@@ -0,0 +1,170 @@
+package pl.juhas.symposium.bulk;
+
+import pl.juhas.symposium.enums.AggregateType;
+import pl.juhas.symposium.enums.Country;
+import pl.juhas.symposium.enums.EnumCodes;
+import pl.juhas.symposium.enums.Role;
+import pl.juhas.symposium.event.*;
+import pl.juhas.symposium.model.Presentation;
+
+/**
+ * Tables that can be copied in and out in bulk. Imports are copied into a temporary staging table
+ * with the same columns and merged from there; each merge returns one {@code inserted} flag per
+ * written row, so rows it leaves untouched are reported as skipped. Columns stored as codes are
+ * staged and exported in their readable form.
+ * <p>
+ * The merge also returns what the written rows hold, from which {@link #outbox()} builds the change
+ * events the entity listeners would have recorded for the same writes, in the payload format
+ * {@link pl.juhas.symposium.outbox.OutboxRecorder} writes.
+ */
+public enum BulkTable {
+
+    /**
+     * Upserted on {@code email}; when a file repeats an email its last row wins. Staged ids are
+     * ignored and new participants get ids from the entity sequence. Roles and countries are
+     * written as {@link Role} and {@link Country} names and stored as their codes.
+     */
+    PARTICIPANT("participant", "id, first_name, last_name, email, role, country",
+            "id, first_name, last_name, email, %s AS role, %s AS country".formatted(
+                    EnumCodes.nameSql(Role.class, "role"), EnumCodes.nameSql(Country.class, "country")), """
+            INSERT INTO participant (id, first_name, last_name, email, role, country)
+            SELECT nextval('participant_seq'), first_name, last_name, email, %1$s, %2$s
+            FROM (SELECT DISTINCT ON (email) first_name, last_name, email, role, country
+                  FROM participant_stage
+                  WHERE email IS NOT NULL
+                  ORDER BY email, ctid DESC) latest
+            UNION ALL
+            SELECT nextval('participant_seq'), first_name, last_name, email, %1$s, %2$s
+            FROM participant_stage
+            WHERE email IS NULL
+            ON CONFLICT (email) DO UPDATE
+                SET first_name = excluded.first_name, last_name = excluded.last_name,
+                    role = excluded.role, country = excluded.country
+                WHERE (participant.first_name, participant.last_name, participant.role, participant.country)
+                      IS DISTINCT FROM (excluded.first_name, excluded.last_name, excluded.role, excluded.country)
+            RETURNING xmax = 0 AS inserted, id, first_name, last_name, email, role, country
+            """.formatted(EnumCodes.codeSql(Role.class, "role"), EnumCodes.codeSql(Country.class, "country")), """
+            SELECT '%s' AS aggregate_type, id AS aggregate_id, '%s' AS event_type,
+                   jsonb_build_object('type', CASE WHEN inserted THEN 'CREATED' ELSE 'UPDATED' END,
+                                      'participantId', id, 'firstName', first_name, 'lastName', last_name,
+                                      'email', email, 'role', %s, 'country', %s) AS payload
+            FROM merged
+            """.formatted(AggregateType.PARTICIPANT, ParticipantChangedEvent.class.getSimpleName(),
+                    EnumCodes.nameSql(Role.class, "role"), EnumCodes.nameSql(Country.class, "country"))),
+
+    /**
+     * Inserts topics whose name is not taken yet; staged ids are ignored.
+     */
+    TOPIC("topic", "id, name", """
+            INSERT INTO topic (id, name)
+            SELECT nextval('topic_seq'), name
+            FROM (SELECT DISTINCT name FROM topic_stage) names
+            ON CONFLICT (name) DO NOTHING
+            RETURNING xmax = 0 AS inserted, id, name
+            """, """
+            SELECT '%s' AS aggregate_type, id AS aggregate_id, '%s' AS event_type,
+                   jsonb_build_object('type', 'CREATED', 'topicId', id, 'name', name) AS payload
+            FROM merged
+            """.formatted(AggregateType.TOPIC, TopicChangedEvent.class.getSimpleName())),
+
+    /**
+     * Upserted on {@code topic_id}, since a topic is presented at most once. Rows without a topic
+     * are skipped and a missing duration falls back to {@link Presentation#DEFAULT_DURATION}.
+     */
+    PRESENTATION("presentation", "id, topic_id, conference_hall_id, start_time, duration_minutes", """
+            INSERT INTO presentation (id, topic_id, conference_hall_id, start_time, duration_minutes)
+            SELECT nextval('presentation_seq'), topic_id, conference_hall_id, start_time,
+                   coalesce(duration_minutes, %d)
+            FROM (SELECT DISTINCT ON (topic_id) topic_id, conference_hall_id, start_time, duration_minutes
+                  FROM presentation_stage
+                  WHERE topic_id IS NOT NULL
+                  ORDER BY topic_id, ctid DESC) latest
+            ON CONFLICT (topic_id) DO UPDATE
+                SET conference_hall_id = excluded.conference_hall_id, start_time = excluded.start_time,
+                    duration_minutes = excluded.duration_minutes, version = presentation.version + 1
+                WHERE (presentation.conference_hall_id, presentation.start_time, presentation.duration_minutes)
+                      IS DISTINCT FROM (excluded.conference_hall_id, excluded.start_time, excluded.duration_minutes)
+            RETURNING xmax = 0 AS inserted, id, topic_id, conference_hall_id, start_time, duration_minutes
+            """.formatted(Presentation.DEFAULT_DURATION.toMinutes()), """
+            SELECT '%s' AS aggregate_type, id AS aggregate_id, '%s' AS event_type,
+                   jsonb_build_object('type', CASE WHEN inserted THEN 'CREATED' ELSE 'UPDATED' END,
+                                      'presentationId', id, 'topicId', topic_id, 'conferenceHallId', conference_hall_id,
+                                      'startTime', start_time, 'durationMinutes', duration_minutes) AS payload
+            FROM merged
+            """.formatted(AggregateType.PRESENTATION, PresentationChangedEvent.class.getSimpleName())),
+
+    /**
+     * Adds attendees to presentations; enrollments that already exist are skipped. Each presentation
+     * that gained attendees gets one {@link AttendanceChangedEvent}.
+     */
+    PRESENTATION_PARTICIPANTS("presentation_participants", "presentation_id, participant_id", """
+            INSERT INTO presentation_participants (presentation_id, participant_id)
+            SELECT presentation_id, participant_id FROM presentation_participants_stage
+            ON CONFLICT DO NOTHING
+            RETURNING xmax = 0 AS inserted, presentation_id, participant_id
+            """, """
+            SELECT '%s' AS aggregate_type, presentation_id AS aggregate_id, '%s' AS event_type,
+                   jsonb_build_object('presentationId', presentation_id,
+                                      'joined', jsonb_agg(participant_id ORDER BY participant_id),
+                                      'left', '[]'::jsonb) AS payload
+            FROM merged
+            GROUP BY presentation_id
+            """.formatted(AggregateType.PRESENTATION, AttendanceChangedEvent.class.getSimpleName()));
+
+    private final String table;
+    private final String columns;
+    private final String readableColumns;
+    private final String merge;
+    private final String outbox;
+
+    BulkTable(String table, String columns, String merge, String outbox) {
+        this(table, columns, columns, merge, outbox);
+    }
+
+    BulkTable(String table, String columns, String readableColumns, String merge, String outbox) {
+        this.table = table;
+        this.columns = columns;
+        this.readableColumns = readableColumns;
+        this.merge = merge;
+        this.outbox = outbox;
+    }
+
+    public String table() {
+        return table;
+    }
+
+    String stagingTable() {
+        return table + "_stage";
+    }
+
+    String columns() {
+        return columns;
+    }
+
+    /**
+     * Select list producing {@link #columns()} the way they appear in files.
+     */
+    String readableColumns() {
+        return readableColumns;
+    }
+
+    /**
+     * What {@code COPY ... TO STDOUT} reads from: the table itself unless some columns need decoding.
+     */
+    String exportSource() {
+        return columns.equals(readableColumns) ? table + " (" + columns + ")"
+                : "(SELECT " + readableColumns + " FROM " + table + ")";
+    }
+
+    String merge() {
+        return merge;
+    }
+
+    /**
+     * Select over the rows returned by {@link #merge()}, available as {@code merged}, yielding the
+     * {@code aggregate_type}, {@code aggregate_id}, {@code event_type} and {@code payload} of their
+     * outbox rows.
+     */
+    String outbox() {
+        return outbox;
+    }}
@@ -0,0 +1,476 @@
+package pl.juhas.symposium.bulk;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import pl.juhas.symposium.dto.SyntheticDataRequestDTO;
+import pl.juhas.symposium.dto.SyntheticDataResultDTO;
+import pl.juhas.symposium.enums.AggregateType;
+import pl.juhas.symposium.enums.Country;
+import pl.juhas.symposium.enums.Role;
+import pl.juhas.symposium.event.BulkCreatedEvent;
+import pl.juhas.symposium.event.BulkImportCompletedEvent;
+import pl.juhas.symposium.exception.InvalidGenerationRequestException;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Generates a complete congress (hotels, halls, participants, topics with presenter sets, a
+ * conflict-free schedule and a heavy-tailed attendance graph) and writes it with {@code COPY}.
+ * <p>
+ * Every row is a pure function of the seed and its index: rows are produced in fixed-size chunks,
+ * each with its own random generator, so the data set is identical whatever the parallelism. Ids are
+ * reserved up front by advancing the entity sequences, which lets chunks be copied concurrently on
+ * separate connections. Chunks commit independently and secondary indexes and foreign keys may be
+ * dropped for the duration of the load, so the generator is meant for scratch databases and should
+ * not run next to other writers. Instead of an outbox row per generated row, each generated id range
+ * of participants, topics and presentations is recorded as one {@link BulkCreatedEvent}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SyntheticDataGenerator {
+
+    private static final int CHUNK_ROWS = 25_000;
+    private static final int FLUSH_BYTES = 1 << 16;
+    private static final int SLOTS_PER_DAY = 8;
+    private static final int FIRST_SLOT_HOUR = 9;
+    private static final int[] DURATIONS = {30, 45, 60};
+    private static final int MAX_ATTENDEES_FACTOR = 20;
+    private static final long STRIDE_PRIME = 1_000_003;
+    private static final String INDEX_BUILD_MEMORY = "256MB";
+    private static final Map<String, String> PRESENTER_SLOT_TRIGGERS = Map.of(
+            "trg_presentation_presenter_slots_insert", "presentation",
+            "trg_topic_presenters_presenter_slots", "topic_presenters");
+    private static final String PRESENTER_SLOTS_SQL = """
+            INSERT INTO presenter_slot (presentation_id, participant_id, slot)
+            SELECT p.id, tp.participant_id, tsrange(p.start_time, p.start_time + p.duration_minutes * interval '1 minute')
+            FROM presentation p
+            JOIN topic_presenters tp ON tp.topic_id = p.topic_id
+            WHERE p.id >= %d
+            """;
+
+    private static final String[] FIRST_NAMES = {"Anna", "Piotr", "Maria", "Jan", "Katarzyna", "Tomasz", "Olga",
+            "Marek", "Sophie", "Lukas", "Emma", "Noah", "Chloe", "Mateo", "Giulia", "Luca", "Lucia", "Hugo", "Yuki",
+            "Haruto", "Wei", "Mei", "Aarav", "Priya", "Thabo", "Naledi", "Oksana", "Taras", "Olivia", "James"};
+    private static final String[] LAST_NAMES = {"Nowak", "Kowalski", "Wisniewska", "Muller", "Schmidt", "Martin",
+            "Bernard", "Rossi", "Russo", "Garcia", "Fernandez", "Smith", "Brown", "Wilson", "Taylor", "Silva",
+            "Santos", "Gonzalez", "Sato", "Suzuki", "Wang", "Li", "Sharma", "Patel", "Nkosi", "Dlamini", "Shevchenko",
+            "Bondarenko", "Tremblay", "Roy"};
+    private static final String[] DOMAINS = {"example.com", "example.org", "uni.example.edu", "clinic.example.net"};
+    private static final String[] TOPIC_FORMATS = {"Advances in", "Case studies in", "The future of", "Pitfalls of",
+            "Open problems in", "A practical guide to", "Controversies in", "Workshop on"};
+    private static final String[] FIELDS = {"cardiology", "oncology", "neurology", "immunology", "genomics",
+            "pediatrics", "radiology", "epidemiology", "pharmacology", "medical imaging", "bioinformatics",
+            "public health", "surgery", "psychiatry", "telemedicine", "clinical trials"};
+
+    private static final Map<Role, Double> DEFAULT_ROLE_WEIGHTS = Map.of(Role.STUDENT, 0.6, Role.DOCTOR, 0.3,
+            Role.ORGANIZER, 0.1);
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ApplicationEventPublisher publisher;
+
+    @Value("${symposium.synthetic.parallelism:0}")
+    private int parallelism;
+
+    public SyntheticDataResultDTO generate(SyntheticDataRequestDTO request) {
+        Spec spec = Spec.of(request);
+        long started = System.nanoTime();
+        Ids ids = new Ids(
+                reserve("participant_seq", spec.participants()),
+                reserve("hotel_seq", spec.hotels()),
+                reserve("conference_hall_seq", spec.halls()),
+                reserve("topic_seq", spec.topics()),
+                reserve("presentation_seq", spec.topics()));
+
+        Map<String, Long> plannedRows = new LinkedHashMap<>();
+        plannedRows.put("participant", (long) spec.participants());
+        plannedRows.put("topic", (long) spec.topics());
+        plannedRows.put("conference_hall", (long) spec.halls());
+        plannedRows.put("topic_presenters", (long) spec.topics());
+        plannedRows.put("presentation", (long) spec.topics());
+        plannedRows.put("presentation_participants", (long) spec.topics() * spec.meanAttendees());
+        List<String> restore = deferPresenterSlots(ids.presentation());
+        restore.addAll(deferIndexesAndForeignKeys(plannedRows));
+
+        long participants, hotels, halls, topics, presenters, presentations, attendances;
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            // Tables are copied in foreign key order; the chunks of one phase run in parallel
+            long[] counts = await(List.of(
+                    copyChunks(executor, spec, "participant", "id, first_name, last_name, email, role, country",
+                            spec.participants(), (i, random, out) -> participant(spec, ids, i, random, out)),
+                    copyChunks(executor, spec, "hotel", "id, name, address",
+                            spec.hotels(), (i, random, out) -> hotel(ids, i, random, out)),
+                    copyChunks(executor, spec, "topic", "id, name",
+                            spec.topics(), (i, random, out) -> topic(ids, i, random, out))));
+            participants = counts[0];
+            hotels = counts[1];
+            topics = counts[2];
+
+            halls = await(List.of(copyChunks(executor, spec, "conference_hall", "id, name, hotel_id",
+                    spec.halls(), (i, random, out) -> hall(spec, ids, i, out))))[0];
+
+            counts = await(List.of(
+                    copyChunks(executor, spec, "topic_presenters", "topic_id, participant_id",
+                            spec.topics(), (i, random, out) -> presenters(spec, ids, i, random, out)),
+                    copyChunks(executor, spec, "presentation", "id, topic_id, conference_hall_id, start_time, duration_minutes",
+                            spec.topics(), (i, random, out) -> presentation(spec, ids, i, random, out))));
+            presenters = counts[0];
+            presentations = counts[1];
+
+            attendances = await(List.of(copyChunks(executor, spec, "presentation_participants", "presentation_id, participant_id",
+                    spec.topics(), (i, random, out) -> attendees(spec, ids, i, random, out))))[0];
+        } finally {
+            restore(restore);
+        }
+        jdbcTemplate.execute("ANALYZE participant, hotel, conference_hall, topic, topic_presenters, presentation, presentation_participants");
+
+        long elapsedNanos = System.nanoTime() - started;
+        long rows = participants + hotels + halls + topics + presenters + presentations + attendances;
+        double rowsPerSecond = elapsedNanos == 0 ? 0 : rows * 1_000_000_000d / elapsedNanos;
+        log.info("Generated {} rows with seed {} in {} ms ({} rows/s): {} participants, {} halls, {} presentations, {} attendances",
+                rows, spec.seed(), elapsedNanos / 1_000_000, Math.round(rowsPerSecond), participants, halls,
+                presentations, attendances);
+
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        publisher.publishEvent(new BulkCreatedEvent(AggregateType.PARTICIPANT, ids.participant(),
+                ids.participant() + participants - 1));
+        publisher.publishEvent(new BulkCreatedEvent(AggregateType.TOPIC, ids.topic(), ids.topic() + topics - 1));
+        publisher.publishEvent(new BulkCreatedEvent(AggregateType.PRESENTATION, ids.presentation(),
+                ids.presentation() + presentations - 1));
+        publisher.publishEvent(new BulkImportCompletedEvent(EnumSet.allOf(BulkTable.class)));
+        return new SyntheticDataResultDTO(spec.seed(), participants, hotels, halls, topics, presenters, presentations,
+                attendances, elapsedNanos / 1_000_000, rowsPerSecond);
+    }
+
+    private static void participant(Spec spec, Ids ids, int i, SplittableRandom random, StringBuilder out) {
+        long id = ids.participant() + i;
+        String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        out.append(id).append('\t').append(first).append('\t').append(last).append('\t')
+                .append(first.toLowerCase(Locale.ROOT)).append('.').append(last.toLowerCase(Locale.ROOT)).append('.')
+                .append(id).append('@').append(DOMAINS[random.nextInt(DOMAINS.length)]).append('\t')
+                .append(spec.roles().next(random).code()).append('\t')
+                .append(spec.countries().next(random).code()).append('\n');
+    }
+
+    private static void hotel(Ids ids, int i, SplittableRandom random, StringBuilder out) {
+        out.append(ids.hotel() + i).append('\t').append("Congress Hotel ").append(i + 1).append('\t')
+                .append(1 + random.nextInt(200)).append(" Conference Avenue\n");
+    }
+
+    private static void hall(Spec spec, Ids ids, int i, StringBuilder out) {
+        out.append(ids.hall() + i).append('\t').append("Hall ").append((char) ('A' + i % spec.hallsPerHotel() % 26))
+                .append(i % spec.hallsPerHotel() / 26 + 1).append('\t')
+                .append(ids.hotel() + i / spec.hallsPerHotel()).append('\n');
+    }
+
+    private static void topic(Ids ids, int i, SplittableRandom random, StringBuilder out) {
+        long id = ids.topic() + i;
+        out.append(id).append('\t').append(TOPIC_FORMATS[random.nextInt(TOPIC_FORMATS.length)]).append(' ')
+                .append(FIELDS[random.nextInt(FIELDS.length)]).append(" #").append(id).append('\n');
+    }
+
+    /**
+     * Topic {@code i} is presented in hall {@code i % halls}; its presenters are drawn only from the
+     * pool members assigned to that hall, so no presenter is ever in two halls during one slot.
+     */
+    private static void presenters(Spec spec, Ids ids, int i, SplittableRandom random, StringBuilder out) {
+        int hall = i % spec.halls();
+        int eligible = (spec.presenterPool() - hall + spec.halls() - 1) / spec.halls();
+        int count = Math.min(eligible, 1 + random.nextInt(spec.maxPresentersPerTopic()));
+        int[] chosen = new int[count];
+        for (int c = 0; c < count; c++) {
+            int pick;
+            do {
+                pick = random.nextInt(eligible);
+            } while (contains(chosen, c, pick));
+            chosen[c] = pick;
+            out.append(ids.topic() + i).append('\t')
+                    .append(ids.participant() + hall + (long) pick * spec.halls()).append('\n');
+        }
+    }
+
+    private static void presentation(Spec spec, Ids ids, int i, SplittableRandom random, StringBuilder out) {
+        int slot = i / spec.halls();
+        LocalDateTime start = spec.firstDay().atTime(FIRST_SLOT_HOUR, 0)
+                .plusDays(slot / SLOTS_PER_DAY)
+                .plusHours(slot % SLOTS_PER_DAY);
+        out.append(ids.presentation() + i).append('\t').append(ids.topic() + i).append('\t')
+                .append(ids.hall() + i % spec.halls()).append('\t').append(start).append('\t')
+                .append(DURATIONS[random.nextInt(DURATIONS.length)]).append('\n');
+    }
+
+    /**
+     * Attendance follows a Pareto distribution (alpha 2) around the requested mean, capped at
+     * {@value #MAX_ATTENDEES_FACTOR} times the mean. Attendees are a stride walk over all
+     * participants, which never repeats because the stride is coprime with their count.
+     */
+    private static void attendees(Spec spec, Ids ids, int i, SplittableRandom random, StringBuilder out) {
+        double pareto = 0.5 / Math.sqrt(1 - random.nextDouble());
+        int count = (int) Math.min(spec.participants(),
+                Math.min((long) spec.meanAttendees() * MAX_ATTENDEES_FACTOR, Math.round(spec.meanAttendees() * pareto)));
+        long position = random.nextInt(spec.participants());
+        for (int a = 0; a < count; a++) {
+            out.append(ids.presentation() + i).append('\t').append(ids.participant() + position).append('\n');
+            position = (position + spec.stride()) % spec.participants();
+        }
+    }
+
+    private static boolean contains(int[] values, int length, int value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Drops the foreign keys and non-unique indexes of every table that will at least double in size
+     * and returns the statements that recreate them. Checking a foreign key row by row costs several
+     * times more than validating it once afterwards, and building an index in one pass beats
+     * maintaining it through millions of inserts; unique and exclusion indexes stay, since they guard
+     * the data.
+     */
+    private List<String> deferIndexesAndForeignKeys(Map<String, Long> plannedRows) {
+        List<String> indexes = new ArrayList<>();
+        List<String> foreignKeys = new ArrayList<>();
+        for (Map.Entry<String, Long> planned : plannedRows.entrySet()) {
+            String table = planned.getKey();
+            Double existingRows = jdbcTemplate.queryForObject(
+                    "SELECT greatest(reltuples, 0) FROM pg_class WHERE oid = ?::regclass", Double.class, table);
+            if (existingRows >= planned.getValue()) {
+                continue;
+            }
+            for (Map<String, Object> index : jdbcTemplate.queryForList("""
+                    SELECT indexrelid::regclass::text AS name, pg_get_indexdef(indexrelid) AS definition
+                    FROM pg_index WHERE indrelid = ?::regclass AND NOT indisunique AND NOT indisexclusion
+                    """, table)) {
+                jdbcTemplate.execute("DROP INDEX " + index.get("name"));
+                indexes.add((String) index.get("definition"));
+            }
+            for (Map<String, Object> foreignKey : jdbcTemplate.queryForList("""
+                    SELECT quote_ident(conname) AS name, pg_get_constraintdef(oid) AS definition
+                    FROM pg_constraint WHERE conrelid = ?::regclass AND contype = 'f'
+                    """, table)) {
+                jdbcTemplate.execute("ALTER TABLE " + table + " DROP CONSTRAINT " + foreignKey.get("name"));
+                foreignKeys.add("ALTER TABLE " + table + " ADD CONSTRAINT " + foreignKey.get("name") + " " + foreignKey.get("definition"));
+            }
+        }
+        indexes.addAll(foreignKeys);
+        return indexes;
+    }
+
+    /**
+     * Switches off the triggers that keep {@code presenter_slot} in step with presentations and their
+     * presenters, which would lock a topic row for every copied row, and returns the statements that
+     * switch them on again and add the slots of the generated presentations in one pass.
+     */
+    private List<String> deferPresenterSlots(long firstPresentation) {
+        List<String> restore = new ArrayList<>();
+        PRESENTER_SLOT_TRIGGERS.forEach((trigger, table) -> {
+            jdbcTemplate.execute("ALTER TABLE " + table + " DISABLE TRIGGER " + trigger);
+            restore.add("ALTER TABLE " + table + " ENABLE TRIGGER " + trigger);
+        });
+        restore.add(PRESENTER_SLOTS_SQL.formatted(firstPresentation));
+        return restore;
+    }
+
+    private void restore(List<String> statements) {
+        if (statements.isEmpty()) {
+            return;
+        }
+        long started = System.nanoTime();
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET maintenance_work_mem = '" + INDEX_BUILD_MEMORY + "'");
+                try {
+                    for (String sql : statements) {
+                        statement.execute(sql);
+                    }
+                } finally {
+                    statement.execute("RESET maintenance_work_mem");
+                }
+            }
+            return null;
+        });
+        log.info("Recreated {} indexes and foreign keys in {} ms", statements.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Moves the sequence past {@code count} ids and returns the first of them. Hibernate's pooled
+     * optimizer hands out the block ending at each sequence value, so the ids it allocates next
+     * start right after the reserved range.
+     */
+    private long reserve(String sequence, long count) {
+        Long last = jdbcTemplate.queryForObject("SELECT setval(?, nextval(?) + ?)", Long.class, sequence, sequence, count);
+        return last - count + 1;
+    }
+
+    private List<Future<Long>> copyChunks(ExecutorService executor, Spec spec, String table, String columns, int rows,
+                                          RowWriter writer) {
+        String sql = "COPY " + table + " (" + columns + ") FROM STDIN";
+        long tableSeed = spec.seed() * 31 + table.hashCode();
+        List<Future<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < rows; from += CHUNK_ROWS) {
+            int chunkFrom = from, chunkTo = Math.min(rows, from + CHUNK_ROWS);
+            chunks.add(executor.submit(() -> copy(sql, writer, chunkFrom, chunkTo,
+                    new SplittableRandom(tableSeed * 1_000_003 + chunkFrom))));
+        }
+        return chunks;
+    }
+
+    private long copy(String sql, RowWriter writer, int from, int to, SplittableRandom random) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            CopyIn copy = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+            try {
+                StringBuilder buffer = new StringBuilder(FLUSH_BYTES + 1024);
+                for (int i = from; i < to; i++) {
+                    writer.write(i, random, buffer);
+                    if (buffer.length() >= FLUSH_BYTES) {
+                        write(copy, buffer);
+                    }
+                }
+                write(copy, buffer);
+                return copy.endCopy();
+            } finally {
+                if (copy.isActive()) {
+                    copy.cancelCopy();
+                }
+            }
+        }
+    }
+
+    private static void write(CopyIn copy, StringBuilder buffer) throws SQLException {
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copy.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    /**
+     * Waits for every chunk and returns the number of rows copied per table.
+     */
+    private static long[] await(List<List<Future<Long>>> tables) {
+        long[] rows = new long[tables.size()];
+        try {
+            for (int table = 0; table < rows.length; table++) {
+                for (Future<Long> chunk : tables.get(table)) {
+                    rows[table] += chunk.get();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while generating data", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Generating data failed", e.getCause());
+        }
+        return rows;
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(int index, SplittableRandom random, StringBuilder out);
+    }
+
+    private record Ids(long participant, long hotel, long hall, long topic, long presentation) {
+    }
+
+    private record Spec(long seed, int participants, int hotels, int hallsPerHotel, int topics,
+                        int maxPresentersPerTopic, int meanAttendees, Sampler<Role> roles, Sampler<Country> countries,
+                        LocalDate firstDay) {
+
+        static Spec of(SyntheticDataRequestDTO request) {
+            int participants = orDefault(request.participants(), 10_000);
+            int hotels = orDefault(request.hotels(), 2);
+            int hallsPerHotel = orDefault(request.hallsPerHotel(), 10);
+            int topics = orDefault(request.topics(), Math.max(1, participants / 50));
+            int maxPresenters = orDefault(request.maxPresentersPerTopic(), 3);
+            int meanAttendees = orDefault(request.meanAttendees(), 30);
+            if (participants < 1 || hotels < 1 || hallsPerHotel < 1 || topics < 1 || maxPresenters < 1 || meanAttendees < 0) {
+                throw new InvalidGenerationRequestException("counts must be positive");
+            }
+            if (participants < hotels * hallsPerHotel) {
+                throw new InvalidGenerationRequestException("need at least one participant per hall to present");
+            }
+            return new Spec(request.seed() == null ? System.nanoTime() : request.seed(), participants, hotels,
+                    hallsPerHotel, topics, maxPresenters, meanAttendees,
+                    Sampler.of(Role.class, request.roleWeights() == null ? DEFAULT_ROLE_WEIGHTS : request.roleWeights()),
+                    Sampler.of(Country.class, request.countryWeights() == null ? Map.of() : request.countryWeights()),
+                    request.firstDay() == null ? LocalDate.of(2025, 5, 5) : request.firstDay());
+        }
+
+        int halls() {
+            return hotels * hallsPerHotel;
+        }
+
+        /**
+         * Roughly three talks per presenter, but never fewer presenters than halls.
+         */
+        int presenterPool() {
+            return Math.min(participants, Math.max(halls(), topics * (1 + maxPresentersPerTopic) / 2 / 3));
+        }
+
+        long stride() {
+            return participants % STRIDE_PRIME == 0 ? 1 : STRIDE_PRIME % participants;
+        }
+
+        private static int orDefault(Integer value, int fallback) {
+            return value == null ? fallback : value;
+        }
+    }
+
+    /**
+     * Samples enum constants by relative weight; an empty weight map means uniform.
+     */
+    private record Sampler<E extends Enum<E>>(E[] values, double[] cumulative) {
+
+        static <E extends Enum<E>> Sampler<E> of(Class<E> type, Map<E, Double> weights) {
+            E[] values = type.getEnumConstants();
+            double[] cumulative = new double[values.length];
+            double total = 0;
+            for (int i = 0; i < values.length; i++) {
+                double weight = weights.isEmpty() ? 1 : weights.getOrDefault(values[i], 0d);
+                if (weight < 0) {
+                    throw new InvalidGenerationRequestException("negative weight for " + values[i]);
+                }
+                total += weight;
+                cumulative[i] = total;
+            }
+            if (total <= 0) {
+                throw new InvalidGenerationRequestException("no positive " + type.getSimpleName() + " weight");
+            }
+            for (int i = 0; i < cumulative.length; i++) {
+                cumulative[i] /= total;
+            }
+            return new Sampler<>(values, cumulative);
+        }
+
+        E next(SplittableRandom random) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble());
+            return values[Math.min(values.length - 1, index < 0 ? -index - 1 : index + 1)];
+        }
+    }
+}
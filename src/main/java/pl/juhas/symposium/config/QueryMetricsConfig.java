@@ -0,0 +1,92 @@
+package pl.juhas.symposium.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.logging.DefaultQueryLogEntryCreator;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Query-level instrumentation on top of the metrics Spring Boot already publishes for repository
+ * invocations ({@code spring.data.repository.invocations}) and Hibernate statistics
+ * ({@code hibernate.*}): rows returned per repository method, and a log entry with bind parameters
+ * plus a {@code symposium.db.slow.queries} count for every statement slower than
+ * {@code symposium.db.slow-query-threshold}.
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+public class QueryMetricsConfig {
+
+    @Bean
+    static BeanPostProcessor repositoryRowsMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repository) -> proxyFactory.addAdvice(new RepositoryRowsInterceptor(
+                                    repository.getRepositoryInterface().getSimpleName(), meterRegistry))));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    static BeanPostProcessor slowQueryDataSourcePostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${symposium.db.slow-query-threshold:500ms}") Duration threshold) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .afterQuery(new SlowQueryLogger(threshold, meterRegistry))
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static final class SlowQueryLogger implements ProxyDataSourceBuilder.SingleQueryExecution {
+
+        private final DefaultQueryLogEntryCreator entryCreator = new DefaultQueryLogEntryCreator();
+        private final long thresholdMillis;
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+        private Counter slowQueries;
+
+        SlowQueryLogger(Duration threshold, ObjectProvider<MeterRegistry> meterRegistry) {
+            this.thresholdMillis = threshold.toMillis();
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public void execute(ExecutionInfo execution, List<QueryInfo> queries) {
+            if (execution.getElapsedTime() < thresholdMillis) {
+                return;
+            }
+            if (slowQueries == null) {
+                slowQueries = Counter.builder("symposium.db.slow.queries")
+                        .description("Statements slower than the slow query threshold")
+                        .register(meterRegistry.getObject());
+            }
+            slowQueries.increment();
+            log.warn("Slow query: {}", entryCreator.getLogEntry(execution, queries, false, true, false));
+        }
+    }
+}
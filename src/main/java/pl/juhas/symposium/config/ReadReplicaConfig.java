@@ -0,0 +1,118 @@
+package pl.juhas.symposium.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.lang.Nullable;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Replaces the auto-configured data source once {@code symposium.datasource.replica.urls} is set:
+ * read-only transactions ({@code @Transactional(readOnly = true)} services and the read methods
+ * of Spring Data repositories) run on a replica, everything else on the primary. The physical
+ * connection is only fetched at the first statement, after the transaction manager has marked it
+ * read-only, which is what lets {@link LazyConnectionDataSourceProxy} pick the target. Reads right
+ * after a write in another transaction may not see it yet, within the configured maximum lag.
+ * <p>
+ * What a replica returns must not outlive that lag in the second-level or query cache, where it
+ * would be served until the entry expires or the next write, so read-only transactions only read
+ * from the caches. The cacheable repository queries run in read-write transactions of their own and
+ * fill the caches from the primary.
+ * <p>
+ * Pools are created here rather than as beans so that only the routing data source is exposed,
+ * and instrumented once by {@link QueryMetricsConfig}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "symposium.datasource.replica", name = "urls")
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class ReadReplicaConfig {
+
+    @Bean(destroyMethod = "close")
+    @Primary
+    DataSource dataSource(DataSourceProperties dataSourceProperties, ReplicaProperties replicaProperties,
+                          Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+        MeterRegistry registry = meterRegistry.getObject();
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+        primary.setMetricRegistry(registry);
+
+        Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < replicaProperties.urls().size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + (i + 1));
+            replica.setJdbcUrl(replicaProperties.urls().get(i));
+            replica.setUsername(replicaProperties.username() != null ? replicaProperties.username() : primary.getUsername());
+            replica.setPassword(replicaProperties.password() != null ? replicaProperties.password() : primary.getPassword());
+            replica.setMaximumPoolSize(replicaProperties.maximumPoolSize() != null
+                    ? replicaProperties.maximumPoolSize() : primary.getMaximumPoolSize());
+            replica.setMinimumIdle(Math.min(primary.getMinimumIdle(), replica.getMaximumPoolSize()));
+            replica.setConnectionTimeout(primary.getConnectionTimeout());
+            replica.setValidationTimeout(primary.getValidationTimeout());
+            replica.setReadOnly(true);
+            replica.setMetricRegistry(registry);
+            replicas.put(replica.getPoolName(), replica);
+        }
+
+        ReplicaRoutingDataSource readOnly = new ReplicaRoutingDataSource(primary, replicas, replicaProperties, registry);
+        readOnly.start();
+        return new ReadWriteDataSource(primary, readOnly);
+    }
+
+    @Bean
+    TransactionExecutionListener readOnlyCacheModeListener(EntityManagerFactory entityManagerFactory) {
+        return new TransactionExecutionListener() {
+            @Override
+            public void afterBegin(TransactionExecution transaction, @Nullable Throwable beginFailure) {
+                if (beginFailure != null || !transaction.isNewTransaction() || !transaction.isReadOnly()) {
+                    return;
+                }
+                EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+                if (entityManager != null) {
+                    entityManager.unwrap(Session.class).setCacheMode(CacheMode.GET);
+                }
+            }
+        };
+    }
+
+    /**
+     * Hands out the primary for read-write connections and {@link ReplicaRoutingDataSource} for
+     * read-only ones, and closes all pools with the context.
+     */
+    static final class ReadWriteDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+        private final ReplicaRoutingDataSource readOnly;
+
+        ReadWriteDataSource(DataSource primary, ReplicaRoutingDataSource readOnly) {
+            super(primary);
+            this.readOnly = readOnly;
+            setReadOnlyDataSource(readOnly);
+        }
+
+        @Override
+        public void close() {
+            readOnly.close();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package pl.juhas.symposium.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Read replicas used for read-only transactions. {@code urls} enables routing; credentials and
+ * pool size default to those of the primary. A replica whose {@code lag-query} reports more than
+ * {@code max-lag} seconds, or that cannot be queried, gets no reads until a later check passes.
+ */
+@ConfigurationProperties(prefix = "symposium.datasource.replica")
+public record ReplicaProperties(List<String> urls,
+                                String username,
+                                String password,
+                                Integer maximumPoolSize,
+                                @DefaultValue("5s") Duration maxLag,
+                                @DefaultValue("2s") Duration checkInterval,
+                                @DefaultValue(DEFAULT_LAG_QUERY) String lagQuery) {
+
+    /**
+     * Seconds since the last replayed transaction, or 0 when everything received has been
+     * replayed (an idle primary would otherwise look like growing lag) or the node is no standby.
+     */
+    public static final String DEFAULT_LAG_QUERY = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+            END""";
+}
@@ -0,0 +1,130 @@
+package pl.juhas.symposium.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Source of read-only connections: the replicas in turn, skipping those that failed their last
+ * lag check, and the primary when none is available. Lag is checked on a background thread every
+ * {@code check-interval}, so choosing a target never waits for a replica.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    static final String PRIMARY = "primary";
+
+    private final HikariDataSource primary;
+    private final Map<String, HikariDataSource> replicas;
+    private final ReplicaProperties properties;
+    private final Map<String, Double> lagSeconds = new ConcurrentHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter fallbacks;
+    private final ScheduledExecutorService checker = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("replica-lag-check").daemon().factory());
+    private volatile List<String> available = List.of();
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, Map<String, HikariDataSource> replicas,
+                                    ReplicaProperties properties, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.properties = properties;
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+
+        this.fallbacks = Counter.builder("symposium.datasource.replica.fallbacks")
+                .description("Read-only connections served by the primary because no replica was available")
+                .register(meterRegistry);
+        replicas.keySet().forEach(name -> Gauge.builder("symposium.datasource.replica.lag", lagSeconds,
+                        lags -> lags.getOrDefault(name, Double.NaN))
+                .description("Replication lag reported by the last check; NaN when the replica could not be queried")
+                .baseUnit("seconds")
+                .tag("replica", name)
+                .register(meterRegistry));
+    }
+
+    /**
+     * Runs the first lag check before returning, then keeps checking in the background.
+     */
+    public void start() {
+        checkReplicas();
+        long interval = properties.checkInterval().toMillis();
+        checker.scheduleWithFixedDelay(this::checkReplicas, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public List<String> availableReplicas() {
+        return available;
+    }
+
+    public void checkReplicas() {
+        double maxLag = properties.maxLag().toMillis() / 1000d;
+        List<String> healthy = new ArrayList<>(replicas.size());
+        replicas.forEach((name, replica) -> {
+            boolean wasAvailable = available.contains(name);
+            try {
+                double lag = lagOf(replica);
+                lagSeconds.put(name, lag);
+                if (lag <= maxLag) {
+                    healthy.add(name);
+                    if (!wasAvailable) {
+                        log.info("Replica {} serves reads (lag {}s)", name, lag);
+                    }
+                } else if (wasAvailable) {
+                    log.warn("Replica {} excluded from reads: lag {}s exceeds {}s", name, lag, maxLag);
+                }
+            } catch (SQLException | RuntimeException e) {
+                lagSeconds.remove(name);
+                if (wasAvailable) {
+                    log.warn("Replica {} excluded from reads: lag check failed: {}", name, e.getMessage());
+                }
+            }
+        });
+        available = List.copyOf(healthy);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        List<String> candidates = available;
+        if (candidates.isEmpty()) {
+            fallbacks.increment();
+            return PRIMARY;
+        }
+        return candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size()));
+    }
+
+    @Override
+    public void close() {
+        checker.shutdownNow();
+        replicas.values().forEach(HikariDataSource::close);
+        primary.close();
+    }
+
+    private double lagOf(HikariDataSource replica) throws SQLException {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(properties.lagQuery())) {
+            if (!rs.next()) {
+                throw new SQLException("Lag query returned no rows");
+            }
+            return rs.getDouble(1);
+        }
+    }
+}
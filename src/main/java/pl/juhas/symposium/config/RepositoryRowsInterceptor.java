@@ -0,0 +1,68 @@
+package pl.juhas.symposium.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Records how many rows each repository method returned in {@code symposium.repository.rows}.
+ * Streams are counted as they are consumed and recorded when closed; saves and scalar results such
+ * as counts and flags are not recorded.
+ */
+class RepositoryRowsInterceptor implements MethodInterceptor {
+
+    static final String METRIC = "symposium.repository.rows";
+
+    private final String repository;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    RepositoryRowsInterceptor(String repository, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.repository = repository;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Object result = invocation.proceed();
+        String method = invocation.getMethod().getName();
+        if (method.startsWith("save")) {
+            return result;
+        }
+        return switch (result) {
+            case Stream<?> stream -> {
+                AtomicLong rows = new AtomicLong();
+                yield stream.peek(row -> rows.incrementAndGet()).onClose(() -> record(method, rows.get()));
+            }
+            case Collection<?> collection -> record(method, collection.size(), result);
+            case Slice<?> slice -> record(method, slice.getNumberOfElements(), result);
+            case Optional<?> optional -> record(method, optional.isPresent() ? 1 : 0, result);
+            case Number ignored -> result;
+            case Boolean ignored -> result;
+            case null -> invocation.getMethod().getReturnType() == void.class ? null : record(method, 0, null);
+            default -> record(method, 1, result);
+        };
+    }
+
+    private Object record(String method, long rows, Object result) {
+        record(method, rows);
+        return result;
+    }
+
+    private void record(String method, long rows) {
+        DistributionSummary.builder(METRIC)
+                .description("Rows returned by a repository method")
+                .baseUnit("rows")
+                .tag("repository", repository)
+                .tag("method", method)
+                .register(meterRegistry.getObject())
+                .record(rows);
+    }
+}
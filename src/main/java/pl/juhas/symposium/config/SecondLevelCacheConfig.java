@@ -0,0 +1,61 @@
+package pl.juhas.symposium.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Creates the Caffeine-backed JCache regions used by Hibernate's second-level cache. Every region
+ * is declared up front so that none of them falls back to an unbounded default configuration.
+ */
+@Configuration
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+public class SecondLevelCacheConfig {
+
+    public static final String HOTEL_REGION = "hotel";
+    public static final String CONFERENCE_HALL_REGION = "conference-hall";
+    public static final String TOPIC_REGION = "topic";
+
+    private static final List<String> BOUNDED_REGIONS = List.of(HOTEL_REGION, CONFERENCE_HALL_REGION, TOPIC_REGION,
+            RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME);
+
+    @Bean(destroyMethod = "close")
+    CacheManager secondLevelCacheManager(SecondLevelCacheProperties properties) {
+        // One manager per application context; the provider's default manager is shared JVM-wide,
+        // so a second context (e.g. another test configuration) would find its regions already created
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("symposium:second-level-cache:" + Integer.toHexString(System.identityHashCode(this))),
+                provider.getDefaultClassLoader());
+        for (String region : BOUNDED_REGIONS) {
+            SecondLevelCacheProperties.Region settings = properties.forRegion(region);
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(settings.maximumSize()));
+            configuration.setExpireAfterWrite(OptionalLong.of(settings.timeToLive().toNanos()));
+            configuration.setStatisticsEnabled(true);
+            cacheManager.createCache(region, configuration);
+        }
+        // Update timestamps must outlive every cached query result, so this region is never evicted
+        CaffeineConfiguration<Object, Object> timestamps = new CaffeineConfiguration<>();
+        timestamps.setStatisticsEnabled(true);
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, timestamps);
+        return cacheManager;
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer secondLevelCacheManagerCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+}
@@ -0,0 +1,27 @@
+package pl.juhas.symposium.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Size and time-to-live of the Hibernate second-level cache regions. {@code regions.<name>}
+ * overrides the defaults for a single region.
+ */
+@ConfigurationProperties(prefix = "symposium.cache")
+public record SecondLevelCacheProperties(@DefaultValue("10000") long maximumSize,
+                                         @DefaultValue("10m") Duration timeToLive,
+                                         Map<String, Region> regions) {
+
+    public Region forRegion(String name) {
+        Region override = regions == null ? null : regions.get(name);
+        return new Region(
+                override != null && override.maximumSize() != null ? override.maximumSize() : maximumSize,
+                override != null && override.timeToLive() != null ? override.timeToLive() : timeToLive);
+    }
+
+    public record Region(Long maximumSize, Duration timeToLive) {
+    }
+}
@@ -0,0 +1,49 @@
+package pl.juhas.symposium.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import pl.juhas.symposium.bulk.BulkFormat;
+import pl.juhas.symposium.bulk.BulkTable;
+import pl.juhas.symposium.bulk.SyntheticDataGenerator;
+import pl.juhas.symposium.dto.BulkImportResultDTO;
+import pl.juhas.symposium.dto.SyntheticDataRequestDTO;
+import pl.juhas.symposium.dto.SyntheticDataResultDTO;
+import pl.juhas.symposium.bulk.BulkDataService;
+
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api/bulk")
+@RequiredArgsConstructor
+public class BulkDataController {
+
+    private final BulkDataService bulkDataService;
+    private final SyntheticDataGenerator syntheticDataGenerator;
+
+    @GetMapping("/{table}")
+    public ResponseEntity<StreamingResponseBody> export(@PathVariable BulkTable table,
+                                                        @RequestParam(defaultValue = "CSV") BulkFormat format) {
+        StreamingResponseBody body = out -> bulkDataService.export(table, format, out);
+        String extension = format == BulkFormat.CSV ? "csv" : "bin";
+        return ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + table.table() + "." + extension + "\"")
+                .body(body);
+    }
+
+    @PostMapping(path = "/{table}", consumes = {"text/csv", "application/octet-stream"})
+    public BulkImportResultDTO importRows(@PathVariable BulkTable table,
+                                          @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                          InputStream body) {
+        return bulkDataService.importRows(table, BulkFormat.of(contentType), body);
+    }
+
+    @PostMapping("/synthetic")
+    public SyntheticDataResultDTO generate(@RequestBody SyntheticDataRequestDTO request) {
+        return syntheticDataGenerator.generate(request);
+    }
+}
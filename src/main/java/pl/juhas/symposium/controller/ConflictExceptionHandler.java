@@ -0,0 +1,88 @@
+package pl.juhas.symposium.controller;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import pl.juhas.symposium.enums.EditConflictReason;
+import pl.juhas.symposium.exception.EditConflictException;
+
+import java.sql.SQLException;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Answers edits that clash with the current state with 409 and a problem detail whose
+ * {@code reason} tells the client what to do: reload and retry ({@code STALE_VERSION},
+ * {@code CONCURRENT_UPDATES}) or pick another slot ({@code SCHEDULE_CONFLICT}, {@code CONSTRAINT}).
+ * Only violations of the schedule's own constraints are answered with {@code CONSTRAINT}; any other
+ * integrity violation is left to the default handling.
+ */
+@RestControllerAdvice
+public class ConflictExceptionHandler {
+
+    private static final Set<String> SCHEDULE_CONSTRAINTS = Set.of("uk_presentation_hall_start", "uk_presentation_topic",
+            "ex_presentation_hall_overlap", "ex_presenter_slot_overlap");
+    private static final Pattern CONSTRAINT_NAME = Pattern.compile("constraint \"([^\"]+)\"");
+
+    @ExceptionHandler(EditConflictException.class)
+    public ResponseEntity<ProblemDetail> editConflict(EditConflictException exception) {
+        ProblemDetail problem = problem(exception.getReason(), exception.getMessage());
+        problem.setProperty("entity", exception.getEntity());
+        problem.setProperty("id", exception.getId());
+        if (exception.getExpectedVersion() != null) {
+            problem.setProperty("expectedVersion", exception.getExpectedVersion());
+        }
+        if (exception.getCurrentVersion() != null) {
+            problem.setProperty("currentVersion", exception.getCurrentVersion());
+        }
+        if (!exception.getConflicts().isEmpty()) {
+            problem.setProperty("conflicts", exception.getConflicts());
+        }
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(problem);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ProblemDetail> optimisticLock(OptimisticLockingFailureException exception) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(problem(EditConflictReason.CONCURRENT_UPDATES, "The record was changed concurrently, please reload"));
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ProblemDetail> constraint(DataIntegrityViolationException exception) {
+        String constraint = constraintName(exception);
+        if (constraint == null || !SCHEDULE_CONSTRAINTS.contains(constraint)) {
+            throw exception;
+        }
+        ProblemDetail problem = problem(EditConflictReason.CONSTRAINT, "The change conflicts with the schedule");
+        problem.setProperty("constraint", constraint);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(problem);
+    }
+
+    private static String constraintName(DataIntegrityViolationException exception) {
+        if (exception.getCause() instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+            return violation.getConstraintName();
+        }
+        // Hibernate extracts no name for exclusion constraints, PostgreSQL quotes it in the message
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && sqlException.getMessage() != null) {
+                Matcher matcher = CONSTRAINT_NAME.matcher(sqlException.getMessage());
+                if (matcher.find()) {
+                    return matcher.group(1);
+                }
+            }
+        }
+        return null;
+    }
+
+    private static ProblemDetail problem(EditConflictReason reason, String detail) {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, detail);
+        problem.setProperty("reason", reason);
+        return problem;
+    }
+}
@@ -0,0 +1,51 @@
+package pl.juhas.symposium.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import pl.juhas.symposium.dto.FeedUpdateDTO;
+import pl.juhas.symposium.feed.FeedSink;
+import pl.juhas.symposium.feed.LiveFeed;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/api/feed")
+@RequiredArgsConstructor
+public class FeedController {
+
+    private final LiveFeed liveFeed;
+
+    /**
+     * Server-sent events: a {@code snapshot} event on connect (and whenever the client fell
+     * behind), then {@code changes} events; the event id is the feed sequence number.
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter feed() {
+        SseEmitter emitter = new SseEmitter(0L);
+        LiveFeed.Subscription subscription = liveFeed.subscribe(new SseEmitterSink(emitter));
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(e -> subscription.close());
+        return emitter;
+    }
+
+    private record SseEmitterSink(SseEmitter emitter) implements FeedSink {
+
+        @Override
+        public void send(FeedUpdateDTO update) throws IOException {
+            emitter.send(SseEmitter.event()
+                    .id(Long.toString(update.sequence()))
+                    .name(update.snapshot() ? "snapshot" : "changes")
+                    .data(update, MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void heartbeat() throws IOException {
+            emitter.send(SseEmitter.event().comment("keepalive"));
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package pl.juhas.symposium.controller;
+
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import pl.juhas.symposium.dto.AgendaEntryDTO;
+import pl.juhas.symposium.dto.BulkRegistrationResultDTO;
+import pl.juhas.symposium.dto.CursorPageDTO;
+import pl.juhas.symposium.dto.ParticipantDTO;
+import pl.juhas.symposium.enums.Country;
+import pl.juhas.symposium.enums.Role;
+import pl.juhas.symposium.io.CalendarWriter;
+import pl.juhas.symposium.io.ParticipantFormat;
+import pl.juhas.symposium.io.ParticipantImportReader;
+import pl.juhas.symposium.service.AgendaIndex;
+import pl.juhas.symposium.service.AgendaService;
+import pl.juhas.symposium.service.ParticipantExportService;
+import pl.juhas.symposium.service.ParticipantGroupingService;
+import pl.juhas.symposium.service.ParticipantListingService;
+import pl.juhas.symposium.service.ParticipantRegistrationService;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/participants")
+@RequiredArgsConstructor
+public class ParticipantController {
+
+    private final ParticipantRegistrationService registrationService;
+    private final ParticipantImportReader importReader;
+    private final ParticipantExportService exportService;
+    private final ParticipantGroupingService groupingService;
+    private final ParticipantListingService listingService;
+    private final AgendaService agendaService;
+
+    @GetMapping
+    public CursorPageDTO<ParticipantDTO> list(@RequestParam(required = false) String cursor,
+                                              @RequestParam(defaultValue = "50") int size) {
+        return listingService.list(cursor, size);
+    }
+
+    @GetMapping("/{id}/agenda")
+    public List<AgendaEntryDTO> agenda(@PathVariable long id) {
+        return agendaService.agenda(id);
+    }
+
+    @GetMapping("/{id}/agenda.ics")
+    public ResponseEntity<StreamingResponseBody> agendaCalendar(@PathVariable long id) {
+        AgendaIndex.Agenda agenda = agendaService.agendaOf(id);
+        StreamingResponseBody body = out -> agendaService.exportCalendar(id, agenda, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(CalendarWriter.MEDIA_TYPE + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"agenda-" + id + ".ics\"")
+                .body(body);
+    }
+
+    @GetMapping("/groups/roles")
+    public Map<Role, Long> countByRole() {
+        return groupingService.countByRole();
+    }
+
+    @GetMapping("/groups/roles/{role}")
+    public CursorPageDTO<ParticipantDTO> membersOfRole(@PathVariable Role role,
+                                                       @RequestParam(required = false) String cursor,
+                                                       @RequestParam(defaultValue = "50") int size) {
+        return groupingService.membersOfRole(role, cursor, size);
+    }
+
+    @GetMapping("/groups/countries")
+    public Map<Country, Long> countByCountry() {
+        return groupingService.countByCountry();
+    }
+
+    @GetMapping("/groups/countries/{country}")
+    public CursorPageDTO<ParticipantDTO> membersOfCountry(@PathVariable Country country,
+                                                          @RequestParam(required = false) String cursor,
+                                                          @RequestParam(defaultValue = "50") int size) {
+        return groupingService.membersOfCountry(country, cursor, size);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "NDJSON") ParticipantFormat format,
+                                                        @RequestParam(defaultValue = "false") boolean orderedByRole) {
+        StreamingResponseBody body = out -> exportService.export(format, orderedByRole, out);
+        return ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"participants." + format.name().toLowerCase() + "\"")
+                .body(body);
+    }
+
+    @PostMapping(path = "/bulk", consumes = {"text/csv", "application/x-ndjson"})
+    public BulkRegistrationResultDTO registerBulk(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                  InputStream body) throws IOException {
+        try (MappingIterator<ParticipantDTO> rows = importReader.read(body, ParticipantFormat.of(contentType))) {
+            return registrationService.registerAll(rows);
+        } catch (JacksonException e) {
+            throw malformedRow(e);
+        } catch (RuntimeException e) {
+            // MappingIterator rethrows parse errors unchecked, with the original exception as the cause
+            if (e.getCause() instanceof JacksonException cause) {
+                throw malformedRow(cause);
+            }
+            throw e;
+        }
+    }
+
+    private static ResponseStatusException malformedRow(JacksonException e) {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, "Malformed participant row: " + e.getOriginalMessage(), e);
+    }
+}
@@ -0,0 +1,56 @@
+package pl.juhas.symposium.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+import pl.juhas.symposium.dto.CursorPageDTO;
+import pl.juhas.symposium.dto.EnrollmentResultDTO;
+import pl.juhas.symposium.dto.PresentationDTO;
+import pl.juhas.symposium.dto.PresentationEditResultDTO;
+import pl.juhas.symposium.dto.PresentationMoveDTO;
+import pl.juhas.symposium.dto.SeatStatusDTO;
+import pl.juhas.symposium.service.EnrollmentService;
+import pl.juhas.symposium.service.PresentationListingService;
+import pl.juhas.symposium.service.ScheduleEditService;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/presentations")
+@RequiredArgsConstructor
+public class PresentationController {
+
+    private final PresentationListingService listingService;
+    private final EnrollmentService enrollmentService;
+    private final ScheduleEditService scheduleEditService;
+
+    @GetMapping
+    public CursorPageDTO<PresentationDTO> list(@RequestParam(required = false) String cursor,
+                                               @RequestParam(defaultValue = "50") int size) {
+        return listingService.list(cursor, size);
+    }
+
+    @PatchMapping("/{id}")
+    public PresentationEditResultDTO move(@PathVariable long id, @RequestBody PresentationMoveDTO move) {
+        return scheduleEditService.move(id, move);
+    }
+
+    @PutMapping("/{id}/participants/{participantId}")
+    public EnrollmentResultDTO join(@PathVariable long id, @PathVariable long participantId) {
+        return enrollmentService.join(id, participantId);
+    }
+
+    @DeleteMapping("/{id}/participants/{participantId}")
+    public EnrollmentResultDTO leave(@PathVariable long id, @PathVariable long participantId) {
+        return enrollmentService.leave(id, participantId);
+    }
+
+    @GetMapping("/{id}/seats")
+    public SeatStatusDTO seats(@PathVariable long id) {
+        return enrollmentService.seats(id);
+    }
+
+    @PostMapping("/{id}/participants")
+    public EnrollmentResultDTO joinAll(@PathVariable long id, @RequestBody List<Long> participantIds) {
+        return enrollmentService.joinAll(id, participantIds);
+    }
+}
@@ -0,0 +1,30 @@
+package pl.juhas.symposium.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import pl.juhas.symposium.dto.HallUtilizationDTO;
+import pl.juhas.symposium.dto.SpeakerStatsDTO;
+import pl.juhas.symposium.service.ReportService;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/reports")
+@RequiredArgsConstructor
+public class ReportController {
+
+    private final ReportService reportService;
+
+    @GetMapping("/hall-utilization")
+    public List<HallUtilizationDTO> hallUtilization() {
+        return reportService.hallUtilization();
+    }
+
+    @GetMapping("/top-speakers")
+    public List<SpeakerStatsDTO> topSpeakers(@RequestParam(defaultValue = "10") int limit) {
+        return reportService.topSpeakers(Math.clamp(limit, 1, 100));
+    }
+}
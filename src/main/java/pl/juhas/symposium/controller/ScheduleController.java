@@ -0,0 +1,42 @@
+package pl.juhas.symposium.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+import pl.juhas.symposium.dto.ProposedSlotDTO;
+import pl.juhas.symposium.dto.ScheduleConflictDTO;
+import pl.juhas.symposium.dto.ScheduleEntryDTO;
+import pl.juhas.symposium.dto.ScheduleGenerationRequestDTO;
+import pl.juhas.symposium.dto.ScheduleGenerationResultDTO;
+import pl.juhas.symposium.schedule.ScheduleConflictIndex;
+import pl.juhas.symposium.service.ScheduleGeneratorService;
+import pl.juhas.symposium.service.ScheduleService;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/schedule")
+@RequiredArgsConstructor
+public class ScheduleController {
+
+    private final ScheduleService scheduleService;
+    private final ScheduleConflictIndex scheduleConflictIndex;
+    private final ScheduleGeneratorService scheduleGeneratorService;
+
+    @GetMapping
+    public List<ScheduleEntryDTO> schedule(@RequestParam(required = false)
+                                           @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate day) {
+        return day == null ? scheduleService.schedule() : scheduleService.schedule(day);
+    }
+
+    @PostMapping("/conflicts")
+    public List<ScheduleConflictDTO> conflicts(@RequestBody List<ProposedSlotDTO> proposals) {
+        return scheduleConflictIndex.conflicts(proposals);
+    }
+
+    @PostMapping("/generate")
+    public ScheduleGenerationResultDTO generate(@RequestBody ScheduleGenerationRequestDTO request) {
+        return scheduleGeneratorService.generate(request);
+    }
+}
@@ -0,0 +1,30 @@
+package pl.juhas.symposium.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import pl.juhas.symposium.dto.ParticipantDTO;
+import pl.juhas.symposium.dto.SearchResultDTO;
+import pl.juhas.symposium.service.SearchService;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @GetMapping
+    public SearchResultDTO search(@RequestParam String q, @RequestParam(defaultValue = "10") int limit) {
+        return searchService.search(q, Math.clamp(limit, 1, SearchService.MAX_LIMIT));
+    }
+
+    @GetMapping("/typeahead")
+    public List<ParticipantDTO> typeahead(@RequestParam String q, @RequestParam(defaultValue = "10") int limit) {
+        return searchService.typeahead(q, Math.clamp(limit, 1, SearchService.MAX_LIMIT));
+    }
+}
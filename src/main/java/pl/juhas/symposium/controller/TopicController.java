@@ -0,0 +1,20 @@
+package pl.juhas.symposium.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+import pl.juhas.symposium.dto.PresentersUpdateDTO;
+import pl.juhas.symposium.dto.TopicEditResultDTO;
+import pl.juhas.symposium.service.ScheduleEditService;
+
+@RestController
+@RequestMapping("/api/topics")
+@RequiredArgsConstructor
+public class TopicController {
+
+    private final ScheduleEditService scheduleEditService;
+
+    @PutMapping("/{id}/presenters")
+    public TopicEditResultDTO replacePresenters(@PathVariable long id, @RequestBody PresentersUpdateDTO update) {
+        return scheduleEditService.replacePresenters(id, update);
+    }
+}
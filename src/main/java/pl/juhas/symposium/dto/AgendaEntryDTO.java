@@ -0,0 +1,7 @@
+package pl.juhas.symposium.dto;
+
+import java.time.LocalDateTime;
+
+public record AgendaEntryDTO(Long presentationId, LocalDateTime startTime, LocalDateTime endTime, String topicName,
+                             String hallName, String hotelName, boolean presenting) {
+}
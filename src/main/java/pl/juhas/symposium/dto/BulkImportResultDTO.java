@@ -0,0 +1,7 @@
+package pl.juhas.symposium.dto;
+
+import pl.juhas.symposium.bulk.BulkTable;
+
+public record BulkImportResultDTO(BulkTable table, long staged, long inserted, long updated, long skipped,
+                                  long elapsedMillis, double rowsPerSecond) {
+}
@@ -0,0 +1,4 @@
+package pl.juhas.symposium.dto;
+
+public record BulkRegistrationResultDTO(long registered, long elapsedMillis, double rowsPerSecond) {
+}
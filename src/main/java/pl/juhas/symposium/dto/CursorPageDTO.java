@@ -0,0 +1,9 @@
+package pl.juhas.symposium.dto;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing. {@code nextCursor} is {@code null} on the last page.
+ */
+public record CursorPageDTO<T>(List<T> items, String nextCursor) {
+}
@@ -0,0 +1,4 @@
+package pl.juhas.symposium.dto;
+
+public record EnrollmentResultDTO(Long presentationId, int requested, int changed, int waitlisted) {
+}
@@ -0,0 +1,12 @@
+package pl.juhas.symposium.dto;
+
+import java.util.List;
+
+/**
+ * One message of the live feed. A snapshot lists every scheduled presentation and hall; a regular
+ * update only those that changed during the window. Entries always carry absolute state, so an
+ * update that repeats what a client already applied is harmless.
+ */
+public record FeedUpdateDTO(long sequence, boolean snapshot, List<ScheduleChangeDTO> schedule,
+                            List<HallStatusDTO> halls) {
+}
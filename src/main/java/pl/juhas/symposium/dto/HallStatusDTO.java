@@ -0,0 +1,11 @@
+package pl.juhas.symposium.dto;
+
+import pl.juhas.symposium.event.ChangeType;
+
+/**
+ * Current state of a hall; {@code occupancyDelta} is the change in enrolled attendees since the
+ * previous update and is zero in snapshots.
+ */
+public record HallStatusDTO(ChangeType type, long hallId, String name, Integer capacity, long occupancy,
+                            long occupancyDelta) {
+}
@@ -0,0 +1,13 @@
+package pl.juhas.symposium.dto;
+
+import java.time.LocalDateTime;
+
+public record HallUtilizationDTO(Long hallId, String hallName, String hotelName, long presentationCount,
+                                 LocalDateTime firstSlot, LocalDateTime lastSlot, double bookedHoursPerDay) {
+
+    public HallUtilizationDTO(Long hallId, String hallName, String hotelName, long presentationCount,
+                              LocalDateTime firstSlot, LocalDateTime lastSlot, Long bookedMinutes, long daysInUse) {
+        this(hallId, hallName, hotelName, presentationCount, firstSlot, lastSlot,
+                daysInUse == 0 || bookedMinutes == null ? 0 : bookedMinutes / 60d / daysInUse);
+    }
+}
@@ -4,5 +4,5 @@ import pl.juhas.symposium.enums.Country;
 import pl.juhas.symposium.enums.Role;
 
 
-public record ParticipantDTO(String firstName, String lastName, String email, Role role, Country country) {
+public record ParticipantDTO(Long id, String firstName, String lastName, String email, Role role, Country country) {
 }
@@ -2,5 +2,5 @@ package pl.juhas.symposium.dto;
 
 import java.time.LocalDateTime;
 
-public record PresentationDTO(String topic, LocalDateTime startTime) {
+public record PresentationDTO(Long id, String topic, LocalDateTime startTime) {
 }
@@ -0,0 +1,10 @@
+package pl.juhas.symposium.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Moves a presentation; fields left {@code null} keep their value. With {@code version} set the
+ * move is applied only to that version, otherwise it is applied to whatever version is current.
+ */
+public record PresentationMoveDTO(Long version, Long hallId, LocalDateTime startTime, Integer durationMinutes) {
+}
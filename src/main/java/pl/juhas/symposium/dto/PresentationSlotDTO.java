@@ -0,0 +1,7 @@
+package pl.juhas.symposium.dto;
+
+import java.time.LocalDateTime;
+
+public record PresentationSlotDTO(Long presentationId, Long topicId, Long hallId, LocalDateTime startTime,
+                                  int durationMinutes) {
+}
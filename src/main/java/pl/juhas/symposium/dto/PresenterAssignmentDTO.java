@@ -0,0 +1,4 @@
+package pl.juhas.symposium.dto;
+
+public record PresenterAssignmentDTO(Long topicId, Long participantId, String firstName, String lastName) {
+}
@@ -0,0 +1,9 @@
+package pl.juhas.symposium.dto;
+
+import java.util.Set;
+
+/**
+ * Replaces the presenters of a topic; {@code version} works as in {@link PresentationMoveDTO}.
+ */
+public record PresentersUpdateDTO(Long version, Set<Long> presenterIds) {
+}
@@ -0,0 +1,13 @@
+package pl.juhas.symposium.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * A slot to check against the schedule. {@code presentationId} is set when an existing presentation
+ * is being moved, so it does not conflict with itself; {@code presenterIds} overrides the presenters
+ * of {@code topicId}. A missing duration means {@code Presentation.DEFAULT_DURATION}.
+ */
+public record ProposedSlotDTO(Long presentationId, Long hallId, Long topicId, List<Long> presenterIds,
+                              LocalDateTime startTime, Integer durationMinutes) {
+}
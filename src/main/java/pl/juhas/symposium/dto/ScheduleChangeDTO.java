@@ -0,0 +1,9 @@
+package pl.juhas.symposium.dto;
+
+import pl.juhas.symposium.event.ChangeType;
+
+import java.time.LocalDateTime;
+
+public record ScheduleChangeDTO(ChangeType type, long presentationId, Long topicId, Long hallId,
+                                LocalDateTime startTime, int durationMinutes) {
+}
@@ -0,0 +1,14 @@
+package pl.juhas.symposium.dto;
+
+import pl.juhas.symposium.enums.ConflictKind;
+
+import java.time.LocalDateTime;
+
+/**
+ * Overlap between proposal {@code proposal} and either a scheduled presentation
+ * ({@code presentationId}) or an earlier proposal of the same request ({@code otherProposal}).
+ * {@code resourceId} is the hall or presenter id, depending on {@code kind}.
+ */
+public record ScheduleConflictDTO(int proposal, ConflictKind kind, long resourceId, Long presentationId,
+                                  Integer otherProposal, LocalDateTime startTime, LocalDateTime endTime) {
+}
@@ -0,0 +1,12 @@
+package pl.juhas.symposium.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record ScheduleEntryDTO(Long presentationId, LocalDateTime startTime, Long topicId, String topicName,
+                               Long hallId, String hallName, String hotelName, long attendeeCount,
+                               List<SpeakerDTO> presenters) {
+
+    public record SpeakerDTO(Long participantId, String firstName, String lastName) {
+    }
+}
@@ -0,0 +1,13 @@
+package pl.juhas.symposium.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Slots must not overlap for the given duration. {@code hotelId} limits the halls to one hotel;
+ * missing values fall back to all halls, {@code Presentation.DEFAULT_DURATION} and the configured
+ * time budget.
+ */
+public record ScheduleGenerationRequestDTO(Long hotelId, List<LocalDateTime> slots, Integer durationMinutes,
+                                           Long timeBudgetMillis, Long seed) {
+}
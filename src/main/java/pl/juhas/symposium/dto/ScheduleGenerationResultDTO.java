@@ -0,0 +1,5 @@
+package pl.juhas.symposium.dto;
+
+public record ScheduleGenerationResultDTO(int topics, int scheduled, int unscheduled, int halls, long attempts,
+                                          long searchMillis, long persistMillis, int minHallLoad, int maxHallLoad) {
+}
@@ -0,0 +1,7 @@
+package pl.juhas.symposium.dto;
+
+import java.time.LocalDateTime;
+
+public record ScheduleRowDTO(Long presentationId, LocalDateTime startTime, Long topicId, String topicName,
+                             Long hallId, String hallName, String hotelName, long attendeeCount) {
+}
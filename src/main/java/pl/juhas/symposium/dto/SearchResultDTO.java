@@ -0,0 +1,6 @@
+package pl.juhas.symposium.dto;
+
+import java.util.List;
+
+public record SearchResultDTO(List<ParticipantDTO> participants, List<TopicSearchHitDTO> topics) {
+}
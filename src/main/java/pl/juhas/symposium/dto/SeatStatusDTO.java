@@ -0,0 +1,4 @@
+package pl.juhas.symposium.dto;
+
+public record SeatStatusDTO(Long presentationId, Integer capacity, long taken, long waitlisted) {
+}
@@ -0,0 +1,17 @@
+package pl.juhas.symposium.dto;
+
+import pl.juhas.symposium.enums.Country;
+import pl.juhas.symposium.enums.Role;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Shape of a generated data set. Role and country weights are relative and need not sum to one;
+ * missing values fall back to the generator's defaults and a missing seed to a random one.
+ */
+public record SyntheticDataRequestDTO(Long seed, Integer participants, Integer hotels, Integer hallsPerHotel,
+                                      Integer topics, Integer maxPresentersPerTopic, Integer meanAttendees,
+                                      Map<Role, Double> roleWeights, Map<Country, Double> countryWeights,
+                                      LocalDate firstDay) {
+}
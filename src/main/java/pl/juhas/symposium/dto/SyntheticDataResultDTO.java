@@ -0,0 +1,6 @@
+package pl.juhas.symposium.dto;
+
+public record SyntheticDataResultDTO(long seed, long participants, long hotels, long halls, long topics,
+                                     long presenterAssignments, long presentations, long attendances,
+                                     long elapsedMillis, double rowsPerSecond) {
+}
@@ -0,0 +1,6 @@
+package pl.juhas.symposium.dto;
+
+import java.util.List;
+
+public record TopicEditResultDTO(Long topicId, long version, List<Long> presenterIds) {
+}
@@ -0,0 +1,4 @@
+package pl.juhas.symposium.dto;
+
+public record TopicSearchHitDTO(Long id, String name) {
+}
@@ -0,0 +1,7 @@
+package pl.juhas.symposium.enums;
+
+public enum AggregateType {
+    PARTICIPANT,
+    PRESENTATION,
+    TOPIC
+}
@@ -0,0 +1,10 @@
+package pl.juhas.symposium.enums;
+
+/**
+ * An enum stored in the database as a small integer code rather than its name. Codes are
+ * persisted, so a released code is never changed or reused; new constants take the next free one.
+ */
+public interface CodedEnum {
+
+    int code();
+}
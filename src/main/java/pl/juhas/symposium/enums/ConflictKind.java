@@ -0,0 +1,6 @@
+package pl.juhas.symposium.enums;
+
+public enum ConflictKind {
+    HALL,
+    PRESENTER
+}
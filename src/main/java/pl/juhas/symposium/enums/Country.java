@@ -1,20 +1,37 @@
 package pl.juhas.symposium.enums;
 
-public enum Country {
-    POLAND,
-    GERMANY,
-    FRANCE,
-    ITALY,
-    SPAIN,
-    UKRAINE,
-    USA,
-    CANADA,
-    UK,
-    AUSTRALIA,
-    BRAZIL,
-    ARGENTINA,
-    JAPAN,
-    CHINA,
-    INDIA,
-    SOUTH_AFRICA,
+public enum Country implements CodedEnum {
+    POLAND(0),
+    GERMANY(1),
+    FRANCE(2),
+    ITALY(3),
+    SPAIN(4),
+    UKRAINE(5),
+    USA(6),
+    CANADA(7),
+    UK(8),
+    AUSTRALIA(9),
+    BRAZIL(10),
+    ARGENTINA(11),
+    JAPAN(12),
+    CHINA(13),
+    INDIA(14),
+    SOUTH_AFRICA(15);
+
+    private static final Country[] BY_CODE = EnumCodes.byCode(values());
+
+    private final int code;
+
+    Country(int code) {
+        this.code = code;
+    }
+
+    @Override
+    public int code() {
+        return code;
+    }
+
+    public static Country fromCode(int code) {
+        return EnumCodes.fromCode(BY_CODE, code);
+    }
 }
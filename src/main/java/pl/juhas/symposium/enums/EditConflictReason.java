@@ -0,0 +1,20 @@
+package pl.juhas.symposium.enums;
+
+public enum EditConflictReason {
+    /**
+     * The client edited a version that is no longer current.
+     */
+    STALE_VERSION,
+    /**
+     * Concurrent edits kept winning until the retries ran out.
+     */
+    CONCURRENT_UPDATES,
+    /**
+     * The edit would overlap another presentation in the same hall or of the same presenter.
+     */
+    SCHEDULE_CONFLICT,
+    /**
+     * The edit violates a database constraint, e.g. two presentations in one hall at the same time.
+     */
+    CONSTRAINT
+}
@@ -0,0 +1,68 @@
+package pl.juhas.symposium.enums;
+
+import java.lang.reflect.Array;
+import java.util.StringJoiner;
+
+/**
+ * Lookups between {@link CodedEnum} constants and their codes, in Java and in SQL.
+ */
+public final class EnumCodes {
+
+    private EnumCodes() {
+    }
+
+    /**
+     * Returns the constants in an array indexed by code; unused codes hold {@code null}.
+     */
+    public static <E extends Enum<E> & CodedEnum> E[] byCode(E[] values) {
+        int size = 0;
+        for (E value : values) {
+            if (value.code() < 0) {
+                throw new IllegalStateException(value + " has a negative code");
+            }
+            size = Math.max(size, value.code() + 1);
+        }
+        @SuppressWarnings("unchecked")
+        E[] byCode = (E[]) Array.newInstance(values.getClass().getComponentType(), size);
+        for (E value : values) {
+            if (byCode[value.code()] != null) {
+                throw new IllegalStateException(value + " and " + byCode[value.code()] + " share code " + value.code());
+            }
+            byCode[value.code()] = value;
+        }
+        return byCode;
+    }
+
+    public static <E> E fromCode(E[] byCode, int code) {
+        E value = code >= 0 && code < byCode.length ? byCode[code] : null;
+        if (value == null) {
+            throw new IllegalArgumentException("No " + byCode.getClass().getComponentType().getSimpleName()
+                    + " with code " + code);
+        }
+        return value;
+    }
+
+    /**
+     * SQL expression turning the constant names held in {@code column} into codes. An unknown name
+     * fails the statement with an invalid-input error rather than silently becoming {@code null}.
+     */
+    public static <E extends Enum<E> & CodedEnum> String codeSql(Class<E> type, String column) {
+        StringJoiner sql = new StringJoiner(" ", "CASE " + column + " ", " ELSE ('unknown "
+                + type.getSimpleName() + " ' || " + column + ")::smallint END");
+        for (E value : type.getEnumConstants()) {
+            sql.add("WHEN '" + value.name() + "' THEN " + value.code());
+        }
+        return sql.toString();
+    }
+
+    /**
+     * SQL expression turning the codes held in {@code column} back into constant names.
+     */
+    public static <E extends Enum<E> & CodedEnum> String nameSql(Class<E> type, String column) {
+        StringJoiner sql = new StringJoiner(" ", "CASE " + column + " ", " END");
+        for (E value : type.getEnumConstants()) {
+            sql.add("WHEN " + value.code() + " THEN '" + value.name() + "'");
+        }
+        return sql.toString();
+    }
+}
@@ -0,0 +1,64 @@
+package pl.juhas.symposium.enums;
+
+import java.util.EnumMap;
+
+/**
+ * Counts per constant of a {@link CodedEnum}, kept in a {@code long[]} indexed by code so that
+ * counting does not box or hash. Not thread-safe.
+ */
+public final class EnumCounts<E extends Enum<E> & CodedEnum> {
+
+    private final Class<E> type;
+    private final E[] byCode;
+    private final long[] counts;
+
+    private EnumCounts(Class<E> type) {
+        this.type = type;
+        this.byCode = EnumCodes.byCode(type.getEnumConstants());
+        this.counts = new long[byCode.length];
+    }
+
+    public static <E extends Enum<E> & CodedEnum> EnumCounts<E> of(Class<E> type) {
+        return new EnumCounts<>(type);
+    }
+
+    public void add(E value) {
+        counts[value.code()]++;
+    }
+
+    /**
+     * Adds {@code count} to the constant with the given code, e.g. one row of a {@code GROUP BY}.
+     */
+    public void add(int code, long count) {
+        counts[EnumCodes.fromCode(byCode, code).code()] += count;
+    }
+
+    public void addAll(EnumCounts<E> other) {
+        for (int code = 0; code < counts.length; code++) {
+            counts[code] += other.counts[code];
+        }
+    }
+
+    public long get(E value) {
+        return counts[value.code()];
+    }
+
+    public long total() {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Copies the counts into a map holding every constant, for the API boundary.
+     */
+    public EnumMap<E, Long> toMap() {
+        EnumMap<E, Long> map = new EnumMap<>(type);
+        for (E value : type.getEnumConstants()) {
+            map.put(value, counts[value.code()]);
+        }
+        return map;
+    }
+}
@@ -1,7 +1,28 @@
 package pl.juhas.symposium.enums;
 
-public enum Role {
-    DOCTOR,
-    STUDENT,
-    ORGANIZER
+/**
+ * Codes follow the alphabetical order of the names, which is the order participants were listed
+ * in while roles were stored as text.
+ */
+public enum Role implements CodedEnum {
+    DOCTOR(0),
+    STUDENT(2),
+    ORGANIZER(1);
+
+    private static final Role[] BY_CODE = EnumCodes.byCode(values());
+
+    private final int code;
+
+    Role(int code) {
+        this.code = code;
+    }
+
+    @Override
+    public int code() {
+        return code;
+    }
+
+    public static Role fromCode(int code) {
+        return EnumCodes.fromCode(BY_CODE, code);
+    }
 }
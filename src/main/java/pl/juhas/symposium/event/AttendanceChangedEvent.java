@@ -0,0 +1,11 @@
+package pl.juhas.symposium.event;
+
+import java.util.List;
+
+/**
+ * Published by {@link pl.juhas.symposium.service.EnrollmentService}, which writes join-table rows
+ * directly and therefore produces no Hibernate collection events. Only rows that were actually
+ * inserted or deleted are listed.
+ */
+public record AttendanceChangedEvent(long presentationId, List<Long> joined, List<Long> left) {
+}
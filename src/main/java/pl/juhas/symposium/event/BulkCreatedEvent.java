@@ -0,0 +1,12 @@
+package pl.juhas.symposium.event;
+
+import pl.juhas.symposium.enums.AggregateType;
+
+/**
+ * Recorded in the outbox in place of one change event per row when a synthetic load created every
+ * {@code aggregateType} row with an id from {@code firstId} to {@code lastId}, together with its
+ * presenters or attendees. It is recorded under aggregate id 0, so consumers get bulk loads of one
+ * type in order and read the rows themselves.
+ */
+public record BulkCreatedEvent(AggregateType aggregateType, long firstId, long lastId) {
+}
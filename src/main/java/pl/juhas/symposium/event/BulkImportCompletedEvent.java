@@ -0,0 +1,12 @@
+package pl.juhas.symposium.event;
+
+import pl.juhas.symposium.bulk.BulkTable;
+
+import java.util.Set;
+
+/**
+ * Published after a bulk import has committed. Bulk imports bypass Hibernate, so no entity events
+ * are published for the rows they write and derived state has to be rebuilt from the database.
+ */
+public record BulkImportCompletedEvent(Set<BulkTable> tables) {
+}
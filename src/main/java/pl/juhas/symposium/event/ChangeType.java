@@ -0,0 +1,7 @@
+package pl.juhas.symposium.event;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,4 @@
+package pl.juhas.symposium.event;
+
+public record ConferenceHallChangedEvent(ChangeType type, long hallId, String name, Integer capacity) {
+}
@@ -0,0 +1,121 @@
+package pl.juhas.symposium.event;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import pl.juhas.symposium.model.ConferenceHall;
+import pl.juhas.symposium.model.Participant;
+import pl.juhas.symposium.model.Presentation;
+import pl.juhas.symposium.model.Topic;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Translates Hibernate entity and collection events into application events. Events are
+ * published while the session flushes, i.e. inside the writing transaction; listeners that
+ * maintain derived state should use {@code @TransactionalEventListener} so they only see
+ * committed changes.
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityChangeEventBridge implements PostInsertEventListener, PostUpdateEventListener,
+        PostDeleteEventListener, PostCollectionRecreateEventListener, PostCollectionUpdateEventListener,
+        PostCollectionRemoveEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ApplicationEventPublisher publisher;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_RECREATE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_UPDATE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_REMOVE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        publishEntityChange(ChangeType.CREATED, event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        publishEntityChange(ChangeType.UPDATED, event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publishEntityChange(ChangeType.DELETED, event.getEntity());
+    }
+
+    @Override
+    public void onPostRecreateCollection(PostCollectionRecreateEvent event) {
+        publishCollectionChange(event, false);
+    }
+
+    @Override
+    public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+        publishCollectionChange(event, false);
+    }
+
+    @Override
+    public void onPostRemoveCollection(PostCollectionRemoveEvent event) {
+        publishCollectionChange(event, true);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void publishEntityChange(ChangeType type, Object entity) {
+        switch (entity) {
+            case Presentation presentation -> publisher.publishEvent(new PresentationChangedEvent(type,
+                    presentation.getId(),
+                    presentation.getTopic() == null ? null : presentation.getTopic().getId(),
+                    presentation.getConferenceHall() == null ? null : presentation.getConferenceHall().getId(),
+                    presentation.getStartTime(), presentation.getDurationMinutes()));
+            case ConferenceHall hall -> publisher.publishEvent(new ConferenceHallChangedEvent(type, hall.getId(),
+                    hall.getName(), hall.getCapacity()));
+            case Topic topic -> publisher.publishEvent(new TopicChangedEvent(type, topic.getId(), topic.getName()));
+            case Participant participant -> publisher.publishEvent(new ParticipantChangedEvent(type,
+                    participant.getId(), participant.getFirstName(), participant.getLastName(),
+                    participant.getEmail(), participant.getRole(), participant.getCountry()));
+            default -> {
+            }
+        }
+    }
+
+    private void publishCollectionChange(AbstractCollectionEvent event, boolean removed) {
+        if (event.getAffectedOwnerOrNull() instanceof Topic topic) {
+            List<ParticipantRef> presenters = new ArrayList<>();
+            if (!removed) {
+                for (Object element : (Collection<?>) event.getCollection()) {
+                    Participant presenter = (Participant) element;
+                    presenters.add(new ParticipantRef(presenter.getId(), presenter.getFirstName(), presenter.getLastName()));
+                }
+            }
+            publisher.publishEvent(new TopicPresentersChangedEvent(topic.getId(), presenters));
+        } else if (event.getAffectedOwnerOrNull() instanceof Presentation presentation) {
+            List<Long> attendees = new ArrayList<>();
+            if (!removed) {
+                for (Object element : (Collection<?>) event.getCollection()) {
+                    attendees.add(((Participant) element).getId());
+                }
+            }
+            publisher.publishEvent(new PresentationAttendeesChangedEvent(presentation.getId(), attendees));
+        }
+    }
+}
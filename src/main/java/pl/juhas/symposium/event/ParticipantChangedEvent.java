@@ -0,0 +1,8 @@
+package pl.juhas.symposium.event;
+
+import pl.juhas.symposium.enums.Country;
+import pl.juhas.symposium.enums.Role;
+
+public record ParticipantChangedEvent(ChangeType type, long participantId, String firstName, String lastName,
+                                      String email, Role role, Country country) {
+}
@@ -0,0 +1,4 @@
+package pl.juhas.symposium.event;
+
+public record ParticipantRef(long id, String firstName, String lastName) {
+}
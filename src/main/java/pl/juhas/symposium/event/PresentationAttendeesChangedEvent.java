@@ -0,0 +1,11 @@
+package pl.juhas.symposium.event;
+
+import java.util.List;
+
+/**
+ * Carries the complete attendee set of a presentation after Hibernate rewrote
+ * {@code Presentation.participants}; an empty list means the presentation no longer has attendees
+ * (or was deleted).
+ */
+public record PresentationAttendeesChangedEvent(long presentationId, List<Long> participantIds) {
+}
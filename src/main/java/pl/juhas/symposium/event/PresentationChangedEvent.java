@@ -0,0 +1,7 @@
+package pl.juhas.symposium.event;
+
+import java.time.LocalDateTime;
+
+public record PresentationChangedEvent(ChangeType type, long presentationId, Long topicId, Long conferenceHallId,
+                                       LocalDateTime startTime, int durationMinutes) {
+}
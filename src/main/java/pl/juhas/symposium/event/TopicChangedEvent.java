@@ -0,0 +1,4 @@
+package pl.juhas.symposium.event;
+
+public record TopicChangedEvent(ChangeType type, long topicId, String name) {
+}
@@ -0,0 +1,10 @@
+package pl.juhas.symposium.event;
+
+import java.util.List;
+
+/**
+ * Carries the complete presenter set of a topic after the change; an empty list means the
+ * topic no longer has presenters (or was deleted).
+ */
+public record TopicPresentersChangedEvent(long topicId, List<ParticipantRef> presenters) {
+}
@@ -0,0 +1,37 @@
+package pl.juhas.symposium.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import pl.juhas.symposium.dto.ScheduleConflictDTO;
+import pl.juhas.symposium.enums.EditConflictReason;
+
+import java.util.List;
+
+@Getter
+@ResponseStatus(HttpStatus.CONFLICT)
+public class EditConflictException extends RuntimeException {
+
+    private final EditConflictReason reason;
+    private final String entity;
+    private final long id;
+    private final Long expectedVersion;
+    private final Long currentVersion;
+    private final List<ScheduleConflictDTO> conflicts;
+
+    public EditConflictException(EditConflictReason reason, String entity, long id, Long expectedVersion,
+                                 Long currentVersion, List<ScheduleConflictDTO> conflicts) {
+        super(entity + " " + id + " could not be updated: " + reason);
+        this.reason = reason;
+        this.entity = entity;
+        this.id = id;
+        this.expectedVersion = expectedVersion;
+        this.currentVersion = currentVersion;
+        this.conflicts = conflicts;
+    }
+
+    public static EditConflictException staleVersion(String entity, long id, long expectedVersion, long currentVersion) {
+        return new EditConflictException(EditConflictReason.STALE_VERSION, entity, id, expectedVersion, currentVersion,
+                List.of());
+    }
+}
@@ -0,0 +1,12 @@
+package pl.juhas.symposium.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class FeedUnavailableException extends RuntimeException {
+
+    public FeedUnavailableException(int subscribers) {
+        super("Live feed is full: " + subscribers + " subscribers");
+    }
+}
@@ -0,0 +1,12 @@
+package pl.juhas.symposium.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidBulkDataException extends RuntimeException {
+
+    public InvalidBulkDataException(String table, Throwable cause) {
+        super("Invalid " + table + " data: " + cause.getMessage(), cause);
+    }
+}
@@ -0,0 +1,12 @@
+package pl.juhas.symposium.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidGenerationRequestException extends RuntimeException {
+
+    public InvalidGenerationRequestException(String reason) {
+        super("Invalid generation request: " + reason);
+    }
+}
@@ -0,0 +1,16 @@
+package pl.juhas.symposium.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidSlotException extends RuntimeException {
+
+    public InvalidSlotException(int proposal, String reason) {
+        super("Invalid slot #" + proposal + ": " + reason);
+    }
+
+    public InvalidSlotException(String reason) {
+        super("Invalid slots: " + reason);
+    }
+}
@@ -0,0 +1,16 @@
+package pl.juhas.symposium.feed;
+
+import pl.juhas.symposium.dto.FeedUpdateDTO;
+
+import java.io.IOException;
+
+/**
+ * Transport of a single feed subscriber. Calls come from the subscriber's own virtual thread and
+ * may block; an {@link IOException} ends the subscription.
+ */
+public interface FeedSink {
+
+    void send(FeedUpdateDTO update) throws IOException;
+
+    void heartbeat() throws IOException;
+}
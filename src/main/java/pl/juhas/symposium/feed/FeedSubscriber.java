@@ -0,0 +1,98 @@
+package pl.juhas.symposium.feed;
+
+import lombok.extern.slf4j.Slf4j;
+import pl.juhas.symposium.dto.FeedUpdateDTO;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivers feed updates to one sink from its own virtual thread, through a bounded queue. A
+ * subscriber that falls so far behind that its queue overflows loses the queued updates and is
+ * sent a fresh snapshot instead, so a slow client never holds back the others or grows the heap.
+ */
+@Slf4j
+final class FeedSubscriber implements Runnable, LiveFeed.Subscription {
+
+    private static final FeedUpdateDTO WAKE_UP = new FeedUpdateDTO(-1, false, List.of(), List.of());
+
+    private final long id;
+    private final FeedSink sink;
+    private final LiveFeed feed;
+    private final ArrayBlockingQueue<FeedUpdateDTO> queue;
+    private final long heartbeatMillis;
+    private volatile boolean resync = true;
+    private volatile boolean closed;
+    private Thread thread;
+
+    FeedSubscriber(long id, FeedSink sink, LiveFeed feed, int queueCapacity, long heartbeatMillis) {
+        this.id = id;
+        this.sink = sink;
+        this.feed = feed;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.heartbeatMillis = heartbeatMillis;
+    }
+
+    void start() {
+        thread = Thread.ofVirtual().name("feed-subscriber-" + id).start(this);
+    }
+
+    /**
+     * Never blocks the publisher; returns {@code false} when the update was dropped and a
+     * snapshot will be sent instead.
+     */
+    boolean offer(FeedUpdateDTO update) {
+        if (queue.offer(update)) {
+            return true;
+        }
+        requestSnapshot();
+        return false;
+    }
+
+    void requestSnapshot() {
+        resync = true;
+        queue.clear();
+        queue.offer(WAKE_UP);
+    }
+
+    @Override
+    public void run() {
+        long delivered = -1;
+        try {
+            while (!closed) {
+                FeedUpdateDTO update = queue.poll(heartbeatMillis, TimeUnit.MILLISECONDS);
+                if (resync) {
+                    resync = false;
+                    FeedUpdateDTO snapshot = feed.snapshot();
+                    sink.send(snapshot);
+                    delivered = snapshot.sequence();
+                } else if (update == null) {
+                    sink.heartbeat();
+                } else if (update != WAKE_UP && update.sequence() > delivered) {
+                    sink.send(update);
+                    delivered = update.sequence();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | RuntimeException e) {
+            log.debug("Feed subscriber {} disconnected: {}", id, e.toString());
+        } finally {
+            close();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        feed.unsubscribe(this);
+        if (thread != null && thread != Thread.currentThread()) {
+            thread.interrupt();
+        }
+    }
+}
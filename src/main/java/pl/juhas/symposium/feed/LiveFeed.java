@@ -0,0 +1,334 @@
+package pl.juhas.symposium.feed;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pl.juhas.symposium.dto.FeedUpdateDTO;
+import pl.juhas.symposium.dto.HallStatusDTO;
+import pl.juhas.symposium.dto.PresentationSlotDTO;
+import pl.juhas.symposium.dto.ScheduleChangeDTO;
+import pl.juhas.symposium.event.*;
+import pl.juhas.symposium.exception.FeedUnavailableException;
+import pl.juhas.symposium.model.ConferenceHall;
+import pl.juhas.symposium.repository.ConferenceHallRepository;
+import pl.juhas.symposium.repository.PresentationRepository;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Push feed of schedule changes and per-hall occupancy for lobby displays and the mobile app. The
+ * feed keeps the schedule, halls and attendee counts in memory, follows committed entity and
+ * enrollment events, and every {@code symposium.feed.window} publishes whatever changed in one
+ * coalesced update: several changes to the same presentation or hall within a window collapse
+ * into one entry. New subscribers, and subscribers that fell behind, get a snapshot built from
+ * memory, so the database is not touched per client.
+ */
+@Slf4j
+@Component
+public class LiveFeed {
+
+    private static final String ATTENDEE_COUNTS_SQL = """
+            SELECT presentation_id, count(*)
+            FROM presentation_participants
+            GROUP BY presentation_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PresentationRepository presentationRepository;
+    private final ConferenceHallRepository conferenceHallRepository;
+    private final Duration window;
+    private final Duration heartbeat;
+    private final int queueCapacity;
+    private final int maxSubscribers;
+    private final Counter resyncs;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Long, ScheduleChangeDTO> slots = new HashMap<>();
+    private final Map<Long, HallStatusDTO> halls = new HashMap<>();
+    private final Map<Long, Long> attendeeCounts = new HashMap<>();
+    private final Map<Long, ScheduleChangeDTO> pendingSchedule = new LinkedHashMap<>();
+    private final Map<Long, ChangeType> pendingHalls = new LinkedHashMap<>();
+    private final Map<Long, HallStatusDTO> deletedHalls = new HashMap<>();
+    private final Map<Long, Long> pendingDeltas = new HashMap<>();
+    private long sequence;
+
+    private final Set<FeedSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong subscriberIds = new AtomicLong();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("live-feed").daemon().factory());
+
+    public LiveFeed(JdbcTemplate jdbcTemplate,
+                    PresentationRepository presentationRepository,
+                    ConferenceHallRepository conferenceHallRepository,
+                    MeterRegistry meterRegistry,
+                    @Value("${symposium.feed.window:250ms}") Duration window,
+                    @Value("${symposium.feed.heartbeat:15s}") Duration heartbeat,
+                    @Value("${symposium.feed.subscriber-queue:32}") int queueCapacity,
+                    @Value("${symposium.feed.max-subscribers:10000}") int maxSubscribers) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.presentationRepository = presentationRepository;
+        this.conferenceHallRepository = conferenceHallRepository;
+        this.window = window;
+        this.heartbeat = heartbeat;
+        this.queueCapacity = queueCapacity;
+        this.maxSubscribers = maxSubscribers;
+        Gauge.builder("symposium.feed.subscribers", subscribers, Set::size)
+                .description("Connected live feed subscribers")
+                .register(meterRegistry);
+        this.resyncs = Counter.builder("symposium.feed.resyncs")
+                .description("Feed updates dropped for slow subscribers, which were sent a snapshot instead")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Handle to an active subscription; closing it stops delivery and releases the subscriber's
+     * thread.
+     */
+    public interface Subscription extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+    public Subscription subscribe(FeedSink sink) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new FeedUnavailableException(subscribers.size());
+        }
+        FeedSubscriber subscriber = new FeedSubscriber(subscriberIds.incrementAndGet(), sink, this,
+                queueCapacity, heartbeat.toMillis());
+        subscribers.add(subscriber);
+        subscriber.start();
+        subscriber.requestSnapshot();
+        return subscriber;
+    }
+
+    void unsubscribe(FeedSubscriber subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    public FeedUpdateDTO snapshot() {
+        lock.lock();
+        try {
+            List<ScheduleChangeDTO> schedule = slots.values().stream()
+                    .sorted(Comparator.comparing(ScheduleChangeDTO::startTime, Comparator.nullsLast(Comparator.naturalOrder()))
+                            .thenComparing(ScheduleChangeDTO::presentationId))
+                    .toList();
+            List<HallStatusDTO> hallStatus = halls.values().stream()
+                    .sorted(Comparator.comparing(HallStatusDTO::hallId))
+                    .toList();
+            return new FeedUpdateDTO(sequence, true, schedule, hallStatus);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        scheduler.scheduleWithFixedDelay(this::flush, window.toMillis(), window.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+        subscribers.forEach(FeedSubscriber::close);
+    }
+
+    /**
+     * Publishes the changes collected since the previous call as one update; does nothing when
+     * there are none. Called every window by the feed's scheduler.
+     */
+    public void flush() {
+        FeedUpdateDTO update;
+        lock.lock();
+        try {
+            if (pendingSchedule.isEmpty() && pendingHalls.isEmpty()) {
+                return;
+            }
+            List<HallStatusDTO> hallStatus = new ArrayList<>(pendingHalls.size());
+            pendingHalls.forEach((hallId, type) -> {
+                HallStatusDTO hall = type == ChangeType.DELETED ? deletedHalls.get(hallId) : halls.get(hallId);
+                if (hall != null) {
+                    hallStatus.add(new HallStatusDTO(type, hallId, hall.name(), hall.capacity(), hall.occupancy(),
+                            pendingDeltas.getOrDefault(hallId, 0L)));
+                }
+            });
+            update = new FeedUpdateDTO(++sequence, false, List.copyOf(pendingSchedule.values()), hallStatus);
+            pendingSchedule.clear();
+            pendingHalls.clear();
+            pendingDeltas.clear();
+            deletedHalls.clear();
+        } finally {
+            lock.unlock();
+        }
+        for (FeedSubscriber subscriber : subscribers) {
+            if (!subscriber.offer(update)) {
+                resyncs.increment();
+            }
+        }
+    }
+
+    @EventListener({ApplicationReadyEvent.class, BulkImportCompletedEvent.class})
+    public void rebuild() {
+        lock.lock();
+        try {
+            slots.clear();
+            halls.clear();
+            attendeeCounts.clear();
+            pendingSchedule.clear();
+            pendingHalls.clear();
+            pendingDeltas.clear();
+            deletedHalls.clear();
+            jdbcTemplate.query(ATTENDEE_COUNTS_SQL, (RowCallbackHandler) rs -> attendeeCounts.put(rs.getLong(1), rs.getLong(2)));
+            Map<Long, Long> occupancy = new HashMap<>();
+            for (PresentationSlotDTO slot : presentationRepository.findAllSlots()) {
+                slots.put(slot.presentationId(), new ScheduleChangeDTO(ChangeType.CREATED, slot.presentationId(),
+                        slot.topicId(), slot.hallId(), slot.startTime(), slot.durationMinutes()));
+                if (slot.hallId() != null) {
+                    occupancy.merge(slot.hallId(), attendeeCounts.getOrDefault(slot.presentationId(), 0L), Long::sum);
+                }
+            }
+            for (ConferenceHall hall : conferenceHallRepository.findAll()) {
+                halls.put(hall.getId(), new HallStatusDTO(ChangeType.CREATED, hall.getId(), hall.getName(),
+                        hall.getCapacity(), occupancy.getOrDefault(hall.getId(), 0L), 0));
+            }
+            sequence++;
+            log.info("Live feed rebuilt: {} presentations, {} halls", slots.size(), halls.size());
+        } finally {
+            lock.unlock();
+        }
+        subscribers.forEach(FeedSubscriber::requestSnapshot);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPresentationChanged(PresentationChangedEvent event) {
+        lock.lock();
+        try {
+            long presentationId = event.presentationId();
+            ScheduleChangeDTO previous = slots.get(presentationId);
+            Long previousHall = previous == null ? null : previous.hallId();
+            long attendees = attendeeCounts.getOrDefault(presentationId, 0L);
+            ScheduleChangeDTO change = new ScheduleChangeDTO(event.type(), presentationId, event.topicId(),
+                    event.conferenceHallId(), event.startTime(), event.durationMinutes());
+            Long hallId = event.type() == ChangeType.DELETED ? null : event.conferenceHallId();
+            if (event.type() == ChangeType.DELETED) {
+                slots.remove(presentationId);
+                attendeeCounts.remove(presentationId);
+            } else {
+                slots.put(presentationId, new ScheduleChangeDTO(ChangeType.CREATED, presentationId, event.topicId(),
+                        event.conferenceHallId(), event.startTime(), event.durationMinutes()));
+            }
+            if (!Objects.equals(previousHall, hallId)) {
+                adjustOccupancy(previousHall, -attendees);
+                adjustOccupancy(hallId, attendees);
+            }
+            pendingSchedule.compute(presentationId, (id, pending) -> coalesce(pending, change));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAttendanceChanged(AttendanceChangedEvent event) {
+        long delta = event.joined().size() - event.left().size();
+        if (delta != 0) {
+            updateAttendeeCount(event.presentationId(), count -> count + delta);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPresentationAttendeesChanged(PresentationAttendeesChangedEvent event) {
+        updateAttendeeCount(event.presentationId(), count -> event.participantIds().size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onConferenceHallChanged(ConferenceHallChangedEvent event) {
+        lock.lock();
+        try {
+            long hallId = event.hallId();
+            HallStatusDTO previous = halls.get(hallId);
+            long occupancy = previous == null ? 0 : previous.occupancy();
+            HallStatusDTO hall = new HallStatusDTO(ChangeType.CREATED, hallId, event.name(), event.capacity(), occupancy, 0);
+            if (event.type() == ChangeType.DELETED) {
+                halls.remove(hallId);
+                deletedHalls.put(hallId, hall);
+            } else {
+                halls.put(hallId, hall);
+            }
+            ChangeType pending = pendingHalls.get(hallId);
+            if (pending == ChangeType.CREATED && event.type() == ChangeType.DELETED) {
+                pendingHalls.remove(hallId);
+                pendingDeltas.remove(hallId);
+            } else if (pending != ChangeType.CREATED) {
+                pendingHalls.put(hallId, event.type());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void updateAttendeeCount(long presentationId, LongUnaryOperator update) {
+        lock.lock();
+        try {
+            long previous = attendeeCounts.getOrDefault(presentationId, 0L);
+            long next = Math.max(0, update.applyAsLong(previous));
+            if (next == 0) {
+                attendeeCounts.remove(presentationId);
+            } else {
+                attendeeCounts.put(presentationId, next);
+            }
+            ScheduleChangeDTO slot = slots.get(presentationId);
+            if (slot != null) {
+                adjustOccupancy(slot.hallId(), next - previous);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void adjustOccupancy(Long hallId, long delta) {
+        if (hallId == null || delta == 0) {
+            return;
+        }
+        HallStatusDTO hall = halls.get(hallId);
+        if (hall == null) {
+            return;
+        }
+        halls.put(hallId, new HallStatusDTO(ChangeType.CREATED, hallId, hall.name(), hall.capacity(),
+                hall.occupancy() + delta, 0));
+        pendingDeltas.merge(hallId, delta, Long::sum);
+        pendingHalls.putIfAbsent(hallId, ChangeType.UPDATED);
+    }
+
+    private static ScheduleChangeDTO coalesce(ScheduleChangeDTO pending, ScheduleChangeDTO change) {
+        if (pending == null || pending.type() != ChangeType.CREATED) {
+            return change;
+        }
+        if (change.type() == ChangeType.DELETED) {
+            return null;
+        }
+        return new ScheduleChangeDTO(ChangeType.CREATED, change.presentationId(), change.topicId(), change.hallId(),
+                change.startTime(), change.durationMinutes());
+    }
+}
@@ -0,0 +1,101 @@
+package pl.juhas.symposium.io;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes an iCalendar (RFC 5545) document one event at a time. Times are written as floating
+ * local times, the same way the schedule stores them; lines are folded at 75 octets.
+ */
+public class CalendarWriter implements Closeable {
+
+    public static final String MEDIA_TYPE = "text/calendar";
+
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final DateTimeFormatter LOCAL_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter UTC_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'")
+            .withZone(ZoneOffset.UTC);
+
+    private final Writer writer;
+    private final String stamp;
+
+    public CalendarWriter(OutputStream out, String name) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        this.stamp = UTC_TIME.format(Instant.now());
+        line("BEGIN:VCALENDAR");
+        line("VERSION:2.0");
+        line("PRODID:-//Symposium//Agenda//EN");
+        line("CALSCALE:GREGORIAN");
+        line("X-WR-CALNAME:" + text(name));
+    }
+
+    public void event(String uid, LocalDateTime start, LocalDateTime end, String summary, String location,
+                      String category) throws IOException {
+        line("BEGIN:VEVENT");
+        line("UID:" + uid);
+        line("DTSTAMP:" + stamp);
+        line("DTSTART:" + LOCAL_TIME.format(start));
+        line("DTEND:" + LOCAL_TIME.format(end));
+        if (summary != null) {
+            line("SUMMARY:" + text(summary));
+        }
+        if (location != null) {
+            line("LOCATION:" + text(location));
+        }
+        if (category != null) {
+            line("CATEGORIES:" + text(category));
+        }
+        line("END:VEVENT");
+    }
+
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        line("END:VCALENDAR");
+        writer.flush();
+    }
+
+    private void line(String content) throws IOException {
+        int octets = 0;
+        for (int i = 0; i < content.length(); ) {
+            int codePoint = content.codePointAt(i);
+            int chars = Character.charCount(codePoint);
+            int size = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : chars == 1 ? 3 : 4;
+            if (octets + size > MAX_LINE_OCTETS) {
+                writer.write("\r\n ");
+                octets = 1;
+            }
+            writer.write(content, i, chars);
+            octets += size;
+            i += chars;
+        }
+        writer.write("\r\n");
+    }
+
+    private static String text(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\', ';', ',' -> escaped.append('\\').append(c);
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> {
+                }
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,37 @@
+package pl.juhas.symposium.io;
+
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import org.springframework.stereotype.Component;
+import pl.juhas.symposium.dto.ParticipantDTO;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Counterpart of {@link ParticipantImportReader}: writes participants one row at a time
+ * in a format the bulk registration endpoint can read back.
+ */
+@Component
+public class ParticipantExportWriter {
+
+    private final ObjectWriter ndjsonWriter;
+    private final ObjectWriter csvWriter;
+
+    public ParticipantExportWriter(ObjectMapper objectMapper) {
+        this.ndjsonWriter = objectMapper.writerFor(ParticipantDTO.class).withRootValueSeparator("\n");
+        CsvMapper csvMapper = CsvMapper.builder().disable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY).build();
+        this.csvWriter = csvMapper.writerFor(ParticipantDTO.class)
+                .with(csvMapper.schemaFor(ParticipantDTO.class).withHeader());
+    }
+
+    public SequenceWriter open(OutputStream out, ParticipantFormat format) throws IOException {
+        return switch (format) {
+            case CSV -> csvWriter.writeValues(out);
+            case NDJSON -> ndjsonWriter.writeValues(out);
+        };
+    }
+}
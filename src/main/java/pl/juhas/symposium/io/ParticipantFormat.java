@@ -0,0 +1,27 @@
+package pl.juhas.symposium.io;
+
+import org.springframework.http.MediaType;
+
+public enum ParticipantFormat {
+    CSV("text/csv"),
+    NDJSON("application/x-ndjson");
+
+    private final MediaType mediaType;
+
+    ParticipantFormat(String mediaType) {
+        this.mediaType = MediaType.parseMediaType(mediaType);
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public static ParticipantFormat of(MediaType mediaType) {
+        for (ParticipantFormat format : values()) {
+            if (format.mediaType.isCompatibleWith(mediaType)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported participant format: " + mediaType);
+    }
+}
@@ -0,0 +1,40 @@
+package pl.juhas.symposium.io;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import org.springframework.stereotype.Component;
+import pl.juhas.symposium.dto.ParticipantDTO;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads participants one row at a time from a CSV (with a header line) or NDJSON stream,
+ * so an import never holds more than a single row of the upload in memory.
+ */
+@Component
+public class ParticipantImportReader {
+
+    private final ObjectReader ndjsonReader;
+    private final ObjectReader csvReader;
+
+    public ParticipantImportReader(ObjectMapper objectMapper) {
+        this.ndjsonReader = objectMapper.readerFor(ParticipantDTO.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.csvReader = new CsvMapper().readerFor(ParticipantDTO.class)
+                .with(CsvSchema.emptySchema().withHeader())
+                .with(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    public MappingIterator<ParticipantDTO> read(InputStream in, ParticipantFormat format) throws IOException {
+        return switch (format) {
+            case CSV -> csvReader.readValues(in);
+            case NDJSON -> ndjsonReader.readValues(in);
+        };
+    }
+}
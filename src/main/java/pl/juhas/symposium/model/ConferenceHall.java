@@ -5,6 +5,9 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.With;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import pl.juhas.symposium.config.SecondLevelCacheConfig;
 
 import java.util.List;
 
@@ -13,16 +16,25 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.CONFERENCE_HALL_REGION)
 @Table(name = "conference_hall")
 public class ConferenceHall {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "conference_hall_seq")
+    @SequenceGenerator(name = "conference_hall_seq", sequenceName = "conference_hall_seq", allocationSize = 50)
     private Long id;
 
     private String name;
 
-    @ManyToOne
+    /**
+     * Seats per presentation held in this hall; {@code null} means unlimited.
+     */
+    @Column(name = "capacity")
+    private Integer capacity;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "hotel_id")
     private Hotel hotel;
 
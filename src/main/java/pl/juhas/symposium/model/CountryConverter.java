@@ -0,0 +1,12 @@
+package pl.juhas.symposium.model;
+
+import jakarta.persistence.Converter;
+import pl.juhas.symposium.enums.Country;
+
+@Converter
+public class CountryConverter extends EnumCodeConverter<Country> {
+
+    public CountryConverter() {
+        super(Country.class);
+    }
+}
@@ -0,0 +1,27 @@
+package pl.juhas.symposium.model;
+
+import jakarta.persistence.AttributeConverter;
+import pl.juhas.symposium.enums.CodedEnum;
+import pl.juhas.symposium.enums.EnumCodes;
+
+/**
+ * Stores a {@link CodedEnum} as its code in a {@code smallint} column.
+ */
+abstract class EnumCodeConverter<E extends Enum<E> & CodedEnum> implements AttributeConverter<E, Short> {
+
+    private final E[] byCode;
+
+    EnumCodeConverter(Class<E> type) {
+        this.byCode = EnumCodes.byCode(type.getEnumConstants());
+    }
+
+    @Override
+    public Short convertToDatabaseColumn(E attribute) {
+        return attribute == null ? null : (short) attribute.code();
+    }
+
+    @Override
+    public E convertToEntityAttribute(Short code) {
+        return code == null ? null : EnumCodes.fromCode(byCode, code);
+    }
+}
@@ -4,11 +4,16 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import lombok.With;
 import pl.juhas.symposium.enums.Country;
 import pl.juhas.symposium.enums.Role;
 import java.util.List;
 
+/**
+ * Equal by id, so participants can sit in the presenter and attendee sets before and after they are
+ * persisted; a participant without an id is only equal to itself.
+ */
 @Data
 @With
 @AllArgsConstructor
@@ -18,7 +23,8 @@ import java.util.List;
 public class Participant {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "participant_seq")
+    @SequenceGenerator(name = "participant_seq", sequenceName = "participant_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "first_name", nullable = false)
@@ -30,13 +36,24 @@ public class Participant {
     @Column(name = "email", unique = true)
     private String email;
 
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = RoleConverter.class)
     private Role role;
 
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = CountryConverter.class)
     private Country country;
 
     @ManyToMany(mappedBy = "participants")
+    @ToString.Exclude
     List<Presentation> presentations;
 
+    @Override
+    public boolean equals(Object other) {
+        return this == other || other instanceof Participant participant && id != null && id.equals(participant.getId());
+    }
+
+    // Constant, since the id is only assigned on persist
+    @Override
+    public int hashCode() {
+        return Participant.class.hashCode();
+    }
 }
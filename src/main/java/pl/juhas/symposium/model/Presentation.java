@@ -4,45 +4,83 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import lombok.With;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.format.annotation.DateTimeFormat;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.Set;
 
+/**
+ * Equal by id like {@link Participant}; a presentation without an id is only equal to itself.
+ */
 @Data
 @With
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "presentation", uniqueConstraints = {
-        @UniqueConstraint(columnNames = {"topic_id", "start_time"}),
-        @UniqueConstraint(columnNames = {"conference_hall_id", "start_time"})})
+@Table(name = "presentation", uniqueConstraints =
+        @UniqueConstraint(name = "uk_presentation_hall_start", columnNames = {"conference_hall_id", "start_time"}))
 public class Presentation {
 
+    public static final Duration DEFAULT_DURATION = Duration.ofHours(1);
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "presentation_seq")
+    @SequenceGenerator(name = "presentation_seq", sequenceName = "presentation_seq", allocationSize = 50)
     private Long id;
 
 
-    @OneToOne
+    /**
+     * Optimistic lock, also raised by attendee changes made through {@link #participants}; rows
+     * inserted with SQL start at 0.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "topic_id", referencedColumnName = "id", unique = true) // One topic can be presented only once
+    @ToString.Exclude
     private Topic topic;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "conference_hall_id", referencedColumnName = "id")
+    @ToString.Exclude
     private ConferenceHall conferenceHall;
 
     @ManyToMany
+    @ToString.Exclude
     @JoinTable(
             name = "presentation_participants",
             joinColumns = @JoinColumn(name = "presentation_id"),
             inverseJoinColumns = @JoinColumn(name = "participant_id")
     )
-    private List<Participant> participants;
+    private Set<Participant> participants;
 
 
     @JoinColumn(name = "start_time")
     @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm")
     private LocalDateTime startTime;
+
+    @Column(name = "duration_minutes", nullable = false)
+    private int durationMinutes = (int) DEFAULT_DURATION.toMinutes();
+
+    public LocalDateTime getEndTime() {
+        return startTime == null ? null : startTime.plusMinutes(durationMinutes);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || other instanceof Presentation presentation && id != null && id.equals(presentation.getId());
+    }
+
+    // Constant, since the id is only assigned on persist
+    @Override
+    public int hashCode() {
+        return Presentation.class.hashCode();
+    }
 }
@@ -0,0 +1,34 @@
+package pl.juhas.symposium.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * Seat counter of one presentation, kept in its own row so seat reservations never lock the
+ * {@code presentation} row itself. Maintained with SQL by
+ * {@link pl.juhas.symposium.service.EnrollmentService}; created on the first enrollment.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "presentation_seats")
+public class PresentationSeats {
+
+    @Id
+    @Column(name = "presentation_id")
+    private Long presentationId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "presentation_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Presentation presentation;
+
+    @Column(name = "taken", nullable = false)
+    private int taken;
+}
@@ -0,0 +1,12 @@
+package pl.juhas.symposium.model;
+
+import jakarta.persistence.Converter;
+import pl.juhas.symposium.enums.Role;
+
+@Converter
+public class RoleConverter extends EnumCodeConverter<Role> {
+
+    public RoleConverter() {
+        super(Role.class);
+    }
+}
@@ -0,0 +1,41 @@
+package pl.juhas.symposium.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * A participant waiting for a seat in a full presentation. Entries are promoted in id order, so
+ * ids are taken one at a time from the sequence when rows are inserted with SQL.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "waitlist_entry", uniqueConstraints = @UniqueConstraint(
+        name = "uk_waitlist_entry_presentation_participant", columnNames = {"presentation_id", "participant_id"}))
+public class WaitlistEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "waitlist_entry_seq")
+    @SequenceGenerator(name = "waitlist_entry_seq", sequenceName = "waitlist_entry_seq", allocationSize = 1)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "presentation_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Presentation presentation;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "participant_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Participant participant;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
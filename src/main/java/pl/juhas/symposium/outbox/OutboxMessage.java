@@ -0,0 +1,21 @@
+package pl.juhas.symposium.outbox;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.ResolvableTypeProvider;
+import pl.juhas.symposium.enums.AggregateType;
+
+import java.time.LocalDateTime;
+
+/**
+ * A change relayed from the outbox. Listeners can subscribe to one kind of change by declaring the
+ * payload type, e.g. {@code @EventListener void on(OutboxMessage<ParticipantChangedEvent> message)}.
+ * Delivery is at least once: a listener may see the same {@code id} again and should be idempotent.
+ */
+public record OutboxMessage<T>(long id, AggregateType aggregateType, long aggregateId, T payload,
+                               LocalDateTime createdAt) implements ResolvableTypeProvider {
+
+    @Override
+    public ResolvableType getResolvableType() {
+        return ResolvableType.forClassWithGenerics(OutboxMessage.class, ResolvableType.forInstance(payload));
+    }
+}
@@ -0,0 +1,129 @@
+package pl.juhas.symposium.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import pl.juhas.symposium.enums.AggregateType;
+import pl.juhas.symposium.event.*;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Writes participant, presentation and topic change events to {@code outbox_event} in the
+ * transaction that made the change. Events are collected per Hibernate session while it flushes
+ * and inserted as one JDBC batch by a {@link BeforeTransactionCompletionProcess}, i.e. after the
+ * final flush and before the commit, so a change and its outbox rows commit or roll back together.
+ * Bulk imports write their outbox rows in SQL; synthetic loads record a {@link BulkCreatedEvent}.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxRecorder {
+
+    static final Map<String, Class<?>> EVENT_TYPES = Stream.of(ParticipantChangedEvent.class,
+                    PresentationChangedEvent.class, PresentationAttendeesChangedEvent.class, AttendanceChangedEvent.class,
+                    TopicChangedEvent.class, TopicPresentersChangedEvent.class, BulkCreatedEvent.class)
+            .collect(Collectors.toUnmodifiableMap(Class::getSimpleName, Function.identity()));
+
+    private static final String INSERT_SQL = """
+            INSERT INTO outbox_event (id, aggregate_type, aggregate_id, event_type, payload, created_at, attempts)
+            VALUES (nextval('outbox_event_seq'), ?, ?, ?, ?::jsonb, ?, 0)
+            """;
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Map<SessionImplementor, PendingRecords> pending = new ConcurrentHashMap<>();
+
+    @EventListener({ParticipantChangedEvent.class, PresentationChangedEvent.class,
+            PresentationAttendeesChangedEvent.class, AttendanceChangedEvent.class, TopicChangedEvent.class,
+            TopicPresentersChangedEvent.class, BulkCreatedEvent.class})
+    public void record(Object event) {
+        OutboxRecord record = switch (event) {
+            case ParticipantChangedEvent e -> record(AggregateType.PARTICIPANT, e.participantId(), e);
+            case PresentationChangedEvent e -> record(AggregateType.PRESENTATION, e.presentationId(), e);
+            case PresentationAttendeesChangedEvent e -> record(AggregateType.PRESENTATION, e.presentationId(), e);
+            case AttendanceChangedEvent e -> record(AggregateType.PRESENTATION, e.presentationId(), e);
+            case TopicChangedEvent e -> record(AggregateType.TOPIC, e.topicId(), e);
+            case TopicPresentersChangedEvent e -> record(AggregateType.TOPIC, e.topicId(), e);
+            case BulkCreatedEvent e -> record(e.aggregateType(), 0, e);
+            default -> throw new IllegalArgumentException("Not an outbox event: " + event.getClass().getName());
+        };
+        EntityManager entityManager = TransactionSynchronizationManager.isActualTransactionActive()
+                ? EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory) : null;
+        if (entityManager == null) {
+            jdbcTemplate.update(INSERT_SQL, record.aggregateType().name(), record.aggregateId(), record.eventType(),
+                    record.payload(), Timestamp.valueOf(record.createdAt()));
+            return;
+        }
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        pending.computeIfAbsent(session, this::register).records.add(record);
+    }
+
+    private PendingRecords register(SessionImplementor session) {
+        PendingRecords records = new PendingRecords();
+        session.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) records);
+        session.getActionQueue().registerProcess((AfterTransactionCompletionProcess) records);
+        return records;
+    }
+
+    private OutboxRecord record(AggregateType aggregateType, long aggregateId, Object event) {
+        try {
+            return new OutboxRecord(aggregateType, aggregateId, event.getClass().getSimpleName(),
+                    objectMapper.writeValueAsString(event), LocalDateTime.now());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize " + event, e);
+        }
+    }
+
+    private record OutboxRecord(AggregateType aggregateType, long aggregateId, String eventType, String payload,
+                                LocalDateTime createdAt) {
+    }
+
+    private final class PendingRecords implements BeforeTransactionCompletionProcess, AfterTransactionCompletionProcess {
+
+        private final List<OutboxRecord> records = new ArrayList<>();
+
+        @Override
+        public void doBeforeTransactionCompletion(SessionImplementor session) {
+            pending.remove(session);
+            session.doWork(connection -> {
+                try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL)) {
+                    for (OutboxRecord record : records) {
+                        statement.setString(1, record.aggregateType().name());
+                        statement.setLong(2, record.aggregateId());
+                        statement.setString(3, record.eventType());
+                        statement.setString(4, record.payload());
+                        statement.setTimestamp(5, Timestamp.valueOf(record.createdAt()));
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                }
+            });
+        }
+
+        @Override
+        public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor session) {
+            pending.remove(session);
+        }
+    }
+}
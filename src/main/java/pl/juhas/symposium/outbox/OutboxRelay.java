@@ -0,0 +1,243 @@
+package pl.juhas.symposium.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import pl.juhas.symposium.enums.AggregateType;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains {@code outbox_event} in id order and publishes every row as an {@link OutboxMessage} to
+ * in-process listeners. A batch is read, dispatched and deleted in one transaction holding a
+ * PostgreSQL advisory lock, so only one relay (per database) drains at a time and changes to an
+ * aggregate are delivered in the order they were committed. A listener that throws leaves the row
+ * in place with its attempt count raised, to be retried with exponential backoff; later rows of the
+ * same aggregate wait behind it and are left out of the batches, so rows of other aggregates are
+ * still delivered however many rows are waiting. A row that fails {@code symposium.outbox.max-attempts}
+ * times is moved to {@code outbox_dead_letter} and the rows behind it are delivered again. Listeners
+ * run inside the relay's transaction and should
+ * start their own ({@code REQUIRES_NEW}) if they write to the database. With
+ * {@code symposium.outbox.relay.enabled=false} an instance records changes but leaves delivery to
+ * the others.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final long LOCK_KEY = 0x6f7574626f78L;
+
+    private static final String SELECT_SQL = """
+            SELECT e.id, e.aggregate_type, e.aggregate_id, e.event_type, e.payload, e.created_at, e.attempts
+            FROM outbox_event e
+            WHERE (e.attempts = 0 OR e.next_attempt_at <= localtimestamp)
+              AND NOT EXISTS (SELECT 1 FROM outbox_event f
+                              WHERE f.aggregate_type = e.aggregate_type AND f.aggregate_id = e.aggregate_id
+                                AND f.attempts > 0 AND f.id < e.id)
+            ORDER BY e.id
+            LIMIT ?
+            """;
+
+    private static final String DELETE_SQL = "DELETE FROM outbox_event WHERE id = ANY(?)";
+
+    private static final String FAILED_SQL = """
+            UPDATE outbox_event
+            SET attempts = attempts + 1, last_error = left(?, 1000),
+                next_attempt_at = localtimestamp + ?::double precision * interval '1 millisecond'
+            WHERE id = ?
+            """;
+
+    private static final String PARK_SQL = """
+            WITH parked AS (DELETE FROM outbox_event WHERE id = ? RETURNING *)
+            INSERT INTO outbox_dead_letter (id, aggregate_type, aggregate_id, event_type, payload, created_at,
+                                            attempts, last_error, parked_at)
+            SELECT id, aggregate_type, aggregate_id, event_type, payload, created_at, attempts + 1, left(?, 1000),
+                   localtimestamp
+            FROM parked
+            """;
+
+    private static final String BACKLOG_SQL = """
+            SELECT count(*), min(created_at), (SELECT count(*) FROM outbox_dead_letter) FROM outbox_event
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher publisher;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final int maxAttempts;
+    private final Duration maxBackoff;
+    private final boolean enabled;
+    private final Timer deliveryLag;
+    private final Counter failures;
+    private final Counter deadLetters;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong parked = new AtomicLong();
+    private final AtomicLong oldestMillis = new AtomicLong();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("outbox-relay").daemon().factory());
+
+    public OutboxRelay(JdbcTemplate jdbcTemplate,
+                       TransactionTemplate transactionTemplate,
+                       ApplicationEventPublisher publisher,
+                       ObjectMapper objectMapper,
+                       MeterRegistry meterRegistry,
+                       @Value("${symposium.outbox.batch-size:500}") int batchSize,
+                       @Value("${symposium.outbox.poll-interval:200ms}") Duration pollInterval,
+                       @Value("${symposium.outbox.max-attempts:10}") int maxAttempts,
+                       @Value("${symposium.outbox.max-backoff:5m}") Duration maxBackoff,
+                       @Value("${symposium.outbox.relay.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.publisher = publisher;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.maxAttempts = maxAttempts;
+        this.maxBackoff = maxBackoff;
+        this.enabled = enabled;
+        this.deliveryLag = Timer.builder("symposium.outbox.delivery.lag")
+                .description("Time from writing an outbox row to delivering it")
+                .register(meterRegistry);
+        this.failures = Counter.builder("symposium.outbox.failures")
+                .description("Outbox deliveries that failed and will be retried")
+                .register(meterRegistry);
+        this.deadLetters = Counter.builder("symposium.outbox.dead.letters")
+                .description("Outbox rows moved to the dead letter table after their last attempt")
+                .register(meterRegistry);
+        Gauge.builder("symposium.outbox.pending", pending, AtomicLong::get)
+                .description("Outbox rows not yet delivered")
+                .register(meterRegistry);
+        Gauge.builder("symposium.outbox.lag", oldestMillis, millis -> millis.get() / 1000.0)
+                .description("Age of the oldest undelivered outbox row")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("symposium.outbox.parked", parked, AtomicLong::get)
+                .description("Outbox rows in the dead letter table")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        scheduler.scheduleWithFixedDelay(this::poll, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Delivers batches until no deliverable rows are left or another relay holds the lock; returns
+     * the number of rows delivered. Failed rows are not read again before their backoff has passed.
+     */
+    public int drain() {
+        int delivered = 0;
+        Batch batch;
+        do {
+            batch = transactionTemplate.execute(status -> relayBatch());
+            delivered += batch.delivered();
+        } while (batch.read() == batchSize);
+        return delivered;
+    }
+
+    private void poll() {
+        try {
+            drain();
+            jdbcTemplate.query(BACKLOG_SQL, rs -> {
+                pending.set(rs.getLong(1));
+                LocalDateTime oldest = rs.getObject(2, LocalDateTime.class);
+                oldestMillis.set(oldest == null ? 0 : Duration.between(oldest, LocalDateTime.now()).toMillis());
+                parked.set(rs.getLong(3));
+            });
+        } catch (RuntimeException e) {
+            log.warn("Outbox relay failed", e);
+        }
+    }
+
+    private Batch relayBatch() {
+        if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class, LOCK_KEY))) {
+            return new Batch(0, 0, 0);
+        }
+        List<OutboxRow> rows = jdbcTemplate.query(SELECT_SQL, (rs, row) -> new OutboxRow(rs.getLong("id"),
+                AggregateType.valueOf(rs.getString("aggregate_type")), rs.getLong("aggregate_id"),
+                rs.getString("event_type"), rs.getString("payload"), rs.getObject("created_at", LocalDateTime.class),
+                rs.getInt("attempts")), batchSize);
+        List<Long> delivered = new ArrayList<>(rows.size());
+        Set<String> blocked = new HashSet<>();
+        int failed = 0;
+        for (OutboxRow row : rows) {
+            String aggregate = row.aggregateType() + ":" + row.aggregateId();
+            if (blocked.contains(aggregate)) {
+                continue;
+            }
+            try {
+                Class<?> type = OutboxRecorder.EVENT_TYPES.get(row.eventType());
+                if (type == null) {
+                    throw new IllegalStateException("Unknown outbox event type " + row.eventType());
+                }
+                Object payload = objectMapper.readValue(row.payload(), type);
+                publisher.publishEvent(new OutboxMessage<>(row.id(), row.aggregateType(), row.aggregateId(), payload,
+                        row.createdAt()));
+                delivered.add(row.id());
+                deliveryLag.record(Duration.between(row.createdAt(), LocalDateTime.now()));
+            } catch (Exception e) {
+                blocked.add(aggregate);
+                failed++;
+                if (row.attempts() + 1 >= maxAttempts) {
+                    log.error("Giving up on outbox event {} ({} {}) after {} attempts", row.id(), row.eventType(),
+                            aggregate, row.attempts() + 1, e);
+                    deadLetters.increment();
+                    jdbcTemplate.update(PARK_SQL, row.id(), String.valueOf(e));
+                } else {
+                    log.warn("Delivering outbox event {} ({} {}) failed", row.id(), row.eventType(), aggregate, e);
+                    failures.increment();
+                    jdbcTemplate.update(FAILED_SQL, String.valueOf(e), backoff(row.attempts()).toMillis(), row.id());
+                }
+            }
+        }
+        if (!delivered.isEmpty()) {
+            jdbcTemplate.update(DELETE_SQL, (Object) delivered.toArray(Long[]::new));
+        }
+        return new Batch(rows.size(), delivered.size(), failed);
+    }
+
+    /**
+     * The poll interval doubled for every earlier failure, capped at {@code symposium.outbox.max-backoff}.
+     */
+    private Duration backoff(int attempts) {
+        Duration backoff = pollInterval.multipliedBy(1L << Math.min(attempts, 30));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private record OutboxRow(long id, AggregateType aggregateType, long aggregateId, String eventType, String payload,
+                             LocalDateTime createdAt, int attempts) {
+    }
+
+    private record Batch(int read, int delivered, int failed) {
+    }
+}
@@ -1,8 +1,37 @@
 package pl.juhas.symposium.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
+import pl.juhas.symposium.dto.HallUtilizationDTO;
 import pl.juhas.symposium.model.ConferenceHall;
 
+import java.util.List;
+
 public interface ConferenceHallRepository extends JpaRepository<ConferenceHall, Long> {
 
+    // Cacheable queries are not read-only, so with read replicas they run on the primary and may
+    // fill the cache, see ReadReplicaConfig
+    @Override
+    @Transactional
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    List<ConferenceHall> findAll();
+
+    @Transactional
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    List<ConferenceHall> findByHotelId(Long hotelId);
+
+    @Query("""
+    SELECT new pl.juhas.symposium.dto.HallUtilizationDTO(h.id, h.name, ho.name, COUNT(p),
+        MIN(p.startTime), MAX(p.startTime), SUM(p.durationMinutes), COUNT(DISTINCT CAST(p.startTime AS LocalDate)))
+    FROM ConferenceHall h
+    LEFT JOIN h.hotel ho
+    LEFT JOIN h.presentation p
+    GROUP BY h.id, h.name, ho.name
+    ORDER BY ho.name, h.name, h.id
+    """)
+    List<HallUtilizationDTO> findHallUtilization();
 }
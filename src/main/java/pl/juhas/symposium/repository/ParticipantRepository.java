@@ -1,21 +1,72 @@
 package pl.juhas.symposium.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import pl.juhas.symposium.dto.ParticipantDTO;
+import pl.juhas.symposium.enums.Country;
+import pl.juhas.symposium.enums.Role;
 import pl.juhas.symposium.model.Participant;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 
 public interface ParticipantRepository extends JpaRepository<Participant, Long> {
 
-    @Query("SELECT new pl.juhas.symposium.dto.ParticipantDTO(p.firstName, p.lastName, p.email, p.role, p.country) " + "FROM Participant p " + "ORDER BY p.role")
+    @Query("SELECT new pl.juhas.symposium.dto.ParticipantDTO(p.id, p.firstName, p.lastName, p.email, p.role, p.country) " + "FROM Participant p " + "ORDER BY p.role")
     List<ParticipantDTO> findAllParticipantsOrderedByRoles();
 
 
-    @Query("SELECT new pl.juhas.symposium.dto.ParticipantDTO(p.firstName, p.lastName, p.email, p.role, p.country) " + "FROM Participant p")
+    @Query("SELECT new pl.juhas.symposium.dto.ParticipantDTO(p.id, p.firstName, p.lastName, p.email, p.role, p.country) " + "FROM Participant p")
     List<ParticipantDTO> findAllAsDto();
 
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT new pl.juhas.symposium.dto.ParticipantDTO(p.id, p.firstName, p.lastName, p.email, p.role, p.country) " + "FROM Participant p " + "ORDER BY p.role")
+    Stream<ParticipantDTO> streamAllParticipantsOrderedByRoles();
 
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT new pl.juhas.symposium.dto.ParticipantDTO(p.id, p.firstName, p.lastName, p.email, p.role, p.country) " + "FROM Participant p")
+    Stream<ParticipantDTO> streamAllAsDto();
+
+    /**
+     * Participants per stored role code; grouping on the codes keeps the enum conversion out of the
+     * rows, see {@link pl.juhas.symposium.enums.EnumCounts}.
+     */
+    @Query(value = "SELECT role AS code, count(*) AS count FROM participant WHERE role IS NOT NULL GROUP BY role",
+            nativeQuery = true)
+    List<CodeCount> countByRole();
+
+    @Query(value = "SELECT country AS code, count(*) AS count FROM participant WHERE country IS NOT NULL GROUP BY country",
+            nativeQuery = true)
+    List<CodeCount> countByCountry();
+
+    @Query("SELECT new pl.juhas.symposium.dto.ParticipantDTO(p.id, p.firstName, p.lastName, p.email, p.role, p.country) " + "FROM Participant p " + "WHERE p.role = :role AND p.id > :afterId " + "ORDER BY p.id")
+    List<ParticipantDTO> findByRoleAfter(Role role, long afterId, Pageable pageable);
+
+    @Query("SELECT new pl.juhas.symposium.dto.ParticipantDTO(p.id, p.firstName, p.lastName, p.email, p.role, p.country) " + "FROM Participant p " + "WHERE p.country = :country AND p.id > :afterId " + "ORDER BY p.id")
+    List<ParticipantDTO> findByCountryAfter(Country country, long afterId, Pageable pageable);
+
+    @Query("SELECT new pl.juhas.symposium.dto.ParticipantDTO(p.id, p.firstName, p.lastName, p.email, p.role, p.country) " + "FROM Participant p " + "WHERE p.role IS NOT NULL " + "ORDER BY p.role, p.id")
+    List<ParticipantDTO> findPageOrderedByRole(Pageable pageable);
+
+    @Query("SELECT new pl.juhas.symposium.dto.ParticipantDTO(p.id, p.firstName, p.lastName, p.email, p.role, p.country) " + "FROM Participant p " + "WHERE p.role >= :role AND (p.role, p.id) > (:role, :afterId) " + "ORDER BY p.role, p.id")
+    List<ParticipantDTO> findPageOrderedByRoleAfter(Role role, long afterId, Pageable pageable);
+
+    @Query("SELECT new pl.juhas.symposium.dto.ParticipantDTO(p.id, p.firstName, p.lastName, p.email, p.role, p.country) " + "FROM Participant p " + "WHERE p.role IS NULL AND p.id > :afterId " + "ORDER BY p.id")
+    List<ParticipantDTO> findPageWithoutRoleAfter(long afterId, Pageable pageable);
+
+    interface CodeCount {
+
+        short getCode();
+
+        long getCount();
+    }
 }
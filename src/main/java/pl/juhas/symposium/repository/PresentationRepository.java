@@ -4,11 +4,17 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import pl.juhas.symposium.dto.PresentationDTO;
+import pl.juhas.symposium.dto.PresentationSlotDTO;
+import pl.juhas.symposium.dto.PresentationTopicDTO;
+import pl.juhas.symposium.dto.PresenterAssignmentDTO;
+import pl.juhas.symposium.dto.ScheduleRowDTO;
 import pl.juhas.symposium.dto.SpeakerStatsDTO;
 import pl.juhas.symposium.model.ConferenceHall;
 import pl.juhas.symposium.model.Presentation;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface PresentationRepository extends JpaRepository<Presentation, Long> {
 
@@ -26,8 +32,131 @@ public interface PresentationRepository extends JpaRepository<Presentation, Long
     long countPresentationsByConferenceHall(ConferenceHall conferenceHall);
 
     @Query("""
-        SELECT new pl.juhas.symposium.dto.PresentationDTO(p.topic.name, p.startTime)
+        SELECT new pl.juhas.symposium.dto.PresentationDTO(p.id, p.topic.name, p.startTime)
         FROM Presentation p
     """)
     List<PresentationDTO> findAllAsDto();
+
+    @Query("""
+        SELECT new pl.juhas.symposium.dto.PresentationTopicDTO(p.id, t.id)
+        FROM Presentation p
+        JOIN p.topic t
+    """)
+    List<PresentationTopicDTO> findAllPresentationTopics();
+
+    @Query("""
+        SELECT new pl.juhas.symposium.dto.PresentationSlotDTO(p.id, t.id, h.id, p.startTime, p.durationMinutes)
+        FROM Presentation p
+        LEFT JOIN p.topic t
+        LEFT JOIN p.conferenceHall h
+        WHERE p.startTime IS NOT NULL
+    """)
+    List<PresentationSlotDTO> findAllSlots();
+
+    @Query("""
+        SELECT new pl.juhas.symposium.dto.PresentationDTO(p.id, t.name, p.startTime)
+        FROM Presentation p
+        LEFT JOIN p.topic t
+        WHERE p.startTime IS NOT NULL
+        ORDER BY p.startTime, p.id
+    """)
+    List<PresentationDTO> findPageOrderedByStartTime(Pageable pageable);
+
+    @Query("""
+        SELECT new pl.juhas.symposium.dto.PresentationDTO(p.id, t.name, p.startTime)
+        FROM Presentation p
+        LEFT JOIN p.topic t
+        WHERE p.startTime IS NOT NULL AND (p.startTime, p.id) > (:startTime, :afterId)
+        ORDER BY p.startTime, p.id
+    """)
+    List<PresentationDTO> findPageOrderedByStartTimeAfter(LocalDateTime startTime, long afterId, Pageable pageable);
+
+    @Query("""
+        SELECT new pl.juhas.symposium.dto.PresentationDTO(p.id, t.name, p.startTime)
+        FROM Presentation p
+        LEFT JOIN p.topic t
+        WHERE p.startTime IS NULL AND p.id > :afterId
+        ORDER BY p.id
+    """)
+    List<PresentationDTO> findPageWithoutStartTimeAfter(long afterId, Pageable pageable);
+
+    @Query("""
+        SELECT new pl.juhas.symposium.dto.ScheduleRowDTO(p.id, p.startTime, t.id, t.name, h.id, h.name, ho.name, SIZE(p.participants))
+        FROM Presentation p
+        LEFT JOIN p.topic t
+        LEFT JOIN p.conferenceHall h
+        LEFT JOIN h.hotel ho
+        ORDER BY p.startTime, h.name, p.id
+    """)
+    List<ScheduleRowDTO> findScheduleRows();
+
+    @Query("""
+        SELECT new pl.juhas.symposium.dto.ScheduleRowDTO(p.id, p.startTime, t.id, t.name, h.id, h.name, ho.name, SIZE(p.participants))
+        FROM Presentation p
+        LEFT JOIN p.topic t
+        LEFT JOIN p.conferenceHall h
+        LEFT JOIN h.hotel ho
+        WHERE p.startTime >= :from AND p.startTime < :to
+        ORDER BY p.startTime, h.name, p.id
+    """)
+    List<ScheduleRowDTO> findScheduleRowsBetween(LocalDateTime from, LocalDateTime to);
+
+    @Query("""
+        SELECT new pl.juhas.symposium.dto.PresenterAssignmentDTO(t.id, pp.id, pp.firstName, pp.lastName)
+        FROM Presentation p
+        JOIN p.topic t
+        JOIN t.presenters pp
+    """)
+    List<PresenterAssignmentDTO> findSchedulePresenters();
+
+    @Query("""
+        SELECT new pl.juhas.symposium.dto.PresenterAssignmentDTO(t.id, pp.id, pp.firstName, pp.lastName)
+        FROM Presentation p
+        JOIN p.topic t
+        JOIN t.presenters pp
+        WHERE p.startTime >= :from AND p.startTime < :to
+    """)
+    List<PresenterAssignmentDTO> findSchedulePresentersBetween(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Agenda rows of the given presentations; the ids are bound as one {@code bigint[]}, so the
+     * statement is the same for every agenda size.
+     */
+    @Query(value = """
+        SELECT p.id AS presentationId, p.start_time AS startTime, p.duration_minutes AS durationMinutes,
+               t.name AS topicName, h.name AS hallName, ho.name AS hotelName
+        FROM presentation p
+        LEFT JOIN topic t ON t.id = p.topic_id
+        LEFT JOIN conference_hall h ON h.id = p.conference_hall_id
+        LEFT JOIN hotel ho ON ho.id = h.hotel_id
+        WHERE p.id = ANY (CAST(:presentationIds AS bigint[]))
+        ORDER BY p.start_time, p.id
+    """, nativeQuery = true)
+    List<AgendaRow> findAgendaRows(long[] presentationIds);
+
+    @Query(value = """
+        SELECT p.id AS presentationId, p.start_time AS startTime, p.duration_minutes AS durationMinutes,
+               t.name AS topicName, h.name AS hallName, ho.name AS hotelName
+        FROM presentation p
+        LEFT JOIN topic t ON t.id = p.topic_id
+        LEFT JOIN conference_hall h ON h.id = p.conference_hall_id
+        LEFT JOIN hotel ho ON ho.id = h.hotel_id
+        WHERE p.id = ANY (CAST(:presentationIds AS bigint[])) AND p.start_time IS NOT NULL
+    """, nativeQuery = true)
+    Stream<AgendaRow> streamAgendaRows(long[] presentationIds);
+
+    interface AgendaRow {
+
+        long getPresentationId();
+
+        LocalDateTime getStartTime();
+
+        int getDurationMinutes();
+
+        String getTopicName();
+
+        String getHallName();
+
+        String getHotelName();
+    }
 }
@@ -1,8 +1,43 @@
 package pl.juhas.symposium.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
+import pl.juhas.symposium.dto.PresenterAssignmentDTO;
 import pl.juhas.symposium.model.Topic;
 
+import java.util.List;
+import java.util.Optional;
+
 
 public interface TopicRepository extends JpaRepository<Topic, Long> {
+
+    // Cacheable queries are not read-only, so with read replicas they run on the primary and may
+    // fill the cache, see ReadReplicaConfig
+    @Override
+    @Transactional
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    List<Topic> findAll();
+
+    @Transactional
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    Optional<Topic> findByName(String name);
+
+    @Query("""
+        SELECT new pl.juhas.symposium.dto.PresenterAssignmentDTO(t.id, p.id, p.firstName, p.lastName)
+        FROM Topic t
+        JOIN t.presenters p
+    """)
+    List<PresenterAssignmentDTO> findAllPresenterAssignments();
+
+    @Query("""
+        SELECT t.id
+        FROM Topic t
+        WHERE NOT EXISTS (SELECT 1 FROM Presentation p WHERE p.topic = t)
+        ORDER BY t.id
+    """)
+    List<Long> findUnscheduledTopicIds();
 }
@@ -0,0 +1,257 @@
+package pl.juhas.symposium.schedule;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pl.juhas.symposium.dto.PresentationSlotDTO;
+import pl.juhas.symposium.dto.PresenterAssignmentDTO;
+import pl.juhas.symposium.dto.ProposedSlotDTO;
+import pl.juhas.symposium.dto.ScheduleConflictDTO;
+import pl.juhas.symposium.enums.ConflictKind;
+import pl.juhas.symposium.event.BulkImportCompletedEvent;
+import pl.juhas.symposium.event.ChangeType;
+import pl.juhas.symposium.event.ParticipantRef;
+import pl.juhas.symposium.event.PresentationChangedEvent;
+import pl.juhas.symposium.event.TopicPresentersChangedEvent;
+import pl.juhas.symposium.exception.InvalidSlotException;
+import pl.juhas.symposium.model.Presentation;
+import pl.juhas.symposium.repository.PresentationRepository;
+import pl.juhas.symposium.repository.TopicRepository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Keeps one {@link IntervalTree} per conference hall and per presenter, so a proposed slot is
+ * checked against the whole schedule in O(log n + k) without touching the database. The trees are
+ * rebuilt on startup and then follow committed presentation and presenter changes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleConflictIndex {
+
+    private static final long[] NO_PRESENTERS = new long[0];
+
+    private final TopicRepository topicRepository;
+    private final PresentationRepository presentationRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Slot> slots = new HashMap<>();
+    private final Map<Long, IntervalTree> halls = new HashMap<>();
+    private final Map<Long, IntervalTree> presenters = new HashMap<>();
+    private final Map<Long, long[]> presentersByTopic = new HashMap<>();
+    private final Map<Long, Long> presentationByTopic = new HashMap<>();
+
+    /**
+     * Checks every proposal against the indexed schedule and against the proposals before it.
+     * Presentations moved by one of the proposals are checked at their proposed slot only.
+     */
+    public List<ScheduleConflictDTO> conflicts(List<ProposedSlotDTO> proposals) {
+        Set<Long> moved = new HashSet<>();
+        proposals.forEach(proposal -> {
+            if (proposal.presentationId() != null) {
+                moved.add(proposal.presentationId());
+            }
+        });
+
+        List<ScheduleConflictDTO> conflicts = new ArrayList<>();
+        Map<Long, IntervalTree> proposedHalls = new HashMap<>();
+        Map<Long, IntervalTree> proposedPresenters = new HashMap<>();
+        long[][] intervals = new long[proposals.size()][];
+
+        lock.readLock().lock();
+        try {
+            for (int i = 0; i < proposals.size(); i++) {
+                ProposedSlotDTO proposal = proposals.get(i);
+                long start = startOf(i, proposal);
+                long end = start + durationOf(i, proposal);
+                intervals[i] = new long[]{start, end};
+
+                if (proposal.hallId() != null) {
+                    collect(conflicts, i, ConflictKind.HALL, proposal.hallId(), start, end, moved,
+                            halls.get(proposal.hallId()), proposedHalls, intervals);
+                }
+                for (long presenterId : presentersOf(proposal)) {
+                    collect(conflicts, i, ConflictKind.PRESENTER, presenterId, start, end, moved,
+                            presenters.get(presenterId), proposedPresenters, intervals);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return conflicts;
+    }
+
+    @EventListener({ApplicationReadyEvent.class, BulkImportCompletedEvent.class})
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            slots.clear();
+            halls.clear();
+            presenters.clear();
+            presentersByTopic.clear();
+            presentationByTopic.clear();
+
+            Map<Long, List<Long>> assignments = new HashMap<>();
+            for (PresenterAssignmentDTO assignment : topicRepository.findAllPresenterAssignments()) {
+                assignments.computeIfAbsent(assignment.topicId(), id -> new ArrayList<>()).add(assignment.participantId());
+            }
+            assignments.forEach((topicId, ids) ->
+                    presentersByTopic.put(topicId, ids.stream().mapToLong(Long::longValue).toArray()));
+            for (PresentationSlotDTO slot : presentationRepository.findAllSlots()) {
+                addSlot(slot.presentationId(), slot.topicId(), slot.hallId(), slot.startTime(), slot.durationMinutes());
+            }
+            log.info("Schedule conflict index rebuilt: {} slots, {} halls, {} presenters",
+                    slots.size(), halls.size(), presenters.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPresentationChanged(PresentationChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            removeSlot(event.presentationId());
+            if (event.type() != ChangeType.DELETED) {
+                addSlot(event.presentationId(), event.topicId(), event.conferenceHallId(), event.startTime(),
+                        event.durationMinutes());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTopicPresentersChanged(TopicPresentersChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            Long presentationId = presentationByTopic.get(event.topicId());
+            Slot slot = presentationId == null ? null : slots.get(presentationId);
+            if (slot != null) {
+                removeFromPresenters(presentationId, slot);
+            }
+            if (event.presenters().isEmpty()) {
+                presentersByTopic.remove(event.topicId());
+            } else {
+                presentersByTopic.put(event.topicId(), event.presenters().stream().mapToLong(ParticipantRef::id).toArray());
+            }
+            if (slot != null) {
+                addToPresenters(presentationId, slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void collect(List<ScheduleConflictDTO> conflicts, int proposal, ConflictKind kind, long resourceId,
+                         long start, long end, Set<Long> moved, IntervalTree scheduled,
+                         Map<Long, IntervalTree> proposed, long[][] intervals) {
+        if (scheduled != null) {
+            scheduled.forEachOverlapping(start, end, presentationId -> {
+                if (!moved.contains(presentationId)) {
+                    Slot slot = slots.get(presentationId);
+                    conflicts.add(new ScheduleConflictDTO(proposal, kind, resourceId, presentationId, null,
+                            toTime(slot.start()), toTime(slot.end())));
+                }
+            });
+        }
+        IntervalTree earlier = proposed.computeIfAbsent(resourceId, id -> new IntervalTree());
+        earlier.forEachOverlapping(start, end, other -> conflicts.add(new ScheduleConflictDTO(proposal, kind,
+                resourceId, null, (int) other, toTime(intervals[(int) other][0]), toTime(intervals[(int) other][1]))));
+        earlier.insert(start, end, proposal);
+    }
+
+    private long[] presentersOf(ProposedSlotDTO proposal) {
+        if (proposal.presenterIds() != null) {
+            return proposal.presenterIds().stream().filter(Objects::nonNull).mapToLong(Long::longValue).distinct().toArray();
+        }
+        return proposal.topicId() == null ? NO_PRESENTERS : presentersByTopic.getOrDefault(proposal.topicId(), NO_PRESENTERS);
+    }
+
+    private void addSlot(long presentationId, Long topicId, Long hallId, LocalDateTime startTime, int durationMinutes) {
+        if (startTime == null) {
+            return;
+        }
+        long start = toMinutes(startTime);
+        Slot slot = new Slot(topicId, hallId, start, start + durationMinutes);
+        slots.put(presentationId, slot);
+        if (hallId != null) {
+            halls.computeIfAbsent(hallId, id -> new IntervalTree()).insert(slot.start(), slot.end(), presentationId);
+        }
+        if (topicId != null) {
+            presentationByTopic.put(topicId, presentationId);
+            addToPresenters(presentationId, slot);
+        }
+    }
+
+    private void removeSlot(long presentationId) {
+        Slot slot = slots.remove(presentationId);
+        if (slot == null) {
+            return;
+        }
+        if (slot.hallId() != null) {
+            removeFrom(halls, slot.hallId(), slot, presentationId);
+        }
+        if (slot.topicId() != null) {
+            presentationByTopic.remove(slot.topicId(), presentationId);
+            removeFromPresenters(presentationId, slot);
+        }
+    }
+
+    private void addToPresenters(long presentationId, Slot slot) {
+        for (long presenterId : presentersByTopic.getOrDefault(slot.topicId(), NO_PRESENTERS)) {
+            presenters.computeIfAbsent(presenterId, id -> new IntervalTree()).insert(slot.start(), slot.end(), presentationId);
+        }
+    }
+
+    private void removeFromPresenters(long presentationId, Slot slot) {
+        for (long presenterId : presentersByTopic.getOrDefault(slot.topicId(), NO_PRESENTERS)) {
+            removeFrom(presenters, presenterId, slot, presentationId);
+        }
+    }
+
+    private static void removeFrom(Map<Long, IntervalTree> trees, long key, Slot slot, long presentationId) {
+        IntervalTree tree = trees.get(key);
+        if (tree != null) {
+            tree.remove(slot.start(), slot.end(), presentationId);
+            if (tree.isEmpty()) {
+                trees.remove(key);
+            }
+        }
+    }
+
+    private static long startOf(int index, ProposedSlotDTO proposal) {
+        if (proposal.startTime() == null) {
+            throw new InvalidSlotException(index, "start time is required");
+        }
+        return toMinutes(proposal.startTime());
+    }
+
+    private static long durationOf(int index, ProposedSlotDTO proposal) {
+        if (proposal.durationMinutes() == null) {
+            return Presentation.DEFAULT_DURATION.toMinutes();
+        }
+        if (proposal.durationMinutes() <= 0) {
+            throw new InvalidSlotException(index, "duration must be positive");
+        }
+        return proposal.durationMinutes();
+    }
+
+    private static long toMinutes(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    private static LocalDateTime toTime(long minutes) {
+        return LocalDateTime.ofEpochSecond(minutes * 60, 0, ZoneOffset.UTC);
+    }
+
+    private record Slot(Long topicId, Long hallId, long start, long end) {
+    }
+}
@@ -0,0 +1,54 @@
+package pl.juhas.symposium.schedule;
+
+/**
+ * Dense input of {@link ScheduleSolver}: topics, presenters, halls and slots are numbered from
+ * zero. Cells (slot, hall) already taken and presenters already busy in a slot are blocked up front.
+ */
+public class ScheduleProblem {
+
+    final int[][] presentersByTopic;
+    final int presenterCount;
+    final int hallCount;
+    final int slotCount;
+    final int words;
+    final boolean[] blockedCells;
+    final long[] busyPresenters;
+    final int[] hallLoad;
+
+    public ScheduleProblem(int[][] presentersByTopic, int presenterCount, int hallCount, int slotCount) {
+        this.presentersByTopic = presentersByTopic;
+        this.presenterCount = presenterCount;
+        this.hallCount = hallCount;
+        this.slotCount = slotCount;
+        this.words = (slotCount + 63) >>> 6;
+        this.blockedCells = new boolean[slotCount * hallCount];
+        this.busyPresenters = new long[presenterCount * words];
+        this.hallLoad = new int[hallCount];
+    }
+
+    public int topicCount() {
+        return presentersByTopic.length;
+    }
+
+    public int hallCount() {
+        return hallCount;
+    }
+
+    public int slotCount() {
+        return slotCount;
+    }
+
+    /**
+     * Marks the hall as taken in the slot by a presentation that is already scheduled.
+     */
+    public void blockCell(int slot, int hall) {
+        if (!blockedCells[slot * hallCount + hall]) {
+            blockedCells[slot * hallCount + hall] = true;
+            hallLoad[hall]++;
+        }
+    }
+
+    public void blockPresenter(int presenter, int slot) {
+        busyPresenters[presenter * words + (slot >>> 6)] |= 1L << slot;
+    }
+}
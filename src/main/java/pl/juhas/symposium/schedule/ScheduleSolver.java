@@ -0,0 +1,187 @@
+package pl.juhas.symposium.schedule;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Randomized greedy search for a {@link ScheduleProblem}. Each attempt places the most constrained
+ * topics first (those whose presenters give the most talks), into the slot with the most free halls
+ * where none of the presenters is busy, and into the least loaded free hall of that slot. Workers on
+ * a fork-join pool repeat attempts with jittered orderings until the time budget runs out or a
+ * complete schedule with hall loads differing by at most one is found.
+ */
+public final class ScheduleSolver {
+
+    private ScheduleSolver() {
+    }
+
+    public record Solution(int[] slotByTopic, int[] hallByTopic, int unassigned, int minHallLoad, int maxHallLoad,
+                           long attempts) {
+
+        boolean isOptimal() {
+            return unassigned == 0 && maxHallLoad - minHallLoad <= 1;
+        }
+    }
+
+    public static Solution solve(ScheduleProblem problem, Duration budget, long seed, int parallelism) {
+        long deadline = System.nanoTime() + budget.toNanos();
+        double[] weights = weights(problem);
+        AtomicReference<Solution> best = new AtomicReference<>();
+        AtomicLong attempts = new AtomicLong();
+
+        List<Callable<Void>> workers = new ArrayList<>(parallelism);
+        for (int worker = 0; worker < parallelism; worker++) {
+            SplittableRandom random = new SplittableRandom(seed + worker);
+            boolean jitterFirst = worker > 0;
+            workers.add(() -> {
+                boolean jitter = jitterFirst;
+                do {
+                    Solution solution = attempt(problem, weights, random, jitter);
+                    attempts.incrementAndGet();
+                    best.accumulateAndGet(solution, ScheduleSolver::better);
+                    jitter = true;
+                } while (System.nanoTime() < deadline && !best.get().isOptimal());
+                return null;
+            });
+        }
+        try (ForkJoinPool pool = new ForkJoinPool(parallelism)) {
+            pool.invokeAll(workers);
+        }
+        Solution solution = best.get();
+        return new Solution(solution.slotByTopic(), solution.hallByTopic(), solution.unassigned(),
+                solution.minHallLoad(), solution.maxHallLoad(), attempts.get());
+    }
+
+    private static Solution attempt(ScheduleProblem problem, double[] weights, SplittableRandom random, boolean jitter) {
+        int topics = problem.topicCount();
+        int halls = problem.hallCount;
+        int slots = problem.slotCount;
+        int words = problem.words;
+        boolean[] usedCells = problem.blockedCells.clone();
+        long[] busy = problem.busyPresenters.clone();
+        int[] hallLoad = problem.hallLoad.clone();
+        int[] freeHalls = new int[slots];
+        for (int slot = 0; slot < slots; slot++) {
+            for (int hall = 0; hall < halls; hall++) {
+                if (!usedCells[slot * halls + hall]) {
+                    freeHalls[slot]++;
+                }
+            }
+        }
+
+        int[] slotByTopic = new int[topics];
+        int[] hallByTopic = new int[topics];
+        int unassigned = 0;
+        for (int topic : order(weights, random, jitter)) {
+            int[] presenters = problem.presentersByTopic[topic];
+            int bestSlot = -1;
+            int bestFree = 1;
+            int ties = 0;
+            for (int slot = 0; slot < slots; slot++) {
+                int free = freeHalls[slot];
+                if (free < bestFree || isBusy(busy, words, presenters, slot)) {
+                    continue;
+                }
+                if (free > bestFree || bestSlot < 0) {
+                    bestSlot = slot;
+                    bestFree = free;
+                    ties = 1;
+                } else if (random.nextInt(++ties) == 0) {
+                    bestSlot = slot;
+                }
+            }
+            if (bestSlot < 0) {
+                slotByTopic[topic] = -1;
+                hallByTopic[topic] = -1;
+                unassigned++;
+                continue;
+            }
+
+            int bestHall = -1;
+            int offset = random.nextInt(halls);
+            for (int i = 0; i < halls; i++) {
+                int hall = (offset + i) % halls;
+                if (!usedCells[bestSlot * halls + hall] && (bestHall < 0 || hallLoad[hall] < hallLoad[bestHall])) {
+                    bestHall = hall;
+                }
+            }
+            usedCells[bestSlot * halls + bestHall] = true;
+            freeHalls[bestSlot]--;
+            hallLoad[bestHall]++;
+            for (int presenter : presenters) {
+                busy[presenter * words + (bestSlot >>> 6)] |= 1L << bestSlot;
+            }
+            slotByTopic[topic] = bestSlot;
+            hallByTopic[topic] = bestHall;
+        }
+
+        int min = Integer.MAX_VALUE;
+        int max = 0;
+        for (int load : hallLoad) {
+            min = Math.min(min, load);
+            max = Math.max(max, load);
+        }
+        return new Solution(slotByTopic, hallByTopic, unassigned, halls == 0 ? 0 : min, max, 0);
+    }
+
+    private static boolean isBusy(long[] busy, int words, int[] presenters, int slot) {
+        for (int presenter : presenters) {
+            if ((busy[presenter * words + (slot >>> 6)] & 1L << slot) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Topic indexes by descending weight; with jitter each weight is scaled by a random factor
+     * in [0.75, 1.25) so restarts explore different orderings.
+     */
+    private static int[] order(double[] weights, SplittableRandom random, boolean jitter) {
+        long[] keys = new long[weights.length];
+        for (int topic = 0; topic < weights.length; topic++) {
+            double weight = jitter ? weights[topic] * (0.75 + random.nextDouble() / 2) : weights[topic];
+            keys[topic] = (long) (weight * 1024) << 32 | topic;
+        }
+        Arrays.sort(keys);
+        int[] order = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            order[i] = (int) keys[keys.length - 1 - i];
+        }
+        return order;
+    }
+
+    private static double[] weights(ScheduleProblem problem) {
+        int[] talks = new int[problem.presenterCount];
+        for (int[] presenters : problem.presentersByTopic) {
+            for (int presenter : presenters) {
+                talks[presenter]++;
+            }
+        }
+        double[] weights = new double[problem.topicCount()];
+        for (int topic = 0; topic < weights.length; topic++) {
+            for (int presenter : problem.presentersByTopic[topic]) {
+                weights[topic] += talks[presenter];
+            }
+        }
+        return weights;
+    }
+
+    private static Solution better(Solution current, Solution candidate) {
+        if (current == null) {
+            return candidate;
+        }
+        if (candidate.unassigned() != current.unassigned()) {
+            return candidate.unassigned() < current.unassigned() ? candidate : current;
+        }
+        int currentSpread = current.maxHallLoad() - current.minHallLoad();
+        return candidate.maxHallLoad() - candidate.minHallLoad() < currentSpread ? candidate : current;
+    }
+}
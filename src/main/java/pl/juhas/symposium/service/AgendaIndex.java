@@ -0,0 +1,276 @@
+package pl.juhas.symposium.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pl.juhas.symposium.dto.PresentationTopicDTO;
+import pl.juhas.symposium.event.*;
+import pl.juhas.symposium.repository.PresentationRepository;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Keeps, for every participant, the sorted ids of the presentations they attend and the ones they
+ * present, so a personal agenda is found without walking {@code Participant.presentations} or the
+ * topic presenters. Id sets are plain {@code long[]} arrays in {@link IdSets}, replaced, never
+ * modified, on every change, so an {@link Agenda} handed out stays valid after the lock is released.
+ * A presentation has at most one topic and a topic at most one presentation, so the links between
+ * them are id sets of at most one id. The index is rebuilt on startup and then follows committed
+ * enrollment, attendee and presenter changes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AgendaIndex {
+
+    private static final String ATTENDING_SQL = """
+            SELECT participant_id, presentation_id
+            FROM presentation_participants
+            ORDER BY participant_id, presentation_id
+            """;
+
+    private static final String ATTENDEES_SQL = """
+            SELECT presentation_id, participant_id
+            FROM presentation_participants
+            ORDER BY presentation_id, participant_id
+            """;
+
+    private static final String PRESENTERS_SQL = """
+            SELECT topic_id, participant_id
+            FROM topic_presenters
+            ORDER BY topic_id, participant_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PresentationRepository presentationRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final IdSets attending = new IdSets();
+    private final IdSets attendees = new IdSets();
+    private final IdSets presenting = new IdSets();
+    private final IdSets presentersByTopic = new IdSets();
+    private final IdSets topicByPresentation = new IdSets();
+    private final IdSets presentationByTopic = new IdSets();
+
+    public Agenda agenda(long participantId) {
+        lock.readLock().lock();
+        try {
+            return new Agenda(attending.get(participantId), presenting.get(participantId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener({ApplicationReadyEvent.class, BulkImportCompletedEvent.class})
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            attending.clear();
+            attendees.clear();
+            presenting.clear();
+            presentersByTopic.clear();
+            topicByPresentation.clear();
+            presentationByTopic.clear();
+
+            jdbcTemplate.query(ATTENDING_SQL, groupingInto(attending));
+            jdbcTemplate.query(ATTENDEES_SQL, groupingInto(attendees));
+            jdbcTemplate.query(PRESENTERS_SQL, groupingInto(presentersByTopic));
+            for (PresentationTopicDTO presentation : presentationRepository.findAllPresentationTopics()) {
+                assignTopic(presentation.presentationId(), presentation.topicId());
+            }
+            log.info("Agenda index rebuilt: {} attendees, {} presenters, {} presentations",
+                    attending.size(), presenting.size(), attendees.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAttendanceChanged(AttendanceChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            for (long participantId : event.joined()) {
+                attendees.add(event.presentationId(), participantId);
+                attending.add(participantId, event.presentationId());
+            }
+            for (long participantId : event.left()) {
+                attendees.remove(event.presentationId(), participantId);
+                attending.remove(participantId, event.presentationId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPresentationAttendeesChanged(PresentationAttendeesChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            replaceAttendees(event.presentationId(), sorted(event.participantIds()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPresentationChanged(PresentationChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            Long topicId = event.type() == ChangeType.DELETED ? null : event.topicId();
+            long[] current = topicByPresentation.get(event.presentationId());
+            if (topicId == null ? current.length > 0 : current.length == 0 || current[0] != topicId) {
+                unassignTopic(event.presentationId());
+                assignTopic(event.presentationId(), topicId);
+            }
+            if (event.type() == ChangeType.DELETED) {
+                replaceAttendees(event.presentationId(), IdSets.NONE);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTopicPresentersChanged(TopicPresentersChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            long[] presentationIds = presentationByTopic.get(event.topicId());
+            for (long presentationId : presentationIds) {
+                unassignTopic(presentationId);
+            }
+            presentersByTopic.put(event.topicId(), sorted(event.presenters().stream().map(ParticipantRef::id).toList()));
+            for (long presentationId : presentationIds) {
+                assignTopic(presentationId, event.topicId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onParticipantChanged(ParticipantChangedEvent event) {
+        if (event.type() != ChangeType.DELETED) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            for (long presentationId : attending.get(event.participantId())) {
+                attendees.remove(presentationId, event.participantId());
+            }
+            attending.delete(event.participantId());
+            presenting.delete(event.participantId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void replaceAttendees(long presentationId, long[] next) {
+        long[] previous = attendees.get(presentationId);
+        for (long participantId : previous) {
+            if (Arrays.binarySearch(next, participantId) < 0) {
+                attending.remove(participantId, presentationId);
+            }
+        }
+        for (long participantId : next) {
+            if (Arrays.binarySearch(previous, participantId) < 0) {
+                attending.add(participantId, presentationId);
+            }
+        }
+        attendees.put(presentationId, next);
+    }
+
+    private void assignTopic(long presentationId, Long topicId) {
+        if (topicId == null) {
+            return;
+        }
+        topicByPresentation.put(presentationId, new long[]{topicId});
+        presentationByTopic.put(topicId, new long[]{presentationId});
+        for (long presenterId : presentersByTopic.get(topicId)) {
+            presenting.add(presenterId, presentationId);
+        }
+    }
+
+    private void unassignTopic(long presentationId) {
+        for (long topicId : topicByPresentation.get(presentationId)) {
+            presentationByTopic.remove(topicId, presentationId);
+            for (long presenterId : presentersByTopic.get(topicId)) {
+                presenting.remove(presenterId, presentationId);
+            }
+        }
+        topicByPresentation.delete(presentationId);
+    }
+
+    private static long[] sorted(Collection<Long> ids) {
+        return ids.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+    }
+
+    /**
+     * The presentations one participant attends and presents, each sorted by id. A presenter who
+     * also enrolled in their own presentation appears in both.
+     */
+    public record Agenda(long[] attending, long[] presenting) {
+
+        public boolean isEmpty() {
+            return attending.length == 0 && presenting.length == 0;
+        }
+
+        public boolean presents(long presentationId) {
+            return Arrays.binarySearch(presenting, presentationId) >= 0;
+        }
+
+        /**
+         * Union of both id sets, sorted and without duplicates.
+         */
+        public long[] presentationIds() {
+            long[] ids = new long[attending.length + presenting.length];
+            int size = 0;
+            int a = 0;
+            int p = 0;
+            while (a < attending.length || p < presenting.length) {
+                long next = p == presenting.length || (a < attending.length && attending[a] <= presenting[p])
+                        ? attending[a] : presenting[p];
+                ids[size++] = next;
+                while (a < attending.length && attending[a] == next) {
+                    a++;
+                }
+                while (p < presenting.length && presenting[p] == next) {
+                    p++;
+                }
+            }
+            return size == ids.length ? ids : Arrays.copyOf(ids, size);
+        }
+    }
+
+    /**
+     * Collects rows ordered by key into one sorted array per key, without boxing the values.
+     */
+    private static ResultSetExtractor<IdSets> groupingInto(IdSets index) {
+        return rs -> {
+            long[] values = new long[16];
+            int size = 0;
+            long key = 0;
+            while (rs.next()) {
+                long rowKey = rs.getLong(1);
+                if (size > 0 && rowKey != key) {
+                    index.put(key, Arrays.copyOf(values, size));
+                    size = 0;
+                }
+                key = rowKey;
+                if (size == values.length) {
+                    values = Arrays.copyOf(values, size * 2);
+                }
+                values[size++] = rs.getLong(2);
+            }
+            if (size > 0) {
+                index.put(key, Arrays.copyOf(values, size));
+            }
+            return index;
+        };
+    }
+}
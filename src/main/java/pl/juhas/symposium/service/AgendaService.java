@@ -0,0 +1,97 @@
+package pl.juhas.symposium.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pl.juhas.symposium.dto.AgendaEntryDTO;
+import pl.juhas.symposium.exception.NotFoundException;
+import pl.juhas.symposium.io.CalendarWriter;
+import pl.juhas.symposium.repository.ParticipantRepository;
+import pl.juhas.symposium.repository.PresentationRepository;
+import pl.juhas.symposium.repository.PresentationRepository.AgendaRow;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Personal agendas: the presentation ids come from {@link AgendaIndex}, the presentation details
+ * from one projection query by primary key, so no entity graph is loaded per request.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AgendaService {
+
+    private static final int FLUSH_EVERY_EVENTS = 100;
+
+    private final AgendaIndex agendaIndex;
+    private final ParticipantRepository participantRepository;
+    private final PresentationRepository presentationRepository;
+
+    /**
+     * Looks the participant up in the index; participants without any sessions are checked
+     * against the database so unknown ids are reported as not found.
+     */
+    public AgendaIndex.Agenda agendaOf(long participantId) {
+        AgendaIndex.Agenda agenda = agendaIndex.agenda(participantId);
+        if (agenda.isEmpty() && !participantRepository.existsById(participantId)) {
+            throw new NotFoundException("Participant", participantId);
+        }
+        return agenda;
+    }
+
+    public List<AgendaEntryDTO> agenda(long participantId) {
+        AgendaIndex.Agenda agenda = agendaOf(participantId);
+        if (agenda.isEmpty()) {
+            return List.of();
+        }
+        List<AgendaRow> rows = presentationRepository.findAgendaRows(agenda.presentationIds());
+        List<AgendaEntryDTO> entries = new ArrayList<>(rows.size());
+        for (AgendaRow row : rows) {
+            entries.add(new AgendaEntryDTO(row.getPresentationId(), row.getStartTime(),
+                    row.getStartTime() == null ? null : row.getStartTime().plusMinutes(row.getDurationMinutes()),
+                    row.getTopicName(), row.getHallName(), row.getHotelName(), agenda.presents(row.getPresentationId())));
+        }
+        return entries;
+    }
+
+    /**
+     * Streams the scheduled presentations of an agenda as iCalendar events while the database
+     * cursor is open; presentations without a start time are left out.
+     */
+    public long exportCalendar(long participantId, AgendaIndex.Agenda agenda, OutputStream out) throws IOException {
+        long written = 0;
+        try (CalendarWriter writer = new CalendarWriter(out, "Symposium agenda " + participantId)) {
+            if (agenda.isEmpty()) {
+                return 0;
+            }
+            try (Stream<AgendaRow> rows = presentationRepository.streamAgendaRows(agenda.presentationIds())) {
+                Iterator<AgendaRow> iterator = rows.iterator();
+                while (iterator.hasNext()) {
+                    AgendaRow row = iterator.next();
+                    writer.event("presentation-" + row.getPresentationId() + "@symposium", row.getStartTime(),
+                            row.getStartTime().plusMinutes(row.getDurationMinutes()), row.getTopicName(), locationOf(row),
+                            agenda.presents(row.getPresentationId()) ? "PRESENTER" : "ATTENDEE");
+                    if (++written % FLUSH_EVERY_EVENTS == 0) {
+                        writer.flush();
+                    }
+                }
+            }
+        }
+        log.debug("Exported {} agenda events for participant {}", written, participantId);
+        return written;
+    }
+
+    private static String locationOf(AgendaRow row) {
+        if (row.getHallName() == null) {
+            return row.getHotelName();
+        }
+        return row.getHotelName() == null ? row.getHallName() : row.getHallName() + ", " + row.getHotelName();
+    }
+}
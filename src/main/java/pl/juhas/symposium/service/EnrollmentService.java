@@ -0,0 +1,338 @@
+package pl.juhas.symposium.service;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import pl.juhas.symposium.dto.EnrollmentResultDTO;
+import pl.juhas.symposium.dto.SeatStatusDTO;
+import pl.juhas.symposium.event.AttendanceChangedEvent;
+import pl.juhas.symposium.event.BulkImportCompletedEvent;
+import pl.juhas.symposium.event.PresentationAttendeesChangedEvent;
+import pl.juhas.symposium.exception.NotFoundException;
+import pl.juhas.symposium.repository.ParticipantRepository;
+import pl.juhas.symposium.repository.PresentationRepository;
+
+import java.sql.Array;
+import java.util.*;
+
+/**
+ * Adds and removes attendees by writing {@code presentation_participants} rows directly, so a
+ * change costs one join-table row instead of Hibernate rewriting the whole
+ * {@code Presentation.participants} collection. Managed {@code Presentation} instances loaded
+ * earlier in the same persistence context do not see these changes, and since Hibernate publishes no
+ * collection event for them, every effective change is announced as an {@link AttendanceChangedEvent}.
+ * <p>
+ * Seats are limited by the capacity of the presentation's hall. A seat is taken with one
+ * conditional update of the presentation's {@code presentation_seats} counter, so the counter row
+ * is locked only from that statement to the commit and never while counting attendees. Participants
+ * who find no free seat are put on the waitlist, which is promoted in arrival order whenever an
+ * attendee leaves. A seat freed while a waitlist insert is still uncommitted goes to the next joiner.
+ * Attendees written through {@code Presentation.participants} or bulk imports are not checked
+ * against the capacity. The counter of a presentation whose collection changed is recomputed at the
+ * end of the same transaction, after the counter row is locked, so joins running concurrently are
+ * counted; bulk imports recompute all counters once they are done.
+ */
+@Service
+@RequiredArgsConstructor
+public class EnrollmentService {
+
+    private static final String ENSURE_SEATS_SQL = """
+            INSERT INTO presentation_seats (presentation_id, taken)
+            SELECT ?, (SELECT count(*) FROM presentation_participants WHERE presentation_id = ?)
+            WHERE NOT EXISTS (SELECT 1 FROM presentation_seats WHERE presentation_id = ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String LOCK_SEATS_SQL = """
+            SELECT s.taken, h.capacity
+            FROM presentation_seats s
+            JOIN presentation p ON p.id = s.presentation_id
+            LEFT JOIN conference_hall h ON h.id = p.conference_hall_id
+            WHERE s.presentation_id = ?
+            FOR UPDATE OF s
+            """;
+
+    private static final String JOIN_SQL = """
+            WITH seated AS (
+                UPDATE presentation_seats s SET taken = s.taken + 1
+                FROM presentation p
+                LEFT JOIN conference_hall h ON h.id = p.conference_hall_id
+                WHERE s.presentation_id = ? AND p.id = s.presentation_id
+                  AND (h.capacity IS NULL OR s.taken < h.capacity)
+                RETURNING s.presentation_id
+            ), joined AS (
+                INSERT INTO presentation_participants (presentation_id, participant_id)
+                SELECT presentation_id, ? FROM seated
+                ON CONFLICT DO NOTHING
+                RETURNING participant_id
+            ), unwaitlisted AS (
+                DELETE FROM waitlist_entry
+                WHERE presentation_id = ? AND participant_id IN (SELECT participant_id FROM joined)
+            )
+            SELECT (SELECT count(*) FROM seated) AS seated, (SELECT count(*) FROM joined) AS joined
+            """;
+
+    private static final String JOIN_ALL_SQL = """
+            INSERT INTO presentation_participants (presentation_id, participant_id)
+            SELECT ?, p.id FROM participant p WHERE p.id = ANY (?)
+            ON CONFLICT DO NOTHING
+            RETURNING participant_id
+            """;
+
+    private static final String LEAVE_SQL = """
+            DELETE FROM presentation_participants
+            WHERE presentation_id = ? AND participant_id = ?
+            """;
+
+    private static final String LEAVE_ALL_SQL = """
+            DELETE FROM presentation_participants
+            WHERE presentation_id = ? AND participant_id = ANY (?)
+            """;
+
+    private static final String ENROLLED_SQL = """
+            SELECT EXISTS (SELECT 1 FROM presentation_participants WHERE presentation_id = ? AND participant_id = ?)
+            """;
+
+    private static final String WAITLIST_SQL = """
+            INSERT INTO waitlist_entry (id, presentation_id, participant_id, created_at)
+            SELECT nextval('waitlist_entry_seq'), ?, c.id, localtimestamp
+            FROM unnest(?::bigint[]) WITH ORDINALITY AS c(id, n)
+            ORDER BY c.n
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String UNWAITLIST_SQL = """
+            DELETE FROM waitlist_entry
+            WHERE presentation_id = ? AND participant_id = ANY (?)
+            """;
+
+    private static final String PROMOTE_SQL = """
+            DELETE FROM waitlist_entry
+            WHERE id = (SELECT id FROM waitlist_entry WHERE presentation_id = ? ORDER BY id LIMIT 1 FOR UPDATE)
+            RETURNING participant_id
+            """;
+
+    private static final String PROMOTED_SQL = """
+            INSERT INTO presentation_participants (presentation_id, participant_id)
+            VALUES (?, ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String SET_TAKEN_SQL = """
+            UPDATE presentation_seats SET taken = ? WHERE presentation_id = ?
+            """;
+
+    private static final String SEAT_STATUS_SQL = """
+            SELECT h.capacity, s.taken,
+                   (SELECT count(*) FROM waitlist_entry w WHERE w.presentation_id = p.id) AS waitlisted
+            FROM presentation p
+            LEFT JOIN conference_hall h ON h.id = p.conference_hall_id
+            LEFT JOIN presentation_seats s ON s.presentation_id = p.id
+            WHERE p.id = ?
+            """;
+
+    private static final String RECONCILE_SQL = """
+            UPDATE presentation_seats s
+            SET taken = (SELECT count(*) FROM presentation_participants pp WHERE pp.presentation_id = s.presentation_id)
+            WHERE s.presentation_id = ?
+            """;
+
+    private static final String RECONCILE_ALL_SQL = """
+            UPDATE presentation_seats s
+            SET taken = (SELECT count(*) FROM presentation_participants pp WHERE pp.presentation_id = s.presentation_id)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PresentationRepository presentationRepository;
+    private final ParticipantRepository participantRepository;
+    private final ApplicationEventPublisher publisher;
+    private final EntityManager entityManager;
+
+    /**
+     * Takes a seat, or puts the participant on the waitlist when the hall is full. Joining again
+     * while enrolled or waitlisted changes nothing.
+     */
+    @Transactional
+    public EnrollmentResultDTO join(long presentationId, long participantId) {
+        requirePresentation(presentationId);
+        requireParticipant(participantId);
+        ensureSeats(presentationId);
+        Map<String, Object> result = jdbcTemplate.queryForMap(JOIN_SQL, presentationId, participantId, presentationId);
+        long seated = (Long) result.get("seated");
+        long joined = (Long) result.get("joined");
+        if (joined > 0) {
+            publisher.publishEvent(new AttendanceChangedEvent(presentationId, List.of(participantId), List.of()));
+            return new EnrollmentResultDTO(presentationId, 1, 1, 0);
+        }
+        if (seated > 0) {
+            // already enrolled: give back the seat taken by the conditional update
+            jdbcTemplate.update("UPDATE presentation_seats SET taken = taken - 1 WHERE presentation_id = ?", presentationId);
+            return new EnrollmentResultDTO(presentationId, 1, 0, 0);
+        }
+        if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(ENROLLED_SQL, Boolean.class, presentationId, participantId))) {
+            return new EnrollmentResultDTO(presentationId, 1, 0, 0);
+        }
+        waitlist(presentationId, List.of(participantId));
+        return new EnrollmentResultDTO(presentationId, 1, 0, 1);
+    }
+
+    /**
+     * Gives up a seat or a waitlist place. A freed seat goes to the longest waiting participant.
+     */
+    @Transactional
+    public EnrollmentResultDTO leave(long presentationId, long participantId) {
+        requirePresentation(presentationId);
+        ensureSeats(presentationId);
+        Seats seats = lockSeats(presentationId);
+        int deleted = jdbcTemplate.update(LEAVE_SQL, presentationId, participantId);
+        if (deleted == 0) {
+            updateWithIds(UNWAITLIST_SQL, presentationId, List.of(participantId));
+            return new EnrollmentResultDTO(presentationId, 1, 0, 0);
+        }
+        List<Long> promoted = promote(presentationId, new Seats(seats.taken() - 1, seats.capacity()));
+        publisher.publishEvent(new AttendanceChangedEvent(presentationId, promoted, List.of(participantId)));
+        return new EnrollmentResultDTO(presentationId, 1, deleted, 0);
+    }
+
+    /**
+     * Enrolls all given participants with a single insert, holding the seat counter for the whole
+     * batch. Participants that do not fit are waitlisted in the order given; unknown participant
+     * ids and participants that are already enrolled are skipped.
+     */
+    @Transactional
+    public EnrollmentResultDTO joinAll(long presentationId, Collection<Long> participantIds) {
+        requirePresentation(presentationId);
+        if (participantIds.isEmpty()) {
+            return new EnrollmentResultDTO(presentationId, 0, 0, 0);
+        }
+        ensureSeats(presentationId);
+        Seats seats = lockSeats(presentationId);
+        Long[] ids = participantIds.toArray(Long[]::new);
+        Set<Long> inserted = new HashSet<>(jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(JOIN_ALL_SQL);
+            statement.setLong(1, presentationId);
+            statement.setArray(2, connection.createArrayOf("bigint", ids));
+            return statement;
+        }, (rs, row) -> rs.getLong(1)));
+
+        int free = seats.free();
+        List<Long> seated = new ArrayList<>();
+        List<Long> overflow = new ArrayList<>();
+        for (Long id : new LinkedHashSet<>(participantIds)) {
+            if (inserted.contains(id)) {
+                (seated.size() < free ? seated : overflow).add(id);
+            }
+        }
+        jdbcTemplate.update(SET_TAKEN_SQL, seats.taken() + seated.size(), presentationId);
+        if (!overflow.isEmpty()) {
+            updateWithIds(LEAVE_ALL_SQL, presentationId, overflow);
+            waitlist(presentationId, overflow);
+        }
+        if (!seated.isEmpty()) {
+            updateWithIds(UNWAITLIST_SQL, presentationId, seated);
+            publisher.publishEvent(new AttendanceChangedEvent(presentationId, seated, List.of()));
+        }
+        return new EnrollmentResultDTO(presentationId, ids.length, seated.size(), overflow.size());
+    }
+
+    @Transactional(readOnly = true)
+    public SeatStatusDTO seats(long presentationId) {
+        List<SeatStatusDTO> status = jdbcTemplate.query(SEAT_STATUS_SQL, (rs, row) -> new SeatStatusDTO(presentationId,
+                rs.getObject("capacity", Integer.class), rs.getLong("taken"), rs.getLong("waitlisted")), presentationId);
+        if (status.isEmpty()) {
+            throw new NotFoundException("Presentation", presentationId);
+        }
+        return status.getFirst();
+    }
+
+    @EventListener(BulkImportCompletedEvent.class)
+    public void reconcileSeats() {
+        jdbcTemplate.update(RECONCILE_ALL_SQL);
+    }
+
+    /**
+     * Collection events are published while Hibernate flushes, when the changed rows may still wait in
+     * a JDBC batch, so the counter is recomputed just before the transaction completes instead.
+     */
+    @EventListener
+    public void onPresentationAttendeesChanged(PresentationAttendeesChangedEvent event) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            reconcile(event.presentationId());
+            return;
+        }
+        entityManager.unwrap(SessionImplementor.class).getActionQueue()
+                .registerProcess(session -> reconcile(event.presentationId()));
+    }
+
+    private void reconcile(long presentationId) {
+        // counting in a statement after the lock sees every attendee of the joins that held the counter
+        if (!jdbcTemplate.queryForList(LOCK_SEATS_SQL, presentationId).isEmpty()) {
+            jdbcTemplate.update(RECONCILE_SQL, presentationId);
+        }
+    }
+
+    private List<Long> promote(long presentationId, Seats seats) {
+        List<Long> promoted = new ArrayList<>();
+        long taken = seats.taken();
+        while (seats.capacity() == null || taken < seats.capacity()) {
+            List<Long> next = jdbcTemplate.queryForList(PROMOTE_SQL, Long.class, presentationId);
+            if (next.isEmpty()) {
+                break;
+            }
+            if (jdbcTemplate.update(PROMOTED_SQL, presentationId, next.getFirst()) > 0) {
+                promoted.add(next.getFirst());
+                taken++;
+            }
+        }
+        jdbcTemplate.update(SET_TAKEN_SQL, taken, presentationId);
+        return promoted;
+    }
+
+    private void waitlist(long presentationId, List<Long> participantIds) {
+        updateWithIds(WAITLIST_SQL, presentationId, participantIds);
+    }
+
+    private void updateWithIds(String sql, long presentationId, List<Long> participantIds) {
+        jdbcTemplate.update(connection -> {
+            var statement = connection.prepareStatement(sql);
+            Array ids = connection.createArrayOf("bigint", participantIds.toArray());
+            statement.setLong(1, presentationId);
+            statement.setArray(2, ids);
+            return statement;
+        });
+    }
+
+    private void ensureSeats(long presentationId) {
+        jdbcTemplate.update(ENSURE_SEATS_SQL, presentationId, presentationId, presentationId);
+    }
+
+    private Seats lockSeats(long presentationId) {
+        return jdbcTemplate.queryForObject(LOCK_SEATS_SQL, (rs, row) ->
+                new Seats(rs.getLong("taken"), rs.getObject("capacity", Integer.class)), presentationId);
+    }
+
+    private void requirePresentation(long presentationId) {
+        if (!presentationRepository.existsById(presentationId)) {
+            throw new NotFoundException("Presentation", presentationId);
+        }
+    }
+
+    private void requireParticipant(long participantId) {
+        if (!participantRepository.existsById(participantId)) {
+            throw new NotFoundException("Participant", participantId);
+        }
+    }
+
+    private record Seats(long taken, Integer capacity) {
+
+        int free() {
+            return capacity == null ? Integer.MAX_VALUE : (int) Math.max(0, capacity - taken);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package pl.juhas.symposium.service;
+
+import java.util.Arrays;
+
+/**
+ * Sorted id sets keyed by id, for {@link AgendaIndex}. Keys are kept in an open addressing table of
+ * primitive {@code long}s with linear probing, so neither keys nor ids are boxed. A set is a sorted
+ * {@code long[]} that is replaced, never modified, on every change, and empty sets are not stored.
+ * Not thread safe.
+ */
+final class IdSets {
+
+    static final long[] NONE = new long[0];
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    private long[][] sets;
+    private int size;
+
+    IdSets() {
+        clear();
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        keys = new long[MIN_CAPACITY];
+        sets = new long[MIN_CAPACITY][];
+        size = 0;
+    }
+
+    long[] get(long key) {
+        long[] ids = sets[slot(key)];
+        return ids == null ? NONE : ids;
+    }
+
+    /**
+     * Replaces the set of a key, an empty set removes the key.
+     */
+    void put(long key, long[] ids) {
+        if (ids.length == 0) {
+            delete(key);
+            return;
+        }
+        int slot = slot(key);
+        if (sets[slot] == null) {
+            if ((size + 1) * 4 > keys.length * 3) {
+                resize(keys.length * 2);
+                slot = slot(key);
+            }
+            keys[slot] = key;
+            size++;
+        }
+        sets[slot] = ids;
+    }
+
+    void add(long key, long id) {
+        long[] ids = get(key);
+        int at = Arrays.binarySearch(ids, id);
+        if (at >= 0) {
+            return;
+        }
+        at = -at - 1;
+        long[] next = new long[ids.length + 1];
+        System.arraycopy(ids, 0, next, 0, at);
+        next[at] = id;
+        System.arraycopy(ids, at, next, at + 1, ids.length - at);
+        put(key, next);
+    }
+
+    void remove(long key, long id) {
+        long[] ids = get(key);
+        int at = Arrays.binarySearch(ids, id);
+        if (at < 0) {
+            return;
+        }
+        long[] next = new long[ids.length - 1];
+        System.arraycopy(ids, 0, next, 0, at);
+        System.arraycopy(ids, at + 1, next, at, ids.length - at - 1);
+        put(key, next);
+    }
+
+    /**
+     * Removes a key, shifting the entries probed past it back so no tombstones are left.
+     */
+    void delete(long key) {
+        int hole = slot(key);
+        if (sets[hole] == null) {
+            return;
+        }
+        sets[hole] = null;
+        size--;
+        int mask = keys.length - 1;
+        for (int next = (hole + 1) & mask; sets[next] != null; next = (next + 1) & mask) {
+            if (((next - home(keys[next])) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                sets[hole] = sets[next];
+                sets[next] = null;
+                hole = next;
+            }
+        }
+    }
+
+    private int slot(long key) {
+        int mask = keys.length - 1;
+        int slot = home(key);
+        while (sets[slot] != null && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private int home(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ hash >>> 32) & (keys.length - 1);
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        long[][] oldSets = sets;
+        keys = new long[capacity];
+        sets = new long[capacity][];
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (oldSets[slot] != null) {
+                int to = slot(oldKeys[slot]);
+                keys[to] = oldKeys[slot];
+                sets[to] = oldSets[slot];
+            }
+        }
+    }
+}
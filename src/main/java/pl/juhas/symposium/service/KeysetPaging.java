@@ -0,0 +1,30 @@
+package pl.juhas.symposium.service;
+
+import pl.juhas.symposium.dto.CursorPageDTO;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Shared plumbing for keyset-paginated listings. Queries fetch one row more than the page size;
+ * the extra row only tells us whether there is a next page.
+ */
+final class KeysetPaging {
+
+    static final int MAX_PAGE_SIZE = 500;
+
+    private KeysetPaging() {
+    }
+
+    static int clampPageSize(int size) {
+        return Math.clamp(size, 1, MAX_PAGE_SIZE);
+    }
+
+    static <T> CursorPageDTO<T> toPage(List<T> rows, int pageSize, Function<T, String> cursorOf) {
+        if (rows.size() <= pageSize) {
+            return new CursorPageDTO<>(rows, null);
+        }
+        List<T> page = rows.subList(0, pageSize);
+        return new CursorPageDTO<>(page, cursorOf.apply(page.getLast()));
+    }
+}
@@ -0,0 +1,76 @@
+package pl.juhas.symposium.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import pl.juhas.symposium.enums.EditConflictReason;
+import pl.juhas.symposium.exception.EditConflictException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Runs an edit in its own transaction and, when it loses an optimistic-lock race (or any other
+ * {@link ConcurrencyFailureException}), runs it again on fresh state after a randomized,
+ * exponentially growing pause capped at {@code symposium.edit.max-backoff}. The edit must
+ * therefore re-read what it changes and be safe to apply twice. Must not be called inside a
+ * transaction, since the retry needs a new one.
+ */
+@Component
+public class OptimisticRetry {
+
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final long maxBackoffMillis;
+    private final Counter retries;
+    private final Counter exhausted;
+
+    public OptimisticRetry(TransactionTemplate transactionTemplate,
+                           MeterRegistry meterRegistry,
+                           @Value("${symposium.edit.max-attempts:10}") int maxAttempts,
+                           @Value("${symposium.edit.backoff:10ms}") Duration backoff,
+                           @Value("${symposium.edit.max-backoff:500ms}") Duration maxBackoff) {
+        this.transactionTemplate = transactionTemplate;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoff.toMillis();
+        this.maxBackoffMillis = maxBackoff.toMillis();
+        this.retries = Counter.builder("symposium.edit.retries")
+                .description("Edits run again after losing an optimistic-lock race")
+                .register(meterRegistry);
+        this.exhausted = Counter.builder("symposium.edit.conflicts")
+                .description("Edits rejected after running out of retries")
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(String entity, long id, Supplier<T> edit) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> edit.get());
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= maxAttempts) {
+                    exhausted.increment();
+                    throw new EditConflictException(EditConflictReason.CONCURRENT_UPDATES, entity, id, null, null,
+                            List.of());
+                }
+                retries.increment();
+                pause(attempt);
+            }
+        }
+    }
+
+    private void pause(int attempt) {
+        long ceiling = Math.min(maxBackoffMillis, backoffMillis << Math.min(attempt - 1, 20));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while retrying an edit", e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package pl.juhas.symposium.service;
+
+import com.fasterxml.jackson.databind.SequenceWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pl.juhas.symposium.dto.ParticipantDTO;
+import pl.juhas.symposium.io.ParticipantExportWriter;
+import pl.juhas.symposium.io.ParticipantFormat;
+import pl.juhas.symposium.repository.ParticipantRepository;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ParticipantExportService {
+
+    private static final int FLUSH_EVERY_ROWS = 1000;
+
+    private final ParticipantRepository participantRepository;
+    private final ParticipantExportWriter exportWriter;
+
+    /**
+     * Streams all participants to {@code out} while the database cursor is still open. Rows are
+     * written as they arrive from the driver and flushed periodically, so the first bytes reach
+     * the client long before the last row has been read.
+     */
+    @Transactional(readOnly = true)
+    public long export(ParticipantFormat format, boolean orderedByRole, OutputStream out) throws IOException {
+        long written = 0;
+        try (Stream<ParticipantDTO> participants = orderedByRole
+                ? participantRepository.streamAllParticipantsOrderedByRoles()
+                : participantRepository.streamAllAsDto();
+             SequenceWriter writer = exportWriter.open(out, format)) {
+            Iterator<ParticipantDTO> rows = participants.iterator();
+            while (rows.hasNext()) {
+                writer.write(rows.next());
+                if (++written % FLUSH_EVERY_ROWS == 1) {
+                    writer.flush();
+                }
+            }
+        }
+        log.info("Exported {} participants as {}", written, format);
+        return written;
+    }
+}
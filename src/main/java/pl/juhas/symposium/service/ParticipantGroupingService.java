@@ -0,0 +1,64 @@
+package pl.juhas.symposium.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pl.juhas.symposium.dto.CursorPageDTO;
+import pl.juhas.symposium.dto.ParticipantDTO;
+import pl.juhas.symposium.enums.CodedEnum;
+import pl.juhas.symposium.enums.Country;
+import pl.juhas.symposium.enums.EnumCounts;
+import pl.juhas.symposium.enums.Role;
+import pl.juhas.symposium.repository.ParticipantRepository;
+
+import java.util.EnumMap;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ParticipantGroupingService {
+
+    private final ParticipantRepository participantRepository;
+
+    public EnumMap<Role, Long> countByRole() {
+        return roleCounts().toMap();
+    }
+
+    public EnumMap<Country, Long> countByCountry() {
+        return countryCounts().toMap();
+    }
+
+    /**
+     * Participants per role, grouped on the stored codes and counted straight into an array.
+     */
+    public EnumCounts<Role> roleCounts() {
+        return count(Role.class, participantRepository.countByRole());
+    }
+
+    public EnumCounts<Country> countryCounts() {
+        return count(Country.class, participantRepository.countByCountry());
+    }
+
+    private static <E extends Enum<E> & CodedEnum> EnumCounts<E> count(Class<E> type,
+                                                                       List<ParticipantRepository.CodeCount> rows) {
+        EnumCounts<E> counts = EnumCounts.of(type);
+        rows.forEach(row -> counts.add(row.getCode(), row.getCount()));
+        return counts;
+    }
+
+    public CursorPageDTO<ParticipantDTO> membersOfRole(Role role, String cursor, int size) {
+        int pageSize = KeysetPaging.clampPageSize(size);
+        List<ParticipantDTO> rows = participantRepository.findByRoleAfter(
+                role, CursorCodec.decodeId(cursor), PageRequest.ofSize(pageSize + 1));
+        return KeysetPaging.toPage(rows, pageSize, last -> CursorCodec.encode(last.id()));
+    }
+
+    public CursorPageDTO<ParticipantDTO> membersOfCountry(Country country, String cursor, int size) {
+        int pageSize = KeysetPaging.clampPageSize(size);
+        List<ParticipantDTO> rows = participantRepository.findByCountryAfter(
+                country, CursorCodec.decodeId(cursor), PageRequest.ofSize(pageSize + 1));
+        return KeysetPaging.toPage(rows, pageSize, last -> CursorCodec.encode(last.id()));
+    }
+}
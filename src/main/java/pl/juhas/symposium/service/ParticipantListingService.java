@@ -0,0 +1,62 @@
+package pl.juhas.symposium.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pl.juhas.symposium.dto.CursorPageDTO;
+import pl.juhas.symposium.dto.ParticipantDTO;
+import pl.juhas.symposium.enums.Role;
+import pl.juhas.symposium.exception.InvalidCursorException;
+import pl.juhas.symposium.repository.ParticipantRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lists participants ordered by (role, id) using keyset pagination. Participants without a role
+ * come last; they are read by a separate id-ordered query once the role-ordered rows run out,
+ * so every page is a bounded range scan on the (role, id) index.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ParticipantListingService {
+
+    private final ParticipantRepository participantRepository;
+
+    public CursorPageDTO<ParticipantDTO> list(String cursor, int size) {
+        int pageSize = KeysetPaging.clampPageSize(size);
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
+        List<ParticipantDTO> rows = new ArrayList<>(pageSize + 1);
+
+        if (cursor == null || cursor.isEmpty()) {
+            rows.addAll(participantRepository.findPageOrderedByRole(limit));
+        } else {
+            String[] key = CursorCodec.decode(cursor, 2);
+            long afterId = CursorCodec.parseLong(cursor, key[1]);
+            if (key[0].isEmpty()) {
+                return KeysetPaging.toPage(participantRepository.findPageWithoutRoleAfter(afterId, limit),
+                        pageSize, ParticipantListingService::cursorOf);
+            }
+            rows.addAll(participantRepository.findPageOrderedByRoleAfter(parseRole(cursor, key[0]), afterId, limit));
+        }
+
+        if (rows.size() <= pageSize) {
+            rows.addAll(participantRepository.findPageWithoutRoleAfter(0L, PageRequest.ofSize(pageSize + 1 - rows.size())));
+        }
+        return KeysetPaging.toPage(rows, pageSize, ParticipantListingService::cursorOf);
+    }
+
+    private static String cursorOf(ParticipantDTO last) {
+        return CursorCodec.encode(last.role() == null ? null : last.role().name(), last.id());
+    }
+
+    private static Role parseRole(String cursor, String role) {
+        try {
+            return Role.valueOf(role);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
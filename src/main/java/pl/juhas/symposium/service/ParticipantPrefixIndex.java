@@ -0,0 +1,125 @@
+package pl.juhas.symposium.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pl.juhas.symposium.dto.ParticipantDTO;
+import pl.juhas.symposium.event.BulkImportCompletedEvent;
+import pl.juhas.symposium.event.ChangeType;
+import pl.juhas.symposium.event.ParticipantChangedEvent;
+import pl.juhas.symposium.repository.ParticipantRepository;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Sorted in-memory index of normalized "first last", "last first" and email keys for typeahead.
+ * A lookup is a range scan of a skip list starting at the typed prefix, so results come back in
+ * key order without touching the database; writes are applied from committed participant changes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParticipantPrefixIndex {
+
+    private static final char ID_SEPARATOR = '\u0000';
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    private final ParticipantRepository participantRepository;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ConcurrentSkipListMap<String, ParticipantDTO> entries = new ConcurrentSkipListMap<>();
+    private final Map<Long, ParticipantDTO> participants = new ConcurrentHashMap<>();
+
+    public List<ParticipantDTO> search(String query, int limit) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ParticipantDTO> hits = new LinkedHashMap<>();
+        for (ParticipantDTO participant : entries.subMap(prefix, prefix + Character.MAX_VALUE).values()) {
+            hits.putIfAbsent(participant.id(), participant);
+            if (hits.size() == limit) {
+                break;
+            }
+        }
+        return List.copyOf(hits.values());
+    }
+
+    public int size() {
+        return participants.size();
+    }
+
+    @EventListener({ApplicationReadyEvent.class, BulkImportCompletedEvent.class})
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        writeLock.lock();
+        try (Stream<ParticipantDTO> rows = participantRepository.streamAllAsDto()) {
+            entries.clear();
+            participants.clear();
+            rows.forEach(this::add);
+            log.info("Participant prefix index rebuilt: {} participants, {} keys", participants.size(), entries.size());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onParticipantChanged(ParticipantChangedEvent event) {
+        writeLock.lock();
+        try {
+            remove(event.participantId());
+            if (event.type() != ChangeType.DELETED) {
+                add(new ParticipantDTO(event.participantId(), event.firstName(), event.lastName(), event.email(),
+                        event.role(), event.country()));
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void add(ParticipantDTO participant) {
+        participants.put(participant.id(), participant);
+        for (String key : keysOf(participant)) {
+            entries.put(key, participant);
+        }
+    }
+
+    private void remove(long participantId) {
+        ParticipantDTO previous = participants.remove(participantId);
+        if (previous != null) {
+            keysOf(previous).forEach(entries::remove);
+        }
+    }
+
+    private static Set<String> keysOf(ParticipantDTO participant) {
+        String first = normalize(participant.firstName());
+        String last = normalize(participant.lastName());
+        String email = normalize(participant.email());
+        Set<String> keys = new HashSet<>(4);
+        for (String key : new String[]{(first + ' ' + last).strip(), (last + ' ' + first).strip(), email}) {
+            if (!key.isEmpty()) {
+                keys.add(key + ID_SEPARATOR + participant.id());
+            }
+        }
+        return keys;
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String stripped = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return SPACES.matcher(stripped.strip().toLowerCase(Locale.ROOT)).replaceAll(" ");
+    }
+}
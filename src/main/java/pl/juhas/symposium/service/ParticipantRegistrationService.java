@@ -0,0 +1,60 @@
+package pl.juhas.symposium.service;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pl.juhas.symposium.dto.BulkRegistrationResultDTO;
+import pl.juhas.symposium.dto.ParticipantDTO;
+import pl.juhas.symposium.model.Participant;
+
+import java.util.Iterator;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ParticipantRegistrationService {
+
+    private final EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    /**
+     * Registers every participant produced by {@code rows} in a single transaction. The persistence
+     * context is flushed and cleared once per JDBC batch, so memory stays bounded by the batch size
+     * rather than by the number of rows.
+     */
+    @Transactional
+    public BulkRegistrationResultDTO registerAll(Iterator<ParticipantDTO> rows) {
+        long started = System.nanoTime();
+        long registered = 0;
+
+        while (rows.hasNext()) {
+            entityManager.persist(toEntity(rows.next()));
+            if (++registered % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        long elapsedNanos = System.nanoTime() - started;
+        double rowsPerSecond = elapsedNanos == 0 ? 0 : registered * 1_000_000_000d / elapsedNanos;
+        log.info("Registered {} participants in {} ms ({} rows/s)", registered, elapsedNanos / 1_000_000, Math.round(rowsPerSecond));
+        return new BulkRegistrationResultDTO(registered, elapsedNanos / 1_000_000, rowsPerSecond);
+    }
+
+    private static Participant toEntity(ParticipantDTO dto) {
+        Participant participant = new Participant();
+        participant.setFirstName(dto.firstName());
+        participant.setLastName(dto.lastName());
+        participant.setEmail(dto.email());
+        participant.setRole(dto.role());
+        participant.setCountry(dto.country());
+        return participant;
+    }
+}
@@ -0,0 +1,63 @@
+package pl.juhas.symposium.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pl.juhas.symposium.dto.CursorPageDTO;
+import pl.juhas.symposium.dto.PresentationDTO;
+import pl.juhas.symposium.exception.InvalidCursorException;
+import pl.juhas.symposium.repository.PresentationRepository;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lists presentations ordered by (start time, id) using keyset pagination; unscheduled
+ * presentations follow the scheduled ones, the same way {@link ParticipantListingService}
+ * handles participants without a role.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PresentationListingService {
+
+    private final PresentationRepository presentationRepository;
+
+    public CursorPageDTO<PresentationDTO> list(String cursor, int size) {
+        int pageSize = KeysetPaging.clampPageSize(size);
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
+        List<PresentationDTO> rows = new ArrayList<>(pageSize + 1);
+
+        if (cursor == null || cursor.isEmpty()) {
+            rows.addAll(presentationRepository.findPageOrderedByStartTime(limit));
+        } else {
+            String[] key = CursorCodec.decode(cursor, 2);
+            long afterId = CursorCodec.parseLong(cursor, key[1]);
+            if (key[0].isEmpty()) {
+                return KeysetPaging.toPage(presentationRepository.findPageWithoutStartTimeAfter(afterId, limit),
+                        pageSize, PresentationListingService::cursorOf);
+            }
+            rows.addAll(presentationRepository.findPageOrderedByStartTimeAfter(parseStartTime(cursor, key[0]), afterId, limit));
+        }
+
+        if (rows.size() <= pageSize) {
+            rows.addAll(presentationRepository.findPageWithoutStartTimeAfter(0L, PageRequest.ofSize(pageSize + 1 - rows.size())));
+        }
+        return KeysetPaging.toPage(rows, pageSize, PresentationListingService::cursorOf);
+    }
+
+    private static String cursorOf(PresentationDTO last) {
+        return CursorCodec.encode(last.startTime(), last.id());
+    }
+
+    private static LocalDateTime parseStartTime(String cursor, String startTime) {
+        try {
+            return LocalDateTime.parse(startTime);
+        } catch (DateTimeParseException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
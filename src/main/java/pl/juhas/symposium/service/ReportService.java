@@ -0,0 +1,28 @@
+package pl.juhas.symposium.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pl.juhas.symposium.dto.HallUtilizationDTO;
+import pl.juhas.symposium.dto.SpeakerStatsDTO;
+import pl.juhas.symposium.repository.ConferenceHallRepository;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ReportService {
+
+    private final ConferenceHallRepository conferenceHallRepository;
+    private final SpeakerLeaderboard speakerLeaderboard;
+
+    @Transactional(readOnly = true)
+    public List<HallUtilizationDTO> hallUtilization() {
+        return conferenceHallRepository.findHallUtilization();
+    }
+
+    // Served from memory; deliberately not transactional so it never waits for a pooled connection
+    public List<SpeakerStatsDTO> topSpeakers(int limit) {
+        return speakerLeaderboard.top(limit);
+    }
+}
@@ -0,0 +1,112 @@
+package pl.juhas.symposium.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import pl.juhas.symposium.dto.*;
+import pl.juhas.symposium.enums.EditConflictReason;
+import pl.juhas.symposium.exception.EditConflictException;
+import pl.juhas.symposium.exception.InvalidSlotException;
+import pl.juhas.symposium.exception.NotFoundException;
+import pl.juhas.symposium.model.ConferenceHall;
+import pl.juhas.symposium.model.Participant;
+import pl.juhas.symposium.model.Presentation;
+import pl.juhas.symposium.model.Topic;
+import pl.juhas.symposium.repository.ConferenceHallRepository;
+import pl.juhas.symposium.repository.ParticipantRepository;
+import pl.juhas.symposium.repository.PresentationRepository;
+import pl.juhas.symposium.repository.TopicRepository;
+import pl.juhas.symposium.schedule.ScheduleConflictIndex;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Schedule edits made by organizers. Edits carry absolute values, so one that lost an
+ * optimistic-lock race is simply applied again to the new state by {@link OptimisticRetry}; no row
+ * is locked while an organizer works. Moves are checked against {@link ScheduleConflictIndex}
+ * before they are written. The index only learns about a move once it commits; moves that pass the
+ * check concurrently are stopped by the exclusion constraints on halls and presenters, which the
+ * {@code ConflictExceptionHandler} answers with {@code CONSTRAINT}.
+ */
+@Service
+@RequiredArgsConstructor
+public class ScheduleEditService {
+
+    private static final String PRESENTATION = "Presentation";
+    private static final String TOPIC = "Topic";
+
+    private final OptimisticRetry optimisticRetry;
+    private final PresentationRepository presentationRepository;
+    private final ConferenceHallRepository conferenceHallRepository;
+    private final TopicRepository topicRepository;
+    private final ParticipantRepository participantRepository;
+    private final ScheduleConflictIndex scheduleConflictIndex;
+
+    public PresentationEditResultDTO move(long presentationId, PresentationMoveDTO move) {
+        if (move.durationMinutes() != null && move.durationMinutes() <= 0) {
+            throw new InvalidSlotException("durationMinutes must be positive");
+        }
+        return optimisticRetry.execute(PRESENTATION, presentationId, () -> {
+            Presentation presentation = presentationRepository.findById(presentationId)
+                    .orElseThrow(() -> new NotFoundException(PRESENTATION, presentationId));
+            checkVersion(PRESENTATION, presentationId, move.version(), presentation.getVersion());
+            if (move.hallId() != null) {
+                ConferenceHall hall = conferenceHallRepository.findById(move.hallId())
+                        .orElseThrow(() -> new NotFoundException("ConferenceHall", move.hallId()));
+                presentation.setConferenceHall(hall);
+            }
+            if (move.startTime() != null) {
+                presentation.setStartTime(move.startTime());
+            }
+            if (move.durationMinutes() != null) {
+                presentation.setDurationMinutes(move.durationMinutes());
+            }
+            checkSchedule(presentation);
+            presentationRepository.flush();
+            return new PresentationEditResultDTO(presentation.getId(), presentation.getVersion(),
+                    presentation.getTopic() == null ? null : presentation.getTopic().getId(),
+                    presentation.getConferenceHall() == null ? null : presentation.getConferenceHall().getId(),
+                    presentation.getStartTime(), presentation.getDurationMinutes());
+        });
+    }
+
+    public TopicEditResultDTO replacePresenters(long topicId, PresentersUpdateDTO update) {
+        Set<Long> presenterIds = update.presenterIds() == null ? Set.of() : update.presenterIds();
+        return optimisticRetry.execute(TOPIC, topicId, () -> {
+            Topic topic = topicRepository.findById(topicId).orElseThrow(() -> new NotFoundException(TOPIC, topicId));
+            checkVersion(TOPIC, topicId, update.version(), topic.getVersion());
+            List<Participant> presenters = participantRepository.findAllById(presenterIds);
+            if (presenters.size() != presenterIds.size()) {
+                Set<Long> missing = new HashSet<>(presenterIds);
+                presenters.forEach(presenter -> missing.remove(presenter.getId()));
+                throw new NotFoundException("Participant", missing.iterator().next());
+            }
+            topic.setPresenters(new HashSet<>(presenters));
+            topicRepository.flush();
+            return new TopicEditResultDTO(topic.getId(), topic.getVersion(),
+                    presenters.stream().map(Participant::getId).sorted().toList());
+        });
+    }
+
+    private void checkVersion(String entity, long id, Long expected, long current) {
+        if (expected != null && expected != current) {
+            throw EditConflictException.staleVersion(entity, id, expected, current);
+        }
+    }
+
+    private void checkSchedule(Presentation presentation) {
+        if (presentation.getStartTime() == null) {
+            return;
+        }
+        List<ScheduleConflictDTO> conflicts = scheduleConflictIndex.conflicts(List.of(new ProposedSlotDTO(
+                presentation.getId(),
+                presentation.getConferenceHall() == null ? null : presentation.getConferenceHall().getId(),
+                presentation.getTopic() == null ? null : presentation.getTopic().getId(),
+                null, presentation.getStartTime(), presentation.getDurationMinutes())));
+        if (!conflicts.isEmpty()) {
+            throw new EditConflictException(EditConflictReason.SCHEDULE_CONFLICT, PRESENTATION, presentation.getId(),
+                    null, presentation.getVersion(), conflicts);
+        }
+    }
+}
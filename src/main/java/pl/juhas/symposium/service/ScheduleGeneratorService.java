@@ -0,0 +1,168 @@
+package pl.juhas.symposium.service;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import pl.juhas.symposium.dto.PresentationSlotDTO;
+import pl.juhas.symposium.dto.PresenterAssignmentDTO;
+import pl.juhas.symposium.dto.ScheduleGenerationRequestDTO;
+import pl.juhas.symposium.dto.ScheduleGenerationResultDTO;
+import pl.juhas.symposium.exception.InvalidSlotException;
+import pl.juhas.symposium.model.ConferenceHall;
+import pl.juhas.symposium.model.Presentation;
+import pl.juhas.symposium.model.Topic;
+import pl.juhas.symposium.repository.ConferenceHallRepository;
+import pl.juhas.symposium.repository.PresentationRepository;
+import pl.juhas.symposium.repository.TopicRepository;
+import pl.juhas.symposium.schedule.ScheduleProblem;
+import pl.juhas.symposium.schedule.ScheduleSolver;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Schedules every topic that has no presentation yet into the requested slots and halls. Existing
+ * presentations keep their halls and block their presenters. The search runs outside any
+ * transaction; only the resulting presentations are written, in JDBC-sized batches.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScheduleGeneratorService {
+
+    private static final Duration MAX_TIME_BUDGET = Duration.ofSeconds(30);
+
+    private final TopicRepository topicRepository;
+    private final PresentationRepository presentationRepository;
+    private final ConferenceHallRepository conferenceHallRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    @Value("${symposium.schedule.time-budget:2s}")
+    private Duration defaultTimeBudget;
+
+    public ScheduleGenerationResultDTO generate(ScheduleGenerationRequestDTO request) {
+        int duration = request.durationMinutes() == null
+                ? (int) Presentation.DEFAULT_DURATION.toMinutes() : request.durationMinutes();
+        List<LocalDateTime> slots = slotsOf(request, duration);
+        List<Long> hallIds = (request.hotelId() == null
+                ? conferenceHallRepository.findAll() : conferenceHallRepository.findByHotelId(request.hotelId()))
+                .stream().map(ConferenceHall::getId).toList();
+        if (hallIds.isEmpty()) {
+            throw new InvalidSlotException("no conference halls to schedule into");
+        }
+
+        List<Long> topicIds = topicRepository.findUnscheduledTopicIds();
+        Map<Long, List<Long>> presentersByTopic = new HashMap<>();
+        for (PresenterAssignmentDTO assignment : topicRepository.findAllPresenterAssignments()) {
+            presentersByTopic.computeIfAbsent(assignment.topicId(), id -> new ArrayList<>()).add(assignment.participantId());
+        }
+        Map<Long, Integer> presenterIndex = new HashMap<>();
+        int[][] presenters = new int[topicIds.size()][];
+        for (int topic = 0; topic < presenters.length; topic++) {
+            presenters[topic] = presentersByTopic.getOrDefault(topicIds.get(topic), List.of()).stream()
+                    .mapToInt(id -> presenterIndex.computeIfAbsent(id, key -> presenterIndex.size()))
+                    .toArray();
+        }
+
+        ScheduleProblem problem = new ScheduleProblem(presenters, presenterIndex.size(), hallIds.size(), slots.size());
+        blockScheduledPresentations(problem, slots, duration, hallIds, presentersByTopic, presenterIndex);
+
+        long started = System.nanoTime();
+        ScheduleSolver.Solution solution = ScheduleSolver.solve(problem, timeBudgetOf(request),
+                request.seed() == null ? System.nanoTime() : request.seed(), Runtime.getRuntime().availableProcessors());
+        long searchMillis = (System.nanoTime() - started) / 1_000_000;
+
+        started = System.nanoTime();
+        int scheduled = transactionTemplate.execute(status -> persist(solution, topicIds, hallIds, slots, duration));
+        long persistMillis = (System.nanoTime() - started) / 1_000_000;
+
+        log.info("Scheduled {} of {} topics into {} halls x {} slots after {} attempts ({} ms search, {} ms persist)",
+                scheduled, topicIds.size(), hallIds.size(), slots.size(), solution.attempts(), searchMillis, persistMillis);
+        return new ScheduleGenerationResultDTO(topicIds.size(), scheduled, solution.unassigned(), hallIds.size(),
+                solution.attempts(), searchMillis, persistMillis, solution.minHallLoad(), solution.maxHallLoad());
+    }
+
+    private void blockScheduledPresentations(ScheduleProblem problem, List<LocalDateTime> slots, int duration,
+                                             List<Long> hallIds, Map<Long, List<Long>> presentersByTopic,
+                                             Map<Long, Integer> presenterIndex) {
+        Map<Long, Integer> hallIndex = new HashMap<>();
+        for (int hall = 0; hall < hallIds.size(); hall++) {
+            hallIndex.put(hallIds.get(hall), hall);
+        }
+        for (PresentationSlotDTO existing : presentationRepository.findAllSlots()) {
+            LocalDateTime existingEnd = existing.startTime().plusMinutes(existing.durationMinutes());
+            for (int slot = 0; slot < slots.size(); slot++) {
+                LocalDateTime start = slots.get(slot);
+                if (!existing.startTime().isBefore(start.plusMinutes(duration)) || !existingEnd.isAfter(start)) {
+                    continue;
+                }
+                Integer hall = hallIndex.get(existing.hallId());
+                if (hall != null) {
+                    problem.blockCell(slot, hall);
+                }
+                for (Long presenterId : presentersByTopic.getOrDefault(existing.topicId(), List.of())) {
+                    Integer presenter = presenterIndex.get(presenterId);
+                    if (presenter != null) {
+                        problem.blockPresenter(presenter, slot);
+                    }
+                }
+            }
+        }
+    }
+
+    private int persist(ScheduleSolver.Solution solution, List<Long> topicIds, List<Long> hallIds,
+                        List<LocalDateTime> slots, int duration) {
+        int persisted = 0;
+        for (int topic = 0; topic < topicIds.size(); topic++) {
+            int slot = solution.slotByTopic()[topic];
+            if (slot < 0) {
+                continue;
+            }
+            Presentation presentation = new Presentation();
+            presentation.setTopic(entityManager.getReference(Topic.class, topicIds.get(topic)));
+            presentation.setConferenceHall(entityManager.getReference(ConferenceHall.class,
+                    hallIds.get(solution.hallByTopic()[topic])));
+            presentation.setStartTime(slots.get(slot));
+            presentation.setDurationMinutes(duration);
+            entityManager.persist(presentation);
+            if (++persisted % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return persisted;
+    }
+
+    private static List<LocalDateTime> slotsOf(ScheduleGenerationRequestDTO request, int duration) {
+        if (duration <= 0) {
+            throw new InvalidSlotException("duration must be positive");
+        }
+        List<LocalDateTime> slots = request.slots() == null ? List.of()
+                : request.slots().stream().filter(Objects::nonNull).sorted().distinct().toList();
+        if (slots.isEmpty()) {
+            throw new InvalidSlotException("at least one slot is required");
+        }
+        for (int i = 1; i < slots.size(); i++) {
+            if (slots.get(i - 1).plusMinutes(duration).isAfter(slots.get(i))) {
+                throw new InvalidSlotException("slots " + slots.get(i - 1) + " and " + slots.get(i) + " overlap");
+            }
+        }
+        return slots;
+    }
+
+    private Duration timeBudgetOf(ScheduleGenerationRequestDTO request) {
+        Duration budget = request.timeBudgetMillis() == null
+                ? defaultTimeBudget : Duration.ofMillis(Math.max(0, request.timeBudgetMillis()));
+        return budget.compareTo(MAX_TIME_BUDGET) > 0 ? MAX_TIME_BUDGET : budget;
+    }
+}
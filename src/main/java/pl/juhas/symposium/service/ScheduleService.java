@@ -0,0 +1,56 @@
+package pl.juhas.symposium.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pl.juhas.symposium.dto.PresenterAssignmentDTO;
+import pl.juhas.symposium.dto.ScheduleEntryDTO;
+import pl.juhas.symposium.dto.ScheduleEntryDTO.SpeakerDTO;
+import pl.juhas.symposium.dto.ScheduleRowDTO;
+import pl.juhas.symposium.repository.PresentationRepository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the conference agenda from two projection queries, one for presentations with their
+ * hall, hotel, topic and attendee count and one for all presenters, no matter how many
+ * presentations the agenda contains.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ScheduleService {
+
+    private final PresentationRepository presentationRepository;
+
+    public List<ScheduleEntryDTO> schedule() {
+        return assemble(presentationRepository.findScheduleRows(), presentationRepository.findSchedulePresenters());
+    }
+
+    public List<ScheduleEntryDTO> schedule(LocalDate day) {
+        var from = day.atStartOfDay();
+        var to = day.plusDays(1).atStartOfDay();
+        return assemble(presentationRepository.findScheduleRowsBetween(from, to),
+                presentationRepository.findSchedulePresentersBetween(from, to));
+    }
+
+    private static List<ScheduleEntryDTO> assemble(List<ScheduleRowDTO> rows, List<PresenterAssignmentDTO> presenters) {
+        Map<Long, List<SpeakerDTO>> presentersByTopic = new HashMap<>();
+        for (PresenterAssignmentDTO presenter : presenters) {
+            presentersByTopic.computeIfAbsent(presenter.topicId(), id -> new ArrayList<>())
+                    .add(new SpeakerDTO(presenter.participantId(), presenter.firstName(), presenter.lastName()));
+        }
+
+        List<ScheduleEntryDTO> schedule = new ArrayList<>(rows.size());
+        for (ScheduleRowDTO row : rows) {
+            schedule.add(new ScheduleEntryDTO(row.presentationId(), row.startTime(), row.topicId(), row.topicName(),
+                    row.hallId(), row.hallName(), row.hotelName(), row.attendeeCount(),
+                    presentersByTopic.getOrDefault(row.topicId(), List.of())));
+        }
+        return schedule;
+    }
+}
@@ -0,0 +1,127 @@
+package pl.juhas.symposium.service;
+
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGStatement;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import pl.juhas.symposium.dto.ParticipantDTO;
+import pl.juhas.symposium.dto.SearchResultDTO;
+import pl.juhas.symposium.dto.TopicSearchHitDTO;
+import pl.juhas.symposium.enums.Country;
+import pl.juhas.symposium.enums.Role;
+
+import java.sql.PreparedStatement;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Ranked lookup of participants and topics. Participants whose name or email starts with the query
+ * come first, straight from the {@link ParticipantPrefixIndex}; remaining places are filled with
+ * substring matches nearest to the query by trigram distance, which the GiST trigram index returns
+ * in order, so very common fragments stop after the requested number of rows. Queries of several
+ * words then add participants matching all words in any order through the full-text index. Topics
+ * match on words through the full-text index and on substrings through the trigram index.
+ */
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+
+    public static final int MAX_LIMIT = 50;
+
+    private static final int MIN_TRIGRAM_QUERY = 3;
+
+    // The expression of the participant search indexes
+    private static final String DOCUMENT =
+            "lower(coalesce(first_name, '') || ' ' || coalesce(last_name, '') || ' ' || coalesce(email, ''))";
+
+    private static final String PARTICIPANT_SQL = """
+            SELECT id, first_name, last_name, email, role, country
+            FROM participant
+            WHERE %1$s LIKE ?
+            ORDER BY %1$s <-> ?, id
+            LIMIT ?
+            """.formatted(DOCUMENT);
+
+    private static final String PARTICIPANT_WORDS_SQL = """
+            SELECT id, first_name, last_name, email, role, country
+            FROM participant
+            WHERE to_tsvector('simple', %1$s) @@ plainto_tsquery('simple', ?)
+            ORDER BY %1$s <-> ?, id
+            LIMIT ?
+            """.formatted(DOCUMENT);
+
+    private static final String TOPIC_SQL = """
+            SELECT id, name
+            FROM topic
+            WHERE to_tsvector('simple', name) @@ plainto_tsquery('simple', ?)
+               OR lower(name) LIKE ?
+            ORDER BY ts_rank(to_tsvector('simple', name), plainto_tsquery('simple', ?)) + similarity(lower(name), ?) DESC, id
+            LIMIT ?
+            """;
+
+    private static final RowMapper<ParticipantDTO> PARTICIPANT_ROW = (rs, rowNum) -> new ParticipantDTO(
+            rs.getLong("id"), rs.getString("first_name"), rs.getString("last_name"), rs.getString("email"),
+            rs.getObject("role") == null ? null : Role.fromCode(rs.getShort("role")),
+            rs.getObject("country") == null ? null : Country.fromCode(rs.getShort("country")));
+
+    private static final RowMapper<TopicSearchHitDTO> TOPIC_ROW = (rs, rowNum) ->
+            new TopicSearchHitDTO(rs.getLong("id"), rs.getString("name"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ParticipantPrefixIndex participantPrefixIndex;
+
+    public SearchResultDTO search(String query, int limit) {
+        String normalized = query == null ? "" : query.strip().toLowerCase(Locale.ROOT);
+        if (normalized.isEmpty()) {
+            return new SearchResultDTO(List.of(), List.of());
+        }
+        String pattern = "%" + escapeLike(normalized) + "%";
+
+        Map<Long, ParticipantDTO> participants = new LinkedHashMap<>();
+        participantPrefixIndex.search(normalized, limit).forEach(hit -> participants.put(hit.id(), hit));
+        if (participants.size() < limit && normalized.length() >= MIN_TRIGRAM_QUERY) {
+            addUpTo(participants, limit, query(PARTICIPANT_SQL, PARTICIPANT_ROW, pattern, normalized, limit));
+        }
+        // A single word that matches as a word has matched as a substring already
+        if (participants.size() < limit && normalized.chars().anyMatch(Character::isWhitespace)) {
+            addUpTo(participants, limit, query(PARTICIPANT_WORDS_SQL, PARTICIPANT_ROW, normalized, normalized, limit));
+        }
+        List<TopicSearchHitDTO> topics = query(TOPIC_SQL, TOPIC_ROW, normalized, pattern, normalized, normalized, limit);
+        return new SearchResultDTO(List.copyOf(participants.values()), topics);
+    }
+
+    public List<ParticipantDTO> typeahead(String prefix, int limit) {
+        return participantPrefixIndex.search(prefix, limit);
+    }
+
+    private static void addUpTo(Map<Long, ParticipantDTO> participants, int limit, List<ParticipantDTO> hits) {
+        for (ParticipantDTO hit : hits) {
+            if (participants.size() == limit) {
+                break;
+            }
+            participants.putIfAbsent(hit.id(), hit);
+        }
+    }
+
+    /**
+     * Runs the query as an unnamed statement, so it is always planned for the actual pattern. A
+     * cached generic plan cannot tell a rare fragment from a common one and tends to fall back to a
+     * sequential scan.
+     */
+    private <T> List<T> query(String sql, RowMapper<T> rowMapper, Object... args) {
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.unwrap(PGStatement.class).setPrepareThreshold(0);
+            new ArgumentPreparedStatementSetter(args).setValues(statement);
+            return statement;
+        }, rowMapper);
+    }
+
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,230 @@
+package pl.juhas.symposium.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pl.juhas.symposium.dto.PresentationTopicDTO;
+import pl.juhas.symposium.dto.PresenterAssignmentDTO;
+import pl.juhas.symposium.dto.SpeakerStatsDTO;
+import pl.juhas.symposium.event.*;
+import pl.juhas.symposium.repository.PresentationRepository;
+import pl.juhas.symposium.repository.TopicRepository;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory equivalent of {@link PresentationRepository#findTopSpeaker}: keeps the number of
+ * presentations per presenter and a ranking ordered by that count. Reads walk the head of a
+ * skip list and never touch the database; writes are applied from committed entity changes.
+ * <p>
+ * Presenter names live only in {@code presenters}, so a rename reaches every later count change.
+ * A rename replaces the value of the ranked entry in place; a count change inserts the new entry
+ * before removing the old one, so a concurrent reader may see a speaker twice but never misses one.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpeakerLeaderboard {
+
+    private static final Comparator<Rank> RANKING = Comparator.comparingLong(Rank::presentationCount).reversed()
+            .thenComparingLong(Rank::participantId);
+
+    private final TopicRepository topicRepository;
+    private final PresentationRepository presentationRepository;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ConcurrentSkipListMap<Rank, ParticipantRef> ranking = new ConcurrentSkipListMap<>(RANKING);
+    private final Map<Long, Long> counts = new HashMap<>();
+    private final Map<Long, ParticipantRef> presenters = new HashMap<>();
+    private final Map<Long, Integer> topicsByPresenter = new HashMap<>();
+    private final Map<Long, long[]> presentersByTopic = new HashMap<>();
+    private final Map<Long, Long> topicByPresentation = new HashMap<>();
+    private final Map<Long, Integer> presentationsByTopic = new HashMap<>();
+
+    public List<SpeakerStatsDTO> top(int limit) {
+        List<SpeakerStatsDTO> top = new ArrayList<>(Math.min(limit, 64));
+        Set<Long> seen = new HashSet<>();
+        for (Map.Entry<Rank, ParticipantRef> entry : ranking.entrySet()) {
+            if (top.size() == limit) {
+                break;
+            }
+            if (seen.add(entry.getKey().participantId())) {
+                ParticipantRef speaker = entry.getValue();
+                top.add(new SpeakerStatsDTO(speaker.firstName(), speaker.lastName(), entry.getKey().presentationCount()));
+            }
+        }
+        return top;
+    }
+
+    @EventListener({ApplicationReadyEvent.class, BulkImportCompletedEvent.class})
+    public void rebuild() {
+        writeLock.lock();
+        try {
+            ranking.clear();
+            counts.clear();
+            presenters.clear();
+            topicsByPresenter.clear();
+            presentersByTopic.clear();
+            topicByPresentation.clear();
+            presentationsByTopic.clear();
+
+            Map<Long, List<Long>> assignments = new HashMap<>();
+            for (PresenterAssignmentDTO assignment : topicRepository.findAllPresenterAssignments()) {
+                presenters.put(assignment.participantId(),
+                        new ParticipantRef(assignment.participantId(), assignment.firstName(), assignment.lastName()));
+                topicsByPresenter.merge(assignment.participantId(), 1, Integer::sum);
+                assignments.computeIfAbsent(assignment.topicId(), id -> new ArrayList<>()).add(assignment.participantId());
+            }
+            assignments.forEach((topicId, ids) -> presentersByTopic.put(topicId, ids.stream().mapToLong(Long::longValue).toArray()));
+            for (PresentationTopicDTO presentation : presentationRepository.findAllPresentationTopics()) {
+                addPresentation(presentation.presentationId(), presentation.topicId());
+            }
+            log.info("Speaker leaderboard rebuilt: {} speakers, {} presentations", counts.size(), topicByPresentation.size());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPresentationChanged(PresentationChangedEvent event) {
+        writeLock.lock();
+        try {
+            switch (event.type()) {
+                case CREATED -> addPresentation(event.presentationId(), event.topicId());
+                case DELETED -> removePresentation(event.presentationId());
+                case UPDATED -> {
+                    if (!Objects.equals(topicByPresentation.get(event.presentationId()), event.topicId())) {
+                        removePresentation(event.presentationId());
+                        addPresentation(event.presentationId(), event.topicId());
+                    }
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTopicPresentersChanged(TopicPresentersChangedEvent event) {
+        writeLock.lock();
+        try {
+            int presentations = presentationsByTopic.getOrDefault(event.topicId(), 0);
+            long[] previous = presentersByTopic.getOrDefault(event.topicId(), new long[0]);
+            Set<Long> before = new HashSet<>();
+            Arrays.stream(previous).forEach(before::add);
+            Set<Long> after = idsOf(event.presenters());
+            for (long presenter : previous) {
+                if (!after.contains(presenter)) {
+                    adjust(presenter, -presentations);
+                    releasePresenter(presenter);
+                }
+            }
+            for (ParticipantRef presenter : event.presenters()) {
+                rename(presenter);
+                if (!before.contains(presenter.id())) {
+                    topicsByPresenter.merge(presenter.id(), 1, Integer::sum);
+                    adjust(presenter.id(), presentations);
+                }
+            }
+
+            if (event.presenters().isEmpty()) {
+                presentersByTopic.remove(event.topicId());
+            } else {
+                presentersByTopic.put(event.topicId(), event.presenters().stream().mapToLong(ParticipantRef::id).toArray());
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onParticipantChanged(ParticipantChangedEvent event) {
+        writeLock.lock();
+        try {
+            if (!presenters.containsKey(event.participantId())) {
+                return;
+            }
+            if (event.type() == ChangeType.DELETED) {
+                presenters.remove(event.participantId());
+                topicsByPresenter.remove(event.participantId());
+                Long count = counts.remove(event.participantId());
+                if (count != null) {
+                    ranking.remove(new Rank(count, event.participantId()));
+                }
+            } else {
+                rename(new ParticipantRef(event.participantId(), event.firstName(), event.lastName()));
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void releasePresenter(long presenterId) {
+        if (topicsByPresenter.merge(presenterId, -1, Integer::sum) <= 0) {
+            topicsByPresenter.remove(presenterId);
+            presenters.remove(presenterId);
+        }
+    }
+
+    private void rename(ParticipantRef presenter) {
+        presenters.put(presenter.id(), presenter);
+        Long count = counts.get(presenter.id());
+        if (count != null) {
+            ranking.put(new Rank(count, presenter.id()), presenter);
+        }
+    }
+
+    private void addPresentation(long presentationId, Long topicId) {
+        if (topicId == null) {
+            return;
+        }
+        topicByPresentation.put(presentationId, topicId);
+        presentationsByTopic.merge(topicId, 1, Integer::sum);
+        for (long presenter : presentersByTopic.getOrDefault(topicId, new long[0])) {
+            adjust(presenter, 1);
+        }
+    }
+
+    private void removePresentation(long presentationId) {
+        Long topicId = topicByPresentation.remove(presentationId);
+        if (topicId == null) {
+            return;
+        }
+        presentationsByTopic.computeIfPresent(topicId, (id, count) -> count == 1 ? null : count - 1);
+        for (long presenter : presentersByTopic.getOrDefault(topicId, new long[0])) {
+            adjust(presenter, -1);
+        }
+    }
+
+    private void adjust(long presenterId, long delta) {
+        ParticipantRef presenter = presenters.get(presenterId);
+        if (delta == 0 || presenter == null) {
+            return;
+        }
+        long previous = counts.getOrDefault(presenterId, 0L);
+        long count = previous + delta;
+        if (count > 0) {
+            counts.put(presenterId, count);
+            ranking.put(new Rank(count, presenterId), presenter);
+        } else {
+            counts.remove(presenterId);
+        }
+        if (previous > 0) {
+            ranking.remove(new Rank(previous, presenterId));
+        }
+    }
+
+    private static Set<Long> idsOf(List<ParticipantRef> participants) {
+        Set<Long> ids = new HashSet<>();
+        participants.forEach(participant -> ids.add(participant.id()));
+        return ids;
+    }
+
+    private record Rank(long presentationCount, long participantId) {
+    }
+}
@@ -0,0 +1,147 @@
+-- Schema as of the switch from Hibernate-generated DDL to migrations. Hibernate only validates it
+-- (ddl-auto=validate), so any change to the entities needs a new migration.
+--
+-- Indexes follow the queries that use them:
+--   participant (role, id), (country, id)    keyset listings per role and country, role/country counts
+--   presentation (start_time, id)            keyset listing and schedule ranges by start time
+--   topic primary key including name         topic names joined into listings, schedules and agendas
+--                                            from the index alone
+--   presentation (conference_hall_id, ...)   hall conflicts, hall utilization and counts per hall, without
+--                                            touching the table thanks to the included duration
+--   presentation_participants, topic_presenters
+--                                            the primary key serves lookups by presentation/topic, a reverse
+--                                            index lookups by participant (agendas, speaker stats, FK checks)
+--   waitlist_entry (presentation_id, id)     next participant to promote, in arrival order
+--   conference_hall (hotel_id), waitlist_entry (participant_id)
+--                                            foreign keys followed from the parent side
+--   trigram and full-text GIN indexes        participant and topic search
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE SEQUENCE hotel_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE conference_hall_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE participant_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE topic_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE presentation_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE waitlist_entry_seq START WITH 1 INCREMENT BY 1;
+CREATE SEQUENCE outbox_event_seq START WITH 1 INCREMENT BY 1;
+
+CREATE TABLE hotel (
+    id      bigint       NOT NULL,
+    name    varchar(255) NOT NULL,
+    address varchar(255) NOT NULL,
+    CONSTRAINT pk_hotel PRIMARY KEY (id)
+);
+
+CREATE TABLE conference_hall (
+    id       bigint NOT NULL,
+    name     varchar(255),
+    capacity integer,
+    hotel_id bigint,
+    CONSTRAINT pk_conference_hall PRIMARY KEY (id),
+    CONSTRAINT fk_conference_hall_hotel FOREIGN KEY (hotel_id) REFERENCES hotel (id)
+);
+
+CREATE INDEX idx_conference_hall_hotel_id ON conference_hall (hotel_id);
+
+-- role and country hold the codes of the Role and Country enums
+CREATE TABLE participant (
+    id         bigint       NOT NULL,
+    first_name varchar(255) NOT NULL,
+    last_name  varchar(255) NOT NULL,
+    email      varchar(255),
+    role       smallint,
+    country    smallint,
+    CONSTRAINT pk_participant PRIMARY KEY (id),
+    CONSTRAINT uk_participant_email UNIQUE (email)
+);
+
+CREATE INDEX idx_participant_role_id ON participant (role, id);
+CREATE INDEX idx_participant_country_id ON participant (country, id);
+CREATE INDEX idx_participant_search_trgm ON participant
+    USING gin ((lower(coalesce(first_name, '') || ' ' || coalesce(last_name, '') || ' ' || coalesce(email, ''))) gin_trgm_ops);
+
+CREATE TABLE topic (
+    id      bigint       NOT NULL,
+    name    varchar(255) NOT NULL,
+    version bigint       NOT NULL DEFAULT 0,
+    CONSTRAINT pk_topic PRIMARY KEY (id) INCLUDE (name),
+    CONSTRAINT uk_topic_name UNIQUE (name)
+);
+
+CREATE INDEX idx_topic_name_trgm ON topic USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX idx_topic_name_fts ON topic USING gin (to_tsvector('simple', name));
+
+CREATE TABLE topic_presenters (
+    topic_id       bigint NOT NULL,
+    participant_id bigint NOT NULL,
+    CONSTRAINT pk_topic_presenters PRIMARY KEY (topic_id, participant_id),
+    CONSTRAINT fk_topic_presenters_topic FOREIGN KEY (topic_id) REFERENCES topic (id),
+    CONSTRAINT fk_topic_presenters_participant FOREIGN KEY (participant_id) REFERENCES participant (id)
+);
+
+CREATE INDEX idx_topic_presenters_participant_id ON topic_presenters (participant_id, topic_id);
+
+-- A topic is presented at most once, which also rules out two presentations of a topic at one time
+CREATE TABLE presentation (
+    id                 bigint  NOT NULL,
+    topic_id           bigint,
+    conference_hall_id bigint,
+    start_time         timestamp(6),
+    duration_minutes   integer NOT NULL,
+    version            bigint  NOT NULL DEFAULT 0,
+    CONSTRAINT pk_presentation PRIMARY KEY (id),
+    CONSTRAINT uk_presentation_topic UNIQUE (topic_id),
+    CONSTRAINT uk_presentation_hall_start UNIQUE (conference_hall_id, start_time) INCLUDE (duration_minutes),
+    CONSTRAINT fk_presentation_topic FOREIGN KEY (topic_id) REFERENCES topic (id),
+    CONSTRAINT fk_presentation_conference_hall FOREIGN KEY (conference_hall_id) REFERENCES conference_hall (id)
+);
+
+CREATE INDEX idx_presentation_start_time_id ON presentation (start_time, id);
+
+CREATE TABLE presentation_participants (
+    presentation_id bigint NOT NULL,
+    participant_id  bigint NOT NULL,
+    CONSTRAINT pk_presentation_participants PRIMARY KEY (presentation_id, participant_id),
+    CONSTRAINT fk_presentation_participants_presentation FOREIGN KEY (presentation_id) REFERENCES presentation (id),
+    CONSTRAINT fk_presentation_participants_participant FOREIGN KEY (participant_id) REFERENCES participant (id)
+);
+
+CREATE INDEX idx_presentation_participants_participant_id ON presentation_participants (participant_id, presentation_id);
+
+CREATE TABLE presentation_seats (
+    presentation_id bigint  NOT NULL,
+    taken           integer NOT NULL,
+    CONSTRAINT pk_presentation_seats PRIMARY KEY (presentation_id),
+    CONSTRAINT fk_presentation_seats_presentation FOREIGN KEY (presentation_id) REFERENCES presentation (id)
+        ON DELETE CASCADE
+);
+
+CREATE TABLE waitlist_entry (
+    id              bigint       NOT NULL,
+    presentation_id bigint       NOT NULL,
+    participant_id  bigint       NOT NULL,
+    created_at      timestamp(6) NOT NULL,
+    CONSTRAINT pk_waitlist_entry PRIMARY KEY (id),
+    CONSTRAINT uk_waitlist_entry_presentation_participant UNIQUE (presentation_id, participant_id),
+    CONSTRAINT fk_waitlist_entry_presentation FOREIGN KEY (presentation_id) REFERENCES presentation (id)
+        ON DELETE CASCADE,
+    CONSTRAINT fk_waitlist_entry_participant FOREIGN KEY (participant_id) REFERENCES participant (id)
+        ON DELETE CASCADE
+);
+
+CREATE INDEX idx_waitlist_entry_presentation_id_id ON waitlist_entry (presentation_id, id);
+CREATE INDEX idx_waitlist_entry_participant_id ON waitlist_entry (participant_id);
+
+CREATE TABLE outbox_event (
+    id             bigint       NOT NULL,
+    aggregate_type varchar(255) NOT NULL,
+    aggregate_id   bigint       NOT NULL,
+    event_type     varchar(255) NOT NULL,
+    payload        jsonb        NOT NULL,
+    created_at     timestamp(6) NOT NULL,
+    attempts       integer      NOT NULL,
+    last_error     varchar(1000),
+    CONSTRAINT pk_outbox_event PRIMARY KEY (id),
+    CONSTRAINT ck_outbox_event_aggregate_type CHECK (aggregate_type IN ('PARTICIPANT', 'PRESENTATION', 'TOPIC'))
+);
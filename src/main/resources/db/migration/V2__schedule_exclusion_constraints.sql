@@ -0,0 +1,89 @@
+-- Overlapping presentations are ruled out by the database, so concurrent schedule edits that each passed
+-- the in-memory conflict check cannot both commit. A presentation occupies [start_time, start_time +
+-- duration); presentations without a start time, and without a hall for the hall check, are not checked.
+--
+--   ex_presentation_hall_overlap   one presentation per hall at a time
+--   ex_presenter_slot_overlap      one presentation per presenter at a time, checked on presenter_slot,
+--                                  which the triggers below keep equal to presentation joined with
+--                                  topic_presenters
+--
+-- A presentation change shares the row of its topic and a presenter change locks it, so presenter
+-- slots are never computed from presenters or times another transaction is still changing. Schedule
+-- edits of different topics and halls never wait for each other.
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE presentation ADD CONSTRAINT ex_presentation_hall_overlap EXCLUDE USING gist (
+    conference_hall_id WITH =,
+    tsrange(start_time, start_time + duration_minutes * interval '1 minute') WITH &&
+) WHERE (conference_hall_id IS NOT NULL AND start_time IS NOT NULL);
+
+CREATE TABLE presenter_slot (
+    presentation_id bigint  NOT NULL,
+    participant_id  bigint  NOT NULL,
+    slot            tsrange NOT NULL,
+    CONSTRAINT pk_presenter_slot PRIMARY KEY (presentation_id, participant_id),
+    CONSTRAINT fk_presenter_slot_presentation FOREIGN KEY (presentation_id) REFERENCES presentation (id)
+        ON DELETE CASCADE,
+    CONSTRAINT fk_presenter_slot_participant FOREIGN KEY (participant_id) REFERENCES participant (id)
+        ON DELETE CASCADE,
+    CONSTRAINT ex_presenter_slot_overlap EXCLUDE USING gist (participant_id WITH =, slot WITH &&)
+);
+
+CREATE FUNCTION refresh_presenter_slots(target bigint) RETURNS void LANGUAGE sql AS $$
+    DELETE FROM presenter_slot WHERE presentation_id = target;
+    INSERT INTO presenter_slot (presentation_id, participant_id, slot)
+    SELECT p.id, tp.participant_id, tsrange(p.start_time, p.start_time + p.duration_minutes * interval '1 minute')
+    FROM presentation p
+    JOIN topic_presenters tp ON tp.topic_id = p.topic_id
+    WHERE p.id = target AND p.start_time IS NOT NULL;
+$$;
+
+CREATE FUNCTION presentation_presenter_slots() RETURNS trigger LANGUAGE plpgsql AS $$
+BEGIN
+    PERFORM 1 FROM topic WHERE id IN (NEW.topic_id, OLD.topic_id) ORDER BY id FOR SHARE;
+    PERFORM refresh_presenter_slots(NEW.id);
+    RETURN NULL;
+END
+$$;
+
+CREATE FUNCTION topic_presenters_presenter_slots() RETURNS trigger LANGUAGE plpgsql AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        PERFORM 1 FROM topic WHERE id = OLD.topic_id FOR NO KEY UPDATE;
+        DELETE FROM presenter_slot s
+        USING presentation p
+        WHERE p.topic_id = OLD.topic_id AND s.presentation_id = p.id AND s.participant_id = OLD.participant_id;
+    ELSE
+        PERFORM 1 FROM topic WHERE id = NEW.topic_id FOR NO KEY UPDATE;
+        INSERT INTO presenter_slot (presentation_id, participant_id, slot)
+        SELECT p.id, NEW.participant_id, tsrange(p.start_time, p.start_time + p.duration_minutes * interval '1 minute')
+        FROM presentation p
+        WHERE p.topic_id = NEW.topic_id AND p.start_time IS NOT NULL;
+    END IF;
+    RETURN NULL;
+END
+$$;
+
+CREATE TRIGGER trg_presentation_presenter_slots_insert
+    AFTER INSERT ON presentation
+    FOR EACH ROW EXECUTE FUNCTION presentation_presenter_slots();
+
+-- Hibernate rewrites every column, also when only the version or the attendees changed
+CREATE TRIGGER trg_presentation_presenter_slots_update
+    AFTER UPDATE ON presentation
+    FOR EACH ROW
+    WHEN (OLD.topic_id IS DISTINCT FROM NEW.topic_id
+        OR OLD.start_time IS DISTINCT FROM NEW.start_time
+        OR OLD.duration_minutes IS DISTINCT FROM NEW.duration_minutes)
+    EXECUTE FUNCTION presentation_presenter_slots();
+
+CREATE TRIGGER trg_topic_presenters_presenter_slots
+    AFTER INSERT OR DELETE ON topic_presenters
+    FOR EACH ROW EXECUTE FUNCTION topic_presenters_presenter_slots();
+
+INSERT INTO presenter_slot (presentation_id, participant_id, slot)
+SELECT p.id, tp.participant_id, tsrange(p.start_time, p.start_time + p.duration_minutes * interval '1 minute')
+FROM presentation p
+JOIN topic_presenters tp ON tp.topic_id = p.topic_id
+WHERE p.start_time IS NOT NULL;
@@ -0,0 +1,21 @@
+-- A failed outbox delivery is retried after next_attempt_at, with exponential backoff, and moved to
+-- outbox_dead_letter once it has used up symposium.outbox.max-attempts. Later rows of the same
+-- aggregate wait for a failed row; idx_outbox_event_failed finds the failed rows they wait for
+-- without the relay having to read past them.
+
+ALTER TABLE outbox_event ADD COLUMN next_attempt_at timestamp(6);
+
+CREATE INDEX idx_outbox_event_failed ON outbox_event (aggregate_type, aggregate_id, id) WHERE attempts > 0;
+
+CREATE TABLE outbox_dead_letter (
+    id             bigint       NOT NULL,
+    aggregate_type varchar(255) NOT NULL,
+    aggregate_id   bigint       NOT NULL,
+    event_type     varchar(255) NOT NULL,
+    payload        jsonb        NOT NULL,
+    created_at     timestamp(6) NOT NULL,
+    attempts       integer      NOT NULL,
+    last_error     varchar(1000),
+    parked_at      timestamp(6) NOT NULL,
+    CONSTRAINT pk_outbox_dead_letter PRIMARY KEY (id)
+);
@@ -0,0 +1,10 @@
+-- Participant substring matches are ranked by trigram distance to the query. The GiST trigram index
+-- returns the rows matching a LIKE pattern nearest first, so a fragment shared by many participants
+-- stops after the requested number of rows instead of ranking all of them; the GIN trigram index from
+-- V1 still serves rare fragments. The full-text index matches queries of several words in any order.
+
+CREATE INDEX idx_participant_search_trgm_gist ON participant
+    USING gist ((lower(coalesce(first_name, '') || ' ' || coalesce(last_name, '') || ' ' || coalesce(email, ''))) gist_trgm_ops);
+
+CREATE INDEX idx_participant_search_fts ON participant
+    USING gin (to_tsvector('simple', lower(coalesce(first_name, '') || ' ' || coalesce(last_name, '') || ' ' || coalesce(email, ''))));
@@ -0,0 +1,89 @@
+package pl.juhas.symposium;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import pl.juhas.symposium.dto.BulkRegistrationResultDTO;
+import pl.juhas.symposium.dto.ParticipantDTO;
+import pl.juhas.symposium.enums.Country;
+import pl.juhas.symposium.enums.Role;
+import pl.juhas.symposium.model.Participant;
+import pl.juhas.symposium.repository.*;
+import pl.juhas.symposium.service.ParticipantRegistrationService;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares bulk registration against the per-entity {@code save} loop.
+ * Run with {@code -Dbenchmark=true}, optionally {@code -Dbenchmark.rows=20000}.
+ */
+@Slf4j
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BulkRegistrationBenchmarkTests {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 20_000);
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private PresentationRepository presentationRepository;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    @Autowired
+    private ConferenceHallRepository conferenceHallRepository;
+
+    @Autowired
+    private ParticipantRegistrationService participantRegistrationService;
+
+    @BeforeEach
+    void setUp() {
+        presentationRepository.deleteAll();
+        conferenceHallRepository.deleteAll();
+        topicRepository.deleteAll();
+        participantRepository.deleteAllInBatch();
+    }
+
+    @AfterEach
+    void tearDown() {
+        participantRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void compareSaveLoopWithBulkRegistration() {
+        long started = System.nanoTime();
+        for (int i = 0; i < ROWS; i++) {
+            ParticipantDTO row = row("loop", i);
+            Participant participant = new Participant();
+            participant.setFirstName(row.firstName());
+            participant.setLastName(row.lastName());
+            participant.setEmail(row.email());
+            participant.setRole(row.role());
+            participant.setCountry(row.country());
+            participantRepository.save(participant);
+        }
+        double loopRowsPerSecond = ROWS * 1_000_000_000d / (System.nanoTime() - started);
+
+        BulkRegistrationResultDTO bulk = participantRegistrationService.registerAll(
+                IntStream.range(0, ROWS).mapToObj(i -> row("bulk", i)).iterator());
+
+        log.info("save() loop: {} rows/s, bulk registration: {} rows/s ({}x)",
+                Math.round(loopRowsPerSecond), Math.round(bulk.rowsPerSecond()),
+                String.format("%.1f", bulk.rowsPerSecond() / loopRowsPerSecond));
+        assertThat(participantRepository.count()).isEqualTo(2L * ROWS);
+    }
+
+    private static ParticipantDTO row(String prefix, int i) {
+        return new ParticipantDTO(null, "First" + i, "Last" + i, prefix + i + "@example.com",
+                Role.values()[i % Role.values().length], Country.values()[i % Country.values().length]);
+    }
+}
@@ -0,0 +1,210 @@
+package pl.juhas.symposium;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import pl.juhas.symposium.bulk.SyntheticDataGenerator;
+import pl.juhas.symposium.config.FreshSchemaConfiguration;
+import pl.juhas.symposium.dto.SyntheticDataRequestDTO;
+import pl.juhas.symposium.enums.Country;
+import pl.juhas.symposium.enums.Role;
+import pl.juhas.symposium.repository.ConferenceHallRepository;
+import pl.juhas.symposium.repository.ParticipantRepository;
+import pl.juhas.symposium.repository.PresentationRepository;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Seeds a generated data set, then runs {@code EXPLAIN} on the SQL that Hibernate issues for the key
+ * repository queries, and on the hand-written lookups by participant, and fails when a plan reads
+ * anything but the small hotel and hall tables with a sequential scan. Statements are prepared and
+ * explained with a forced generic plan, the one PostgreSQL settles on for a prepared statement, so
+ * the plans do not depend on parameter values.
+ */
+@Slf4j
+@SpringBootTest(properties = {
+        "symposium.outbox.relay.enabled=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=pl.juhas.symposium.QueryPlanTests$StatementCapture"})
+@Import(FreshSchemaConfiguration.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTests {
+
+    private static final Set<String> SMALL_TABLES = Set.of("hotel", "conference_hall");
+    private static final LocalDate FIRST_DAY = LocalDate.of(2025, 5, 5);
+    private static final int PAGE = 51;
+
+    @Autowired
+    private SyntheticDataGenerator syntheticDataGenerator;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private PresentationRepository presentationRepository;
+
+    @Autowired
+    private ConferenceHallRepository conferenceHallRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeAll
+    void seed() {
+        syntheticDataGenerator.generate(new SyntheticDataRequestDTO(1L, 100_000, 2, 10, 20_000, 3, 5, null, null,
+                FIRST_DAY));
+        jdbcTemplate.update("""
+                INSERT INTO waitlist_entry (id, presentation_id, participant_id, created_at)
+                SELECT nextval('waitlist_entry_seq'), presentation_id, participant_id, localtimestamp
+                FROM presentation_participants
+                WHERE participant_id % 10 = 0
+                """);
+        jdbcTemplate.execute("VACUUM ANALYZE");
+    }
+
+    @Test
+    void testParticipantQueriesUseIndexes() {
+        log.info("------------testParticipantQueriesUseIndexes------------");
+        long middle = jdbcTemplate.queryForObject("SELECT (min(id) + max(id)) / 2 FROM participant", Long.class);
+        assertIndexed("findPageOrderedByRole", () -> participantRepository.findPageOrderedByRole(PageRequest.ofSize(PAGE)));
+        assertIndexed("findPageOrderedByRoleAfter",
+                () -> participantRepository.findPageOrderedByRoleAfter(Role.DOCTOR, middle, PageRequest.ofSize(PAGE)));
+        assertIndexed("findPageWithoutRoleAfter",
+                () -> participantRepository.findPageWithoutRoleAfter(middle, PageRequest.ofSize(PAGE)));
+        assertIndexed("findByRoleAfter",
+                () -> participantRepository.findByRoleAfter(Role.ORGANIZER, middle, PageRequest.ofSize(PAGE)));
+        assertIndexed("findByCountryAfter",
+                () -> participantRepository.findByCountryAfter(Country.JAPAN, middle, PageRequest.ofSize(PAGE)));
+    }
+
+    @Test
+    void testPresentationQueriesUseIndexes() {
+        log.info("------------testPresentationQueriesUseIndexes------------");
+        LocalDateTime day = FIRST_DAY.atStartOfDay();
+        long[] ids = jdbcTemplate.queryForList("SELECT id FROM presentation ORDER BY id DESC LIMIT 5", Long.class).stream()
+                .mapToLong(Long::longValue).toArray();
+        assertIndexed("findPageOrderedByStartTime",
+                () -> presentationRepository.findPageOrderedByStartTime(PageRequest.ofSize(PAGE)));
+        assertIndexed("findPageOrderedByStartTimeAfter",
+                () -> presentationRepository.findPageOrderedByStartTimeAfter(day.plusHours(12), 0, PageRequest.ofSize(PAGE)));
+        assertIndexed("findScheduleRowsBetween",
+                () -> presentationRepository.findScheduleRowsBetween(day, day.plusDays(1)));
+        assertIndexed("findSchedulePresentersBetween",
+                () -> presentationRepository.findSchedulePresentersBetween(day, day.plusDays(1)));
+        assertIndexed("findAgendaRows", () -> presentationRepository.findAgendaRows(ids));
+        assertIndexed("countPresentationsByConferenceHall", () -> presentationRepository.countPresentationsByConferenceHall(
+                conferenceHallRepository.findAll().getFirst()));
+    }
+
+    @Test
+    void testLookupsByParticipantUseIndexes() {
+        log.info("------------testLookupsByParticipantUseIndexes------------");
+        // The same lookups back the foreign key checks when a participant is deleted
+        assertNoSequentialScan("attended presentations",
+                "SELECT presentation_id FROM presentation_participants WHERE participant_id = ?");
+        assertNoSequentialScan("presented topics", "SELECT topic_id FROM topic_presenters WHERE participant_id = ?");
+        assertNoSequentialScan("waitlist entries", "SELECT id FROM waitlist_entry WHERE participant_id = ?");
+        assertNoSequentialScan("next on waitlist",
+                "SELECT id FROM waitlist_entry WHERE presentation_id = ? ORDER BY id LIMIT 1");
+    }
+
+    private void assertIndexed(String query, Runnable execution) {
+        List<String> statements = StatementCapture.during(execution);
+        assertThat(statements).as(query).isNotEmpty();
+        statements.forEach(sql -> assertNoSequentialScan(query, sql));
+    }
+
+    private void assertNoSequentialScan(String query, String sql) {
+        StringBuilder numbered = new StringBuilder();
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+        String execute = parameter == 0 ? "EXECUTE planned"
+                : "EXECUTE planned(" + String.join(", ", Collections.nCopies(parameter, "NULL")) + ")";
+        String plan = jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET plan_cache_mode = force_generic_plan");
+                statement.execute("PREPARE planned AS " + numbered);
+                try (ResultSet explained = statement.executeQuery("EXPLAIN (FORMAT JSON) " + execute)) {
+                    explained.next();
+                    return explained.getString(1);
+                } finally {
+                    statement.execute("DEALLOCATE planned");
+                    statement.execute("RESET plan_cache_mode");
+                }
+            }
+        });
+        List<String> scanned = new ArrayList<>();
+        try {
+            collectSequentialScans(objectMapper.readTree(plan).get(0).get("Plan"), scanned);
+        } catch (Exception e) {
+            throw new IllegalStateException("Cannot read the plan of " + query, e);
+        }
+        log.info("{}: {}", query, plan.replaceAll("\\s+", " "));
+        assertThat(scanned).as("tables read sequentially by %s%n%s%n%s", query, sql, plan).isEmpty();
+    }
+
+    private static void collectSequentialScans(JsonNode node, List<String> scanned) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())
+                && !SMALL_TABLES.contains(node.path("Relation Name").asText())) {
+            scanned.add(node.path("Relation Name").asText());
+        }
+        node.path("Plans").forEach(child -> collectSequentialScans(child, scanned));
+    }
+
+    /**
+     * Records the SQL Hibernate prepares on the thread running {@link #during}.
+     */
+    public static class StatementCapture implements StatementInspector {
+
+        private static final Queue<String> STATEMENTS = new ConcurrentLinkedQueue<>();
+        private static volatile Thread capturing;
+
+        static List<String> during(Runnable execution) {
+            STATEMENTS.clear();
+            capturing = Thread.currentThread();
+            try {
+                execution.run();
+            } finally {
+                capturing = null;
+            }
+            return List.copyOf(STATEMENTS);
+        }
+
+        @Override
+        public String inspect(String sql) {
+            if (Thread.currentThread() == capturing) {
+                STATEMENTS.add(sql);
+            }
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package pl.juhas.symposium;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import pl.juhas.symposium.dto.ParticipantDTO;
+import pl.juhas.symposium.enums.Country;
+import pl.juhas.symposium.enums.Role;
+import pl.juhas.symposium.repository.*;
+import pl.juhas.symposium.service.ParticipantPrefixIndex;
+import pl.juhas.symposium.service.ParticipantRegistrationService;
+import pl.juhas.symposium.service.SearchService;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures search latency percentiles over a large participant table.
+ * Run with {@code -Dbenchmark=true}, optionally {@code -Dbenchmark.rows=500000}.
+ */
+@Slf4j
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class SearchBenchmarkTests {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 500_000);
+    private static final int QUERIES = 2_000;
+    private static final String[] NAMES = {"anna", "marek", "john", "kasia", "piotr", "maria", "tomasz", "ewa",
+            "jakub", "zofia", "adam", "julia", "pawel", "ola", "michal", "natalia"};
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private PresentationRepository presentationRepository;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    @Autowired
+    private ConferenceHallRepository conferenceHallRepository;
+
+    @Autowired
+    private ParticipantRegistrationService participantRegistrationService;
+
+    @Autowired
+    private ParticipantPrefixIndex participantPrefixIndex;
+
+    @Autowired
+    private SearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        presentationRepository.deleteAll();
+        conferenceHallRepository.deleteAll();
+        topicRepository.deleteAll();
+        participantRepository.deleteAllInBatch();
+        participantRegistrationService.registerAll(IntStream.range(0, ROWS).mapToObj(SearchBenchmarkTests::row).iterator());
+        participantPrefixIndex.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        participantRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void measureSearchLatency() {
+        SplittableRandom random = new SplittableRandom(1);
+        measure("typeahead", query -> searchService.typeahead(query, 10), random, 0, 1, 6, 10);
+        measure("prefix search", query -> searchService.search(query, 10), random, 0, 3, 7, 10);
+        measure("infix search", query -> searchService.search(query, 10), random, 2, 3, 7, 10);
+    }
+
+    private void measure(String name, Consumer<String> search, SplittableRandom random, int skip, int minLength,
+                         int maxLength, double maxP99Millis) {
+        long[] nanos = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            String term = NAMES[random.nextInt(NAMES.length)] + random.nextInt(ROWS);
+            int length = minLength + random.nextInt(maxLength - minLength + 1);
+            String query = term.substring(Math.min(skip, term.length() - 1), Math.min(term.length(), skip + length));
+            long started = System.nanoTime();
+            search.accept(query);
+            nanos[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(nanos);
+        double p50 = nanos[QUERIES / 2] / 1_000_000d;
+        double p99 = nanos[QUERIES * 99 / 100] / 1_000_000d;
+        log.info("{} over {} participants: p50 {} ms, p99 {} ms", name, ROWS, String.format("%.3f", p50), String.format("%.3f", p99));
+        assertThat(p99).isLessThan(maxP99Millis);
+    }
+
+    private static ParticipantDTO row(int i) {
+        String first = NAMES[i % NAMES.length];
+        String last = NAMES[(i / NAMES.length) % NAMES.length] + i;
+        return new ParticipantDTO(null, first, last, first + "." + last + "@example.com",
+                Role.values()[i % Role.values().length], Country.values()[i % Country.values().length]);
+    }
+}
@@ -99,7 +99,7 @@ class SymposiumApplicationTests {
         presentation = new Presentation();
         presentation.setStartTime(LocalDateTime.of(2025, 4, 29, 9, 0));
         presentation.setConferenceHall(conferenceHall);
-        presentation.setParticipants(List.of(participant));
+        presentation.setParticipants(Set.of(participant));
         presentation.setTopic(topic);
         presentationRepository.save(presentation);
     }
@@ -203,7 +203,7 @@ class SymposiumApplicationTests {
             Presentation presentation = new Presentation();
             presentation.setStartTime(LocalDateTime.of(2025, 4, 29, 10 + i, 0));
             presentation.setConferenceHall(conferenceHall);
-            presentation.setParticipants(List.of(participant));
+            presentation.setParticipants(Set.of(participant));
             presentation.setTopic(topic);
             presentationRepository.save(presentation);
         }
@@ -265,7 +265,7 @@ class SymposiumApplicationTests {
             // Dodaj obu do listy uczestników
             students.add(participant);
             students.add(otherParticipant);
-            presentation.setParticipants(students);
+            presentation.setParticipants(new HashSet<>(students));
             presentationRepository.save(presentation);
         }
 
@@ -294,7 +294,7 @@ class SymposiumApplicationTests {
             Presentation presentation = new Presentation();
             presentation.setStartTime(LocalDateTime.of(2025, 4, 29, 10 + i, 0));
             presentation.setConferenceHall(conferenceHall);
-            presentation.setParticipants(List.of(participant));
+            presentation.setParticipants(Set.of(participant));
             presentation.setTopic(topic);
             presentationRepository.save(presentation);
         }
@@ -311,7 +311,7 @@ class SymposiumApplicationTests {
             Presentation presentation = new Presentation();
             presentation.setStartTime(LocalDateTime.of(2025, 4, 29, 15 + i, 0));
             presentation.setConferenceHall(newHall);
-            presentation.setParticipants(List.of(participant));
+            presentation.setParticipants(Set.of(participant));
             presentation.setTopic(topic);
             presentationRepository.save(presentation);
         }
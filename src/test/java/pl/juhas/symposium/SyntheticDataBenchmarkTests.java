@@ -0,0 +1,46 @@
+package pl.juhas.symposium;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import pl.juhas.symposium.bulk.SyntheticDataGenerator;
+import pl.juhas.symposium.dto.SyntheticDataRequestDTO;
+import pl.juhas.symposium.dto.SyntheticDataResultDTO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Loads a generated data set of a million participants. Run with {@code -Dbenchmark=true},
+ * optionally {@code -Dbenchmark.participants=2000000}.
+ */
+@Slf4j
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class SyntheticDataBenchmarkTests {
+
+    private static final int PARTICIPANTS = Integer.getInteger("benchmark.participants", 1_000_000);
+
+    @Autowired
+    private SyntheticDataGenerator syntheticDataGenerator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("TRUNCATE presentation_participants, topic_presenters, waitlist_entry, presentation_seats, presenter_slot, presentation, topic, conference_hall, hotel, participant");
+    }
+
+    @Test
+    void loadMillionParticipants() {
+        SyntheticDataResultDTO result = syntheticDataGenerator.generate(new SyntheticDataRequestDTO(1L, PARTICIPANTS,
+                10, 20, PARTICIPANTS / 50, 3, 30, null, null, null));
+        log.info("Loaded {}", result);
+        assertThat(result.participants()).isEqualTo(PARTICIPANTS);
+        assertThat(result.elapsedMillis()).isLessThan(60_000);
+    }
+}
@@ -0,0 +1,148 @@
+package pl.juhas.symposium.bulk;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import pl.juhas.symposium.dto.BulkImportResultDTO;
+import pl.juhas.symposium.dto.ParticipantDTO;
+import pl.juhas.symposium.enums.Country;
+import pl.juhas.symposium.enums.Role;
+import pl.juhas.symposium.event.AttendanceChangedEvent;
+import pl.juhas.symposium.event.ChangeType;
+import pl.juhas.symposium.event.ParticipantChangedEvent;
+import pl.juhas.symposium.exception.InvalidBulkDataException;
+import pl.juhas.symposium.model.Participant;
+import pl.juhas.symposium.outbox.OutboxMessage;
+import pl.juhas.symposium.outbox.OutboxRelay;
+import pl.juhas.symposium.repository.ParticipantRepository;
+import pl.juhas.symposium.service.SearchService;
+import pl.juhas.symposium.support.SymposiumIntegrationTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Slf4j
+class BulkDataServiceTests extends SymposiumIntegrationTest {
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private BulkDataService bulkDataService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private ConfigurableApplicationContext applicationContext;
+
+    @Test
+    void testBulkCopyUpsertsParticipantsAndRoundTripsTables() {
+        log.info("------------testBulkCopyUpsertsParticipantsAndRoundTripsTables------------");
+        String csv = """
+                id,first_name,last_name,email,role,country
+                ,Johnny,Doe,john.doe@gmail.com,DOCTOR,POLAND
+                ,Ann,Lee,ann@example.com,STUDENT,USA
+                ,Ann,Lee-Smith,ann@example.com,STUDENT,USA
+                ,No,Email,,,
+                """;
+        BulkImportResultDTO imported = bulkDataService.importRows(BulkTable.PARTICIPANT, BulkFormat.CSV,
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+        assertThat(imported).extracting(BulkImportResultDTO::staged, BulkImportResultDTO::inserted,
+                BulkImportResultDTO::updated, BulkImportResultDTO::skipped).containsExactly(4L, 2L, 1L, 1L);
+        assertThat(participantRepository.findById(participant.getId())).get()
+                .extracting(Participant::getFirstName, Participant::getRole).containsExactly("Johnny", Role.DOCTOR);
+        assertThat(searchService.typeahead("lee-smith", 10)).extracting(ParticipantDTO::email)
+                .containsExactly("ann@example.com");
+        long annId = participantRepository.findAllAsDto().stream()
+                .filter(dto -> "ann@example.com".equals(dto.email())).findFirst().orElseThrow().id();
+
+        String enrollment = "presentation_id,participant_id\n" + presentation.getId() + "," + annId + "\n";
+        for (long expectedInserted : new long[]{1, 0}) {
+            assertThat(bulkDataService.importRows(BulkTable.PRESENTATION_PARTICIPANTS, BulkFormat.CSV,
+                    new ByteArrayInputStream(enrollment.getBytes(StandardCharsets.UTF_8))).inserted()).isEqualTo(expectedInserted);
+        }
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM presentation_participants WHERE presentation_id = ?",
+                Long.class, presentation.getId())).isEqualTo(2);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertThat(bulkDataService.export(BulkTable.PARTICIPANT, BulkFormat.CSV, out)).isEqualTo(3);
+        assertThat(out.toString(StandardCharsets.UTF_8)).startsWith("id,first_name,last_name,email,role,country\n")
+                .contains("Johnny,Doe,john.doe@gmail.com,DOCTOR,POLAND");
+
+        ByteArrayOutputStream topics = new ByteArrayOutputStream();
+        bulkDataService.export(BulkTable.TOPIC, BulkFormat.BINARY, topics);
+        assertThat(bulkDataService.importRows(BulkTable.TOPIC, BulkFormat.BINARY, new ByteArrayInputStream(topics.toByteArray())))
+                .extracting(BulkImportResultDTO::staged, BulkImportResultDTO::inserted, BulkImportResultDTO::skipped)
+                .containsExactly(1L, 0L, 1L);
+
+        assertThrows(InvalidBulkDataException.class, () -> bulkDataService.importRows(BulkTable.PARTICIPANT, BulkFormat.CSV,
+                new ByteArrayInputStream("id,first_name,last_name,email,role,country\n,A,B,a@b.c,PILOT,USA\n"
+                        .getBytes(StandardCharsets.UTF_8))));
+        assertThat(participantRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    void testImportsRecordTheirChangesInTheOutbox() throws Exception {
+        log.info("------------testImportsRecordTheirChangesInTheOutbox------------");
+        BlockingQueue<Object> delivered = new LinkedBlockingQueue<>();
+        ApplicationListener<ApplicationEvent> listener = event -> {
+            if (event instanceof PayloadApplicationEvent<?> payload && payload.getPayload() instanceof OutboxMessage<?> message
+                    && (message.payload() instanceof ParticipantChangedEvent change
+                    && List.of("Johnny", "Grace").contains(change.firstName())
+                    || message.payload() instanceof AttendanceChangedEvent attendance
+                    && attendance.presentationId() == presentation.getId())) {
+                delivered.add(message.payload());
+            }
+        };
+        applicationContext.addApplicationListener(listener);
+        try {
+            bulkDataService.importRows(BulkTable.PARTICIPANT, BulkFormat.CSV, new ByteArrayInputStream("""
+                    id,first_name,last_name,email,role,country
+                    ,Johnny,Doe,john.doe@gmail.com,DOCTOR,POLAND
+                    ,Grace,Hopper,grace@example.com,ORGANIZER,USA
+                    """.getBytes(StandardCharsets.UTF_8)));
+            long graceId = participantRepository.findAllAsDto().stream()
+                    .filter(dto -> "grace@example.com".equals(dto.email())).findFirst().orElseThrow().id();
+            bulkDataService.importRows(BulkTable.PRESENTATION_PARTICIPANTS, BulkFormat.CSV, new ByteArrayInputStream(
+                    ("presentation_id,participant_id\n" + presentation.getId() + "," + graceId + "\n")
+                            .getBytes(StandardCharsets.UTF_8)));
+
+            List<Object> events = new ArrayList<>();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (events.size() < 3 && System.nanoTime() < deadline) {
+                outboxRelay.drain();
+                delivered.drainTo(events);
+                Thread.sleep(50);
+            }
+            assertThat(events).containsExactlyInAnyOrder(
+                    new ParticipantChangedEvent(ChangeType.UPDATED, participant.getId(), "Johnny", "Doe",
+                            "john.doe@gmail.com", Role.DOCTOR, Country.POLAND),
+                    new ParticipantChangedEvent(ChangeType.CREATED, graceId, "Grace", "Hopper", "grace@example.com",
+                            Role.ORGANIZER, Country.USA),
+                    new AttendanceChangedEvent(presentation.getId(), List.of(graceId), List.of()));
+        } finally {
+            applicationContext.removeApplicationListener(listener);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package pl.juhas.symposium.bulk;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import pl.juhas.symposium.dto.ProposedSlotDTO;
+import pl.juhas.symposium.dto.SyntheticDataRequestDTO;
+import pl.juhas.symposium.dto.SyntheticDataResultDTO;
+import pl.juhas.symposium.enums.AggregateType;
+import pl.juhas.symposium.enums.Country;
+import pl.juhas.symposium.enums.Role;
+import pl.juhas.symposium.event.BulkCreatedEvent;
+import pl.juhas.symposium.outbox.OutboxMessage;
+import pl.juhas.symposium.outbox.OutboxRelay;
+import pl.juhas.symposium.repository.PresentationRepository;
+import pl.juhas.symposium.schedule.ScheduleConflictIndex;
+import pl.juhas.symposium.service.SearchService;
+import pl.juhas.symposium.support.SymposiumIntegrationTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+class SyntheticDataGeneratorTests extends SymposiumIntegrationTest {
+
+    @Autowired
+    private PresentationRepository presentationRepository;
+
+    @Autowired
+    private ScheduleConflictIndex scheduleConflictIndex;
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private SyntheticDataGenerator syntheticDataGenerator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private ConfigurableApplicationContext applicationContext;
+
+    @Test
+    void testSyntheticDataIsReproducibleAndConflictFree() {
+        log.info("------------testSyntheticDataIsReproducibleAndConflictFree------------");
+        SyntheticDataRequestDTO request = new SyntheticDataRequestDTO(7L, 3_000, 2, 4, 120, 3, 20,
+                Map.of(Role.STUDENT, 3.0, Role.DOCTOR, 1.0), Map.of(Country.POLAND, 1.0, Country.JAPAN, 1.0),
+                LocalDate.of(2025, 6, 2));
+
+        List<String> fingerprints = new ArrayList<>();
+        for (int run = 0; run < 2; run++) {
+            SyntheticDataResultDTO result = syntheticDataGenerator.generate(request);
+            assertThat(result).extracting(SyntheticDataResultDTO::participants, SyntheticDataResultDTO::hotels,
+                    SyntheticDataResultDTO::halls, SyntheticDataResultDTO::topics, SyntheticDataResultDTO::presentations)
+                    .containsExactly(3_000L, 2L, 8L, 120L, 120L);
+            assertThat(result.presenterAssignments()).isBetween(120L, 360L);
+            assertThat(result.attendances()).isGreaterThan(1_000L);
+
+            // Ids differ between runs, so rows are compared relative to the first id of each run
+            long firstParticipant = jdbcTemplate.queryForObject("SELECT max(id) FROM participant", Long.class) - 2_999;
+            long firstPresentation = jdbcTemplate.queryForObject("SELECT max(id) FROM presentation", Long.class) - 119;
+            fingerprints.add(jdbcTemplate.queryForObject("""
+                    SELECT (SELECT md5(string_agg(first_name || last_name || role || country, ',' ORDER BY id))
+                            FROM participant WHERE id >= ?)
+                        || (SELECT md5(string_agg((presentation_id - ?) || ':' || (participant_id - ?), ','
+                                                  ORDER BY presentation_id, participant_id))
+                            FROM presentation_participants WHERE presentation_id >= ?)
+                    """, String.class, firstParticipant, firstPresentation, firstParticipant, firstPresentation));
+        }
+        assertThat(fingerprints.get(1)).isEqualTo(fingerprints.get(0));
+
+        Map<Role, Long> roles = jdbcTemplate.queryForList("SELECT role, count(*) AS n FROM participant WHERE id <> ? GROUP BY role",
+                        participant.getId()).stream()
+                .collect(Collectors.toMap(row -> Role.fromCode((Integer) row.get("role")), row -> (Long) row.get("n")));
+        assertThat(roles).containsOnlyKeys(Role.STUDENT, Role.DOCTOR);
+        assertThat(roles.get(Role.STUDENT) / (double) (roles.get(Role.STUDENT) + roles.get(Role.DOCTOR))).isBetween(0.7, 0.8);
+        assertThat(jdbcTemplate.queryForList("SELECT DISTINCT country FROM participant WHERE id <> ?", Short.class,
+                participant.getId())).map(Country::fromCode).containsExactlyInAnyOrder(Country.POLAND, Country.JAPAN);
+
+        List<ProposedSlotDTO> proposals = presentationRepository.findAllSlots().stream()
+                .map(slot -> new ProposedSlotDTO(slot.presentationId(), slot.hallId(), slot.topicId(), null,
+                        slot.startTime(), slot.durationMinutes()))
+                .toList();
+        assertThat(proposals).hasSize(241);
+        assertThat(scheduleConflictIndex.conflicts(proposals)).isEmpty();
+        assertThat(searchService.typeahead("anna", 5)).hasSize(5);
+    }
+
+    @Test
+    void testGeneratedRangesAreRecordedInTheOutbox() throws Exception {
+        log.info("------------testGeneratedRangesAreRecordedInTheOutbox------------");
+        BlockingQueue<BulkCreatedEvent> delivered = new LinkedBlockingQueue<>();
+        ApplicationListener<ApplicationEvent> listener = event -> {
+            if (event instanceof PayloadApplicationEvent<?> payload && payload.getPayload() instanceof OutboxMessage<?> message
+                    && message.payload() instanceof BulkCreatedEvent created) {
+                delivered.add(created);
+            }
+        };
+        applicationContext.addApplicationListener(listener);
+        try {
+            syntheticDataGenerator.generate(new SyntheticDataRequestDTO(3L, 500, 1, 2, 10, 2, 5, null, null, null));
+            long firstParticipant = jdbcTemplate.queryForObject("SELECT max(id) FROM participant", Long.class) - 499;
+            long firstPresentation = jdbcTemplate.queryForObject("SELECT max(id) FROM presentation", Long.class) - 9;
+
+            List<BulkCreatedEvent> events = new ArrayList<>();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (events.size() < 3 && System.nanoTime() < deadline) {
+                outboxRelay.drain();
+                delivered.drainTo(events);
+                Thread.sleep(50);
+            }
+            assertThat(events).extracting(BulkCreatedEvent::aggregateType)
+                    .containsExactlyInAnyOrder(AggregateType.PARTICIPANT, AggregateType.TOPIC, AggregateType.PRESENTATION);
+            assertThat(events).contains(
+                    new BulkCreatedEvent(AggregateType.PARTICIPANT, firstParticipant, firstParticipant + 499),
+                    new BulkCreatedEvent(AggregateType.PRESENTATION, firstPresentation, firstPresentation + 9));
+        } finally {
+            applicationContext.removeApplicationListener(listener);
+        }
+    }
+}
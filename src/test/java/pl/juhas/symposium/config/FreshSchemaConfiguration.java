@@ -0,0 +1,22 @@
+package pl.juhas.symposium.config;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Drops everything in the test database and migrates it from scratch when a test context starts,
+ * so every test class sees the schema exactly as the migrations define it.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class FreshSchemaConfiguration {
+
+    @Bean
+    FlywayMigrationStrategy cleanMigrate() {
+        return flyway -> {
+            Flyway.configure().configuration(flyway.getConfiguration()).cleanDisabled(false).load().clean();
+            flyway.migrate();
+        };
+    }
+}
@@ -0,0 +1,56 @@
+package pl.juhas.symposium.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import pl.juhas.symposium.repository.ConferenceHallRepository;
+import pl.juhas.symposium.repository.ParticipantRepository;
+import pl.juhas.symposium.support.SymposiumIntegrationTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Slf4j
+class QueryMetricsConfigTests extends SymposiumIntegrationTest {
+
+    @Autowired
+    private ConferenceHallRepository conferenceHallRepository;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @ExtendWith(OutputCaptureExtension.class)
+    void testQueryMetricsAreExposedForScraping(CapturedOutput output) throws Exception {
+        log.info("------------testQueryMetricsAreExposedForScraping------------");
+        assertThat(participantRepository.findAllAsDto()).hasSize(1);
+        conferenceHallRepository.findById(conferenceHall.getId());
+        jdbcTemplate.queryForObject("SELECT pg_sleep(?) IS NULL", Boolean.class, 0.6);
+        assertThat(output).contains("Slow query:", "pg_sleep", "Params:[(0.6)]");
+
+        String metrics = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertThat(metrics).contains(
+                "spring_data_repository_invocations_seconds{exception=\"None\",method=\"findAllAsDto\",repository=\"ParticipantRepository\",state=\"SUCCESS\",quantile=\"0.99\"}",
+                "symposium_repository_rows_count{method=\"findAllAsDto\",repository=\"ParticipantRepository\"}",
+                "symposium_repository_rows{method=\"findAllAsDto\",repository=\"ParticipantRepository\",quantile=\"0.99\"}",
+                "symposium_db_slow_queries_total",
+                "hibernate_statements_total",
+                "hibernate_entities_loads_total",
+                "hibernate_second_level_cache_requests_total",
+                "hibernate_flushes_total");
+    }
+}
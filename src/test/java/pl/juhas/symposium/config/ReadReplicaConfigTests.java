@@ -0,0 +1,58 @@
+package pl.juhas.symposium.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import pl.juhas.symposium.repository.ConferenceHallRepository;
+import pl.juhas.symposium.repository.TopicRepository;
+import pl.juhas.symposium.support.SymposiumIntegrationTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The test database doubles as its own replica; it is no standby, so the default lag query reports no lag.
+ */
+@Slf4j
+@TestPropertySource(properties = "symposium.datasource.replica.urls=${spring.datasource.url}")
+class ReadReplicaConfigTests extends SymposiumIntegrationTest {
+
+    @Autowired
+    private ConferenceHallRepository conferenceHallRepository;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void testReplicaReadsOnlyReadFromTheSecondLevelCache() {
+        log.info("------------testReplicaReadsOnlyReadFromTheSecondLevelCache------------");
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+
+        readOnly.executeWithoutResult(status -> {
+            conferenceHallRepository.findById(conferenceHall.getId()).orElseThrow();
+            assertThat(topicRepository.findAll()).isNotEmpty();
+        });
+        assertThat(statistics.getSecondLevelCachePutCount()).isZero();
+        assertThat(statistics.getQueryCachePutCount()).isZero();
+
+        assertThat(topicRepository.findByName("AI in Healthcare")).isPresent();
+        assertThat(statistics.getQueryCachePutCount()).isEqualTo(1);
+        readOnly.executeWithoutResult(status -> assertThat(topicRepository.findByName("AI in Healthcare")).isPresent());
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,115 @@
+package pl.juhas.symposium.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Three in-memory H2 databases stand in for the primary and two replicas; each knows its own name,
+ * and each replica reports its lag from a table the test controls.
+ */
+class ReplicaRoutingDataSourceTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Map<String, JdbcTemplate> nodes = new LinkedHashMap<>();
+    private ReplicaRoutingDataSource readOnly;
+    private ReadReplicaConfig.ReadWriteDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate readWriteTransaction;
+
+    @BeforeEach
+    void setUp() {
+        HikariDataSource primary = node("primary");
+        Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", node("replica-1"));
+        replicas.put("replica-2", node("replica-2"));
+        ReplicaProperties properties = new ReplicaProperties(List.of(), null, null, null, Duration.ofSeconds(5),
+                Duration.ofHours(1), "SELECT seconds FROM replica_lag");
+
+        readOnly = new ReplicaRoutingDataSource(primary, replicas, properties, meterRegistry);
+        readOnly.start();
+        dataSource = new ReadReplicaConfig.ReadWriteDataSource(primary, readOnly);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodes.values().forEach(node -> node.execute("SHUTDOWN"));
+        dataSource.close();
+    }
+
+    @Test
+    void readOnlyTransactionsAreSpreadOverReplicas() {
+        assertThat(List.of(readOnlyNode(), readOnlyNode(), readOnlyNode(), readOnlyNode()))
+                .containsExactlyInAnyOrder("replica-1", "replica-1", "replica-2", "replica-2");
+        assertThat(readWriteNode()).isEqualTo("primary");
+        assertThat(node()).isEqualTo("primary");
+    }
+
+    @Test
+    void laggingOrUnreachableReplicasFallBackToPrimary() {
+        nodes.get("replica-1").update("UPDATE replica_lag SET seconds = 30");
+        readOnly.checkReplicas();
+        assertThat(readOnly.availableReplicas()).containsExactly("replica-2");
+        assertThat(List.of(readOnlyNode(), readOnlyNode())).containsOnly("replica-2");
+        assertThat(meterRegistry.get("symposium.datasource.replica.lag").tag("replica", "replica-1").gauge().value())
+                .isEqualTo(30);
+
+        nodes.get("replica-2").execute("DROP TABLE replica_lag");
+        readOnly.checkReplicas();
+        assertThat(readOnly.availableReplicas()).isEmpty();
+        assertThat(readOnlyNode()).isEqualTo("primary");
+        assertThat(meterRegistry.get("symposium.datasource.replica.fallbacks").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("symposium.datasource.replica.lag").tag("replica", "replica-2").gauge().value())
+                .isNaN();
+
+        nodes.get("replica-1").update("UPDATE replica_lag SET seconds = 0.5");
+        readOnly.checkReplicas();
+        assertThat(readOnlyNode()).isEqualTo("replica-1");
+    }
+
+    private String readOnlyNode() {
+        return readOnlyTransaction.execute(status -> node());
+    }
+
+    private String readWriteNode() {
+        return readWriteTransaction.execute(status -> node());
+    }
+
+    private String node() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private HikariDataSource node(String name) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName(name);
+        pool.setJdbcUrl("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        pool.setMaximumPoolSize(2);
+        JdbcTemplate node = new JdbcTemplate(pool);
+        node.execute("CREATE TABLE node (name VARCHAR(32))");
+        node.update("INSERT INTO node VALUES (?)", name);
+        if (!name.equals("primary")) {
+            node.execute("CREATE TABLE replica_lag (seconds DOUBLE PRECISION)");
+            node.update("INSERT INTO replica_lag VALUES (0)");
+        }
+        nodes.put(name, node);
+        return pool;
+    }
+}
@@ -0,0 +1,55 @@
+package pl.juhas.symposium.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import pl.juhas.symposium.model.Topic;
+import pl.juhas.symposium.repository.ConferenceHallRepository;
+import pl.juhas.symposium.repository.TopicRepository;
+import pl.juhas.symposium.support.SymposiumIntegrationTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+class SecondLevelCacheConfigTests extends SymposiumIntegrationTest {
+
+    @Autowired
+    private ConferenceHallRepository conferenceHallRepository;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void testReferenceEntitiesAreServedFromSecondLevelCache() {
+        log.info("------------testReferenceEntitiesAreServedFromSecondLevelCache------------");
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        conferenceHallRepository.findById(conferenceHall.getId()).orElseThrow();
+        conferenceHallRepository.findById(conferenceHall.getId()).orElseThrow();
+        assertThat(statistics.getDomainDataRegionStatistics(SecondLevelCacheConfig.CONFERENCE_HALL_REGION).getHitCount())
+                .isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+
+        conferenceHall.setName("Renamed Hall");
+        conferenceHallRepository.save(conferenceHall);
+        assertThat(conferenceHallRepository.findById(conferenceHall.getId()).orElseThrow().getName()).isEqualTo("Renamed Hall");
+
+        assertThat(topicRepository.findByName("AI in Healthcare")).isPresent();
+        assertThat(topicRepository.findByName("AI in Healthcare")).isPresent();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+
+        Topic topic = topicRepository.findByName("AI in Healthcare").orElseThrow();
+        topic.setName("AI in Medicine");
+        topicRepository.save(topic);
+        assertThat(topicRepository.findByName("AI in Healthcare")).isEmpty();
+        assertThat(topicRepository.findByName("AI in Medicine")).isPresent();
+        log.info("Second-level cache statistics: {}", statistics);
+    }
+}
@@ -0,0 +1,129 @@
+package pl.juhas.symposium.feed;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import pl.juhas.symposium.dto.FeedUpdateDTO;
+import pl.juhas.symposium.dto.HallStatusDTO;
+import pl.juhas.symposium.dto.ScheduleChangeDTO;
+import pl.juhas.symposium.event.ChangeType;
+import pl.juhas.symposium.model.Participant;
+import pl.juhas.symposium.model.Presentation;
+import pl.juhas.symposium.repository.ConferenceHallRepository;
+import pl.juhas.symposium.repository.PresentationRepository;
+import pl.juhas.symposium.service.EnrollmentService;
+import pl.juhas.symposium.support.SymposiumIntegrationTest;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@Slf4j
+class LiveFeedTests extends SymposiumIntegrationTest {
+
+    @Autowired
+    private ConferenceHallRepository conferenceHallRepository;
+
+    @Autowired
+    private PresentationRepository presentationRepository;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private LiveFeed liveFeed;
+
+    @Test
+    void testLiveFeedCoalescesChangesAndResyncsSlowSubscribers() throws Exception {
+        log.info("------------testLiveFeedCoalescesChangesAndResyncsSlowSubscribers------------");
+        liveFeed.flush();
+        BlockingQueue<FeedUpdateDTO> received = new LinkedBlockingQueue<>();
+        BlockingQueue<FeedUpdateDTO> laggingReceived = new LinkedBlockingQueue<>();
+        CountDownLatch stalled = new CountDownLatch(1);
+
+        try (LiveFeed.Subscription ignored = liveFeed.subscribe(collectingSink(received, null));
+             LiveFeed.Subscription lagging = liveFeed.subscribe(collectingSink(laggingReceived, stalled))) {
+            FeedUpdateDTO snapshot = received.poll(5, TimeUnit.SECONDS);
+            assertThat(snapshot).isNotNull();
+            assertThat(snapshot.snapshot()).isTrue();
+            assertThat(snapshot.schedule()).extracting(ScheduleChangeDTO::presentationId).contains(presentation.getId());
+            assertThat(snapshot.halls()).extracting(HallStatusDTO::hallId, HallStatusDTO::occupancy)
+                    .containsExactly(tuple(conferenceHall.getId(), 1L));
+
+            Participant anna = testData.participant("Anna", "Nowak", "anna.nowak@example.com");
+            Presentation afternoon = testData.presentation(conferenceHall, null, LocalDateTime.of(2025, 4, 29, 14, 0), 45);
+            Presentation moved = presentationRepository.save(afternoon.withStartTime(LocalDateTime.of(2025, 4, 29, 15, 0)));
+            Presentation cancelled = new Presentation();
+            cancelled.setStartTime(LocalDateTime.of(2025, 4, 29, 17, 0));
+            cancelled.setConferenceHall(conferenceHall);
+            presentationRepository.save(cancelled);
+            presentationRepository.delete(cancelled);
+            enrollmentService.joinAll(presentation.getId(), List.of(anna.getId()));
+            conferenceHallRepository.save(conferenceHallRepository.findById(conferenceHall.getId()).orElseThrow().withCapacity(120));
+            liveFeed.flush();
+
+            FeedUpdateDTO update = received.poll(5, TimeUnit.SECONDS);
+            assertThat(update).isNotNull();
+            assertThat(update.snapshot()).isFalse();
+            assertThat(update.sequence()).isGreaterThan(snapshot.sequence());
+            assertThat(update.schedule())
+                    .extracting(ScheduleChangeDTO::type, ScheduleChangeDTO::presentationId, ScheduleChangeDTO::startTime)
+                    .containsExactly(tuple(ChangeType.CREATED, afternoon.getId(), LocalDateTime.of(2025, 4, 29, 15, 0)));
+            assertThat(update.halls())
+                    .extracting(HallStatusDTO::hallId, HallStatusDTO::capacity, HallStatusDTO::occupancy, HallStatusDTO::occupancyDelta)
+                    .containsExactly(tuple(conferenceHall.getId(), 120, 2L, 1L));
+
+            for (int i = 1; i <= 40; i++) {
+                moved = presentationRepository.save(moved.withDurationMinutes(i));
+                liveFeed.flush();
+            }
+            for (int i = 1; i <= 40; i++) {
+                FeedUpdateDTO next = received.poll(5, TimeUnit.SECONDS);
+                assertThat(next).isNotNull();
+                assertThat(next.schedule()).extracting(ScheduleChangeDTO::durationMinutes).containsExactly(i);
+            }
+
+            stalled.countDown();
+            FeedUpdateDTO resync = null;
+            for (FeedUpdateDTO next = laggingReceived.poll(5, TimeUnit.SECONDS); next != null;
+                 next = laggingReceived.poll(1, TimeUnit.SECONDS)) {
+                resync = next;
+            }
+            assertThat(resync).isNotNull();
+            assertThat(resync.snapshot()).isTrue();
+            assertThat(resync.schedule()).filteredOn(slot -> slot.presentationId() == afternoon.getId())
+                    .extracting(ScheduleChangeDTO::durationMinutes).containsExactly(40);
+            lagging.close();
+            assertThat(liveFeed.subscriberCount()).isEqualTo(1);
+        }
+        assertThat(liveFeed.subscriberCount()).isZero();
+    }
+
+    private static FeedSink collectingSink(BlockingQueue<FeedUpdateDTO> received, CountDownLatch stalled) {
+        return new FeedSink() {
+            @Override
+            public void send(FeedUpdateDTO update) throws IOException {
+                received.add(update);
+                if (stalled != null) {
+                    try {
+                        stalled.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IOException(e);
+                    }
+                }
+            }
+
+            @Override
+            public void heartbeat() {
+            }
+        };
+    }
+}
@@ -0,0 +1,48 @@
+package pl.juhas.symposium.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EntityIdentityTests {
+
+    @Test
+    void participantsAndPresentationsStayInTheirSetsWhenPersistedAndChanged() {
+        Participant participant = new Participant();
+        participant.setFirstName("John");
+        Presentation presentation = new Presentation();
+        presentation.setParticipants(new HashSet<>(Set.of(participant)));
+        participant.setPresentations(new ArrayList<>(List.of(presentation)));
+        Set<Presentation> presentations = new HashSet<>(Set.of(presentation));
+
+        participant.setId(1L);
+        participant.setFirstName("Johnny");
+        presentation.setId(2L);
+        presentation.setVersion(3);
+        presentation.setDurationMinutes(45);
+
+        assertThat(presentation.getParticipants()).contains(participant);
+        assertThat(presentations).contains(presentation);
+        assertThat(participant.toString()).doesNotContain("presentations");
+        assertThat(presentation.toString()).doesNotContain("participants");
+    }
+
+    @Test
+    void entitiesAreEqualByIdOnly() {
+        Participant persisted = new Participant();
+        persisted.setId(1L);
+        persisted.setFirstName("John");
+        Participant reloaded = new Participant();
+        reloaded.setId(1L);
+        reloaded.setFirstName("Johnny");
+
+        assertThat(reloaded).isEqualTo(persisted).hasSameHashCodeAs(persisted);
+        assertThat(new Participant()).isNotEqualTo(new Participant());
+        assertThat(new Presentation()).isNotEqualTo(new Presentation());
+    }
+}
@@ -0,0 +1,117 @@
+package pl.juhas.symposium.model;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import pl.juhas.symposium.dto.ParticipantDTO;
+import pl.juhas.symposium.enums.Country;
+import pl.juhas.symposium.enums.EnumCounts;
+import pl.juhas.symposium.enums.Role;
+import pl.juhas.symposium.repository.ParticipantRepository;
+import pl.juhas.symposium.service.ParticipantGroupingService;
+import pl.juhas.symposium.support.SymposiumIntegrationTest;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Slf4j
+class EnumCodeConverterTests extends SymposiumIntegrationTest {
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private ParticipantGroupingService participantGroupingService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testRoleAndCountryAreStoredAsCodes() {
+        log.info("------------testRoleAndCountryAreStoredAsCodes------------");
+        assertThat(jdbcTemplate.queryForList("""
+                SELECT data_type FROM information_schema.columns
+                WHERE table_name = 'participant' AND column_name IN ('role', 'country')
+                """, String.class)).containsExactly("smallint", "smallint");
+        assertThat(jdbcTemplate.queryForMap("SELECT role, country FROM participant WHERE id = ?", participant.getId()))
+                .containsEntry("role", null).containsEntry("country", Country.POLAND.code());
+
+        for (Role role : Role.values()) {
+            assertThat(Role.fromCode(role.code())).isEqualTo(role);
+        }
+        for (Country country : Country.values()) {
+            assertThat(Country.fromCode(country.code())).isEqualTo(country);
+        }
+        assertThrows(IllegalArgumentException.class, () -> Country.fromCode(Country.values().length));
+
+        Participant student = new Participant();
+        student.setFirstName("Code");
+        student.setLastName("Student");
+        student.setRole(Role.STUDENT);
+        student.setCountry(Country.SOUTH_AFRICA);
+        participantRepository.save(student);
+        assertThat(jdbcTemplate.queryForObject("SELECT role FROM participant WHERE id = ?", Short.class, student.getId()))
+                .isEqualTo((short) Role.STUDENT.code());
+
+        EnumCounts<Role> roles = participantGroupingService.roleCounts();
+        assertThat(roles.get(Role.STUDENT)).isEqualTo(1);
+        assertThat(roles.total()).isEqualTo(1);
+        assertThat(participantGroupingService.countByCountry()).hasSize(Country.values().length)
+                .containsEntry(Country.SOUTH_AFRICA, 1L).containsEntry(Country.POLAND, 1L).containsEntry(Country.USA, 0L);
+        assertThat(participantRepository.findByCountryAfter(Country.SOUTH_AFRICA, 0L, PageRequest.ofSize(10)))
+                .extracting(ParticipantDTO::role).containsExactly(Role.STUDENT);
+
+        EnumCounts<Country> countries = EnumCounts.of(Country.class);
+        participantRepository.findAllAsDto().forEach(dto -> countries.add(dto.country()));
+        countries.addAll(participantGroupingService.countryCounts());
+        assertThat(countries.toMap()).containsEntry(Country.SOUTH_AFRICA, 2L).containsEntry(Country.POLAND, 2L);
+    }
+
+    @Test
+    void testMigrationConvertsNameColumnsOfAnOlderSchemaOnce() throws Exception {
+        log.info("------------testMigrationConvertsNameColumnsOfAnOlderSchemaOnce------------");
+        String migration = new ClassPathResource("db/migration/V5__participant_enum_codes.sql")
+                .getContentAsString(StandardCharsets.UTF_8);
+        List<String> rows = jdbcTemplate.execute((ConnectionCallback<List<String>>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE SCHEMA legacy_enums");
+                try {
+                    statement.execute("SET search_path TO legacy_enums");
+                    statement.execute("""
+                            CREATE TABLE participant (
+                                id      bigint PRIMARY KEY,
+                                role    varchar(255) CONSTRAINT participant_role_check
+                                    CHECK (role IN ('DOCTOR', 'ORGANIZER', 'STUDENT')),
+                                country varchar(255) CONSTRAINT participant_country_check
+                                    CHECK (country IN ('POLAND', 'SOUTH_AFRICA')))
+                            """);
+                    statement.execute("INSERT INTO participant VALUES (1, 'STUDENT', 'SOUTH_AFRICA'), (2, NULL, 'POLAND')");
+                    statement.execute(migration);
+                    statement.execute(migration);
+                    List<String> converted = new ArrayList<>();
+                    try (ResultSet rs = statement.executeQuery("SELECT role, country FROM participant ORDER BY id")) {
+                        while (rs.next()) {
+                            converted.add(rs.getObject(1) + "/" + rs.getShort(2));
+                        }
+                    }
+                    return converted;
+                } finally {
+                    statement.execute("RESET search_path");
+                    statement.execute("DROP SCHEMA legacy_enums CASCADE");
+                }
+            }
+        });
+        assertThat(rows).containsExactly(Role.STUDENT.code() + "/" + Country.SOUTH_AFRICA.code(),
+                "null/" + Country.POLAND.code());
+    }
+}
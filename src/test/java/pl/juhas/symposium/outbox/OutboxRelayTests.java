@@ -0,0 +1,159 @@
+package pl.juhas.symposium.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import pl.juhas.symposium.enums.AggregateType;
+import pl.juhas.symposium.enums.Role;
+import pl.juhas.symposium.event.ChangeType;
+import pl.juhas.symposium.event.ParticipantChangedEvent;
+import pl.juhas.symposium.model.Participant;
+import pl.juhas.symposium.repository.ParticipantRepository;
+import pl.juhas.symposium.support.SymposiumIntegrationTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+class OutboxRelayTests extends SymposiumIntegrationTest {
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ConfigurableApplicationContext applicationContext;
+
+    @Value("${symposium.outbox.batch-size}")
+    private int batchSize;
+
+    @Value("${symposium.outbox.max-attempts}")
+    private int maxAttempts;
+
+    @Test
+    void testOutboxRelaysCommittedChangesInOrderAtLeastOnce() throws Exception {
+        log.info("------------testOutboxRelaysCommittedChangesInOrderAtLeastOnce------------");
+        Participant rolledBack = transactionTemplate.execute(status -> {
+            Participant ghost = new Participant();
+            ghost.setFirstName("Ghost");
+            ghost.setLastName("Writer");
+            ghost.setEmail("ghost@example.com");
+            participantRepository.saveAndFlush(ghost);
+            status.setRollbackOnly();
+            return ghost;
+        });
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM outbox_event WHERE aggregate_id = ?",
+                Long.class, rolledBack.getId())).isZero();
+
+        BlockingQueue<OutboxMessage<?>> delivered = new LinkedBlockingQueue<>();
+        Set<Long> failedOnce = ConcurrentHashMap.newKeySet();
+        ApplicationListener<ApplicationEvent> listener = event -> {
+            if (event instanceof PayloadApplicationEvent<?> payload && payload.getPayload() instanceof OutboxMessage<?> message
+                    && message.aggregateType() == AggregateType.PARTICIPANT
+                    && message.payload() instanceof ParticipantChangedEvent change && "Kowalska".equals(change.lastName())) {
+                if (change.type() == ChangeType.UPDATED && failedOnce.add(message.id())) {
+                    throw new IllegalStateException("Listener unavailable");
+                }
+                delivered.add(message);
+            }
+        };
+        applicationContext.addApplicationListener(listener);
+        try {
+            Participant ewa = testData.participant("Ewa", "Kowalska", "ewa.kowalska@example.com");
+            participantRepository.save(participantRepository.findById(ewa.getId()).orElseThrow().withRole(Role.DOCTOR));
+            participantRepository.deleteById(ewa.getId());
+
+            List<OutboxMessage<?>> messages = new ArrayList<>();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (messages.size() < 3 && System.nanoTime() < deadline) {
+                outboxRelay.drain();
+                delivered.drainTo(messages);
+                Thread.sleep(50);
+            }
+            assertThat(messages).extracting(message -> ((ParticipantChangedEvent) message.payload()).type())
+                    .containsExactly(ChangeType.CREATED, ChangeType.UPDATED, ChangeType.DELETED);
+            assertThat(messages).extracting(OutboxMessage::aggregateId).containsOnly(ewa.getId());
+            assertThat(messages).extracting(OutboxMessage::id).isSorted();
+            assertThat(failedOnce).hasSize(1);
+            assertThat(((ParticipantChangedEvent) messages.get(1).payload()).role()).isEqualTo(Role.DOCTOR);
+            assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM outbox_event WHERE aggregate_id = ?",
+                    Long.class, ewa.getId())).isZero();
+        } finally {
+            applicationContext.removeApplicationListener(listener);
+        }
+    }
+
+    @Test
+    void testPoisonRowsNeitherStallTheOutboxNorStayForever() throws Exception {
+        log.info("------------testPoisonRowsNeitherStallTheOutboxNorStayForever------------");
+        int poisoned = batchSize + 100;
+        jdbcTemplate.update("""
+                INSERT INTO outbox_event (id, aggregate_type, aggregate_id, event_type, payload, created_at, attempts)
+                SELECT nextval('outbox_event_seq'), 'TOPIC', -n, 'RetiredEvent', '{}', localtimestamp, 0
+                FROM generate_series(1, ?) AS n
+                """, poisoned);
+
+        BlockingQueue<OutboxMessage<?>> delivered = new LinkedBlockingQueue<>();
+        ApplicationListener<ApplicationEvent> listener = event -> {
+            if (event instanceof PayloadApplicationEvent<?> payload && payload.getPayload() instanceof OutboxMessage<?> message
+                    && message.payload() instanceof ParticipantChangedEvent change && "Pill".equals(change.lastName())) {
+                delivered.add(message);
+            }
+        };
+        applicationContext.addApplicationListener(listener);
+        try {
+            Participant pill = testData.participant("Poison", "Pill", "poison.pill@example.com");
+            OutboxMessage<?> message = null;
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (message == null && System.nanoTime() < deadline) {
+                outboxRelay.drain();
+                message = delivered.poll(50, TimeUnit.MILLISECONDS);
+            }
+            assertThat(message).isNotNull();
+            assertThat(message.aggregateId()).isEqualTo(pill.getId());
+            assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM outbox_event WHERE aggregate_id < 0 AND attempts = 1",
+                    Long.class)).isEqualTo(poisoned);
+
+            jdbcTemplate.update("UPDATE outbox_event SET attempts = ?, next_attempt_at = localtimestamp WHERE aggregate_id < 0",
+                    maxAttempts - 1);
+            deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (jdbcTemplate.queryForObject("SELECT count(*) FROM outbox_event WHERE aggregate_id < 0", Long.class) > 0
+                    && System.nanoTime() < deadline) {
+                outboxRelay.drain();
+                Thread.sleep(50);
+            }
+            assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM outbox_event WHERE aggregate_id < 0", Long.class))
+                    .isZero();
+            assertThat(jdbcTemplate.queryForList("SELECT DISTINCT attempts FROM outbox_dead_letter WHERE aggregate_id < 0",
+                    Integer.class)).containsExactly(maxAttempts);
+            assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM outbox_dead_letter WHERE aggregate_id < 0",
+                    Long.class)).isEqualTo(poisoned);
+        } finally {
+            applicationContext.removeApplicationListener(listener);
+            jdbcTemplate.update("DELETE FROM outbox_event WHERE aggregate_id < 0");
+            jdbcTemplate.update("DELETE FROM outbox_dead_letter WHERE aggregate_id < 0");
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package pl.juhas.symposium.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import pl.juhas.symposium.dto.HallUtilizationDTO;
+import pl.juhas.symposium.model.ConferenceHall;
+import pl.juhas.symposium.model.Presentation;
+import pl.juhas.symposium.model.Topic;
+import pl.juhas.symposium.support.SymposiumIntegrationTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+class ConferenceHallRepositoryTests extends SymposiumIntegrationTest {
+
+    @Autowired
+    private ConferenceHallRepository conferenceHallRepository;
+
+    @Autowired
+    private PresentationRepository presentationRepository;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    @Test
+    void testHallUtilizationReport() {
+        log.info("------------testHallUtilizationReport------------");
+        for (int i = 0; i < 4; i++) {
+            Topic topic = new Topic();
+            topic.setName("Topic" + i);
+            topicRepository.save(topic);
+            Presentation presentation = new Presentation();
+            presentation.setStartTime(LocalDateTime.of(2025, 4, 29 + i % 2, 10 + i, 0));
+            presentation.setConferenceHall(conferenceHall);
+            presentation.setTopic(topic);
+            presentationRepository.save(presentation);
+        }
+
+        ConferenceHall emptyHall = new ConferenceHall();
+        emptyHall.setName("Empty Hall");
+        conferenceHallRepository.save(emptyHall);
+
+        List<HallUtilizationDTO> report = conferenceHallRepository.findHallUtilization();
+        report.forEach(hall -> log.info(hall.toString()));
+
+        assertThat(report).hasSize(2);
+        HallUtilizationDTO main = report.stream().filter(h -> h.hallId().equals(conferenceHall.getId())).findFirst().orElseThrow();
+        assertThat(main.hotelName()).isEqualTo("Grand Hotel");
+        assertThat(main.presentationCount()).isEqualTo(5);
+        assertThat(main.firstSlot()).isEqualTo(LocalDateTime.of(2025, 4, 29, 9, 0));
+        assertThat(main.lastSlot()).isEqualTo(LocalDateTime.of(2025, 4, 30, 13, 0));
+        assertThat(main.bookedHoursPerDay()).isEqualTo(2.5);
+
+        HallUtilizationDTO empty = report.stream().filter(h -> h.hallId().equals(emptyHall.getId())).findFirst().orElseThrow();
+        assertThat(empty.hotelName()).isNull();
+        assertThat(empty.presentationCount()).isZero();
+        assertThat(empty.bookedHoursPerDay()).isZero();
+    }
+}
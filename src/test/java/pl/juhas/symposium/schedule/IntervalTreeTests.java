@@ -0,0 +1,46 @@
+package pl.juhas.symposium.schedule;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntervalTreeTests {
+
+    @Test
+    void overlapQueriesMatchLinearScanAfterRandomInsertsAndRemovals() {
+        Random random = new Random(42);
+        IntervalTree tree = new IntervalTree();
+        Map<Long, long[]> intervals = new HashMap<>();
+
+        for (long id = 0; id < 5_000; id++) {
+            long start = random.nextInt(100_000);
+            long[] interval = {start, start + 1 + random.nextInt(240)};
+            intervals.put(id, interval);
+            tree.insert(interval[0], interval[1], id);
+            if (random.nextInt(3) == 0) {
+                long victim = random.nextLong(id + 1);
+                long[] removed = intervals.remove(victim);
+                if (removed != null) {
+                    tree.remove(removed[0], removed[1], victim);
+                }
+            }
+        }
+        assertThat(tree.size()).isEqualTo(intervals.size());
+
+        for (int query = 0; query < 500; query++) {
+            long start = random.nextInt(100_000);
+            long end = start + 1 + random.nextInt(240);
+            Set<Long> expected = new HashSet<>();
+            intervals.forEach((id, interval) -> {
+                if (interval[0] < end && interval[1] > start) {
+                    expected.add(id);
+                }
+            });
+            Set<Long> actual = new HashSet<>();
+            tree.forEachOverlapping(start, end, actual::add);
+            assertThat(actual).isEqualTo(expected);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package pl.juhas.symposium.schedule;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import pl.juhas.symposium.dto.ProposedSlotDTO;
+import pl.juhas.symposium.dto.ScheduleConflictDTO;
+import pl.juhas.symposium.enums.ConflictKind;
+import pl.juhas.symposium.exception.InvalidSlotException;
+import pl.juhas.symposium.model.ConferenceHall;
+import pl.juhas.symposium.model.Presentation;
+import pl.juhas.symposium.model.Topic;
+import pl.juhas.symposium.repository.PresentationRepository;
+import pl.juhas.symposium.support.SymposiumIntegrationTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Slf4j
+class ScheduleConflictIndexTests extends SymposiumIntegrationTest {
+
+    @Autowired
+    private PresentationRepository presentationRepository;
+
+    @Autowired
+    private ScheduleConflictIndex scheduleConflictIndex;
+
+    @Test
+    void testScheduleConflictIndexFollowsScheduleChanges() {
+        log.info("------------testScheduleConflictIndexFollowsScheduleChanges------------");
+        ConferenceHall sideHall = testData.hall("Side Hall", null);
+        Topic topic = testData.topic("Robotics", Set.of(participant));
+        Presentation following = testData.presentation(sideHall, topic, LocalDateTime.of(2025, 4, 29, 10, 0), 45);
+
+        List<ScheduleConflictDTO> hall = scheduleConflictIndex.conflicts(List.of(new ProposedSlotDTO(null,
+                conferenceHall.getId(), null, null, LocalDateTime.of(2025, 4, 29, 9, 15), null)));
+        assertThat(hall).extracting(ScheduleConflictDTO::kind, ScheduleConflictDTO::presentationId)
+                .containsExactly(tuple(ConflictKind.HALL, presentation.getId()));
+
+        ProposedSlotDTO presenterBusy = new ProposedSlotDTO(null, null, null, List.of(participant.getId()),
+                LocalDateTime.of(2025, 4, 29, 9, 50), 20);
+        assertThat(scheduleConflictIndex.conflicts(List.of(presenterBusy)))
+                .extracting(ScheduleConflictDTO::presentationId)
+                .containsExactlyInAnyOrder(presentation.getId(), following.getId());
+
+        List<ScheduleConflictDTO> batch = scheduleConflictIndex.conflicts(List.of(
+                new ProposedSlotDTO(null, sideHall.getId(), null, List.of(), LocalDateTime.of(2025, 4, 29, 14, 0), 60),
+                new ProposedSlotDTO(null, sideHall.getId(), null, List.of(), LocalDateTime.of(2025, 4, 29, 14, 30), 60),
+                new ProposedSlotDTO(following.getId(), sideHall.getId(), topic.getId(), null,
+                        LocalDateTime.of(2025, 4, 29, 10, 0), 45)));
+        assertThat(batch).extracting(ScheduleConflictDTO::proposal, ScheduleConflictDTO::otherProposal)
+                .containsExactly(tuple(1, 0));
+
+        following.setStartTime(LocalDateTime.of(2025, 4, 29, 11, 0));
+        presentationRepository.save(following);
+        assertThat(scheduleConflictIndex.conflicts(List.of(presenterBusy)))
+                .extracting(ScheduleConflictDTO::presentationId)
+                .containsExactly(presentation.getId());
+
+        presentationRepository.delete(presentation);
+        assertThat(scheduleConflictIndex.conflicts(List.of(presenterBusy))).isEmpty();
+        assertThrows(InvalidSlotException.class, () -> scheduleConflictIndex.conflicts(List.of(
+                new ProposedSlotDTO(null, sideHall.getId(), null, null, LocalDateTime.of(2025, 4, 29, 9, 0), 0))));
+    }
+}
@@ -0,0 +1,54 @@
+package pl.juhas.symposium.schedule;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Solves generated congress instances. Run with {@code -Dbenchmark=true}, optionally
+ * {@code -Dbenchmark.sessions=3000 -Dbenchmark.halls=60 -Dbenchmark.slots=60 -Dbenchmark.presenters=1500}.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ScheduleSolverBenchmarkTests {
+
+    private static final int SESSIONS = Integer.getInteger("benchmark.sessions", 3_000);
+    private static final int HALLS = Integer.getInteger("benchmark.halls", 60);
+    private static final int SLOTS = Integer.getInteger("benchmark.slots", 60);
+    private static final int PRESENTERS = Integer.getInteger("benchmark.presenters", 1_500);
+
+    @Test
+    void solveGeneratedCongress() {
+        for (long seed = 1; seed <= 5; seed++) {
+            ScheduleProblem problem = generate(seed);
+            long started = System.nanoTime();
+            ScheduleSolver.Solution solution = ScheduleSolver.solve(problem, Duration.ofSeconds(5), seed,
+                    Runtime.getRuntime().availableProcessors());
+            long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+            log.info("Instance {}: {} sessions, {} halls, {} slots -> {} unassigned, hall load {}..{}, {} attempts in {} ms",
+                    seed, SESSIONS, HALLS, SLOTS, solution.unassigned(), solution.minHallLoad(), solution.maxHallLoad(),
+                    solution.attempts(), elapsedMillis);
+            assertThat(solution.unassigned()).isZero();
+            assertThat(elapsedMillis).isLessThan(6_000);
+        }
+    }
+
+    private static ScheduleProblem generate(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[][] presenters = new int[SESSIONS][];
+        for (int topic = 0; topic < SESSIONS; topic++) {
+            presenters[topic] = random.ints(1 + random.nextInt(3), 0, PRESENTERS).distinct().toArray();
+        }
+        ScheduleProblem problem = new ScheduleProblem(presenters, PRESENTERS, HALLS, SLOTS);
+        for (int i = 0; i < HALLS; i++) {
+            problem.blockCell(random.nextInt(SLOTS), random.nextInt(HALLS));
+        }
+        return problem;
+    }
+}
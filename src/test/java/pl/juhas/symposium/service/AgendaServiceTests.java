@@ -0,0 +1,99 @@
+package pl.juhas.symposium.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+import pl.juhas.symposium.dto.AgendaEntryDTO;
+import pl.juhas.symposium.model.Participant;
+import pl.juhas.symposium.model.Presentation;
+import pl.juhas.symposium.model.Topic;
+import pl.juhas.symposium.repository.PresentationRepository;
+import pl.juhas.symposium.repository.TopicRepository;
+import pl.juhas.symposium.support.SymposiumIntegrationTest;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Slf4j
+class AgendaServiceTests extends SymposiumIntegrationTest {
+
+    @Autowired
+    private PresentationRepository presentationRepository;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private AgendaService agendaService;
+
+    @Autowired
+    private AgendaIndex agendaIndex;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void testAgendaIndexFollowsEnrollmentAndPresenterChanges() throws Exception {
+        log.info("------------testAgendaIndexFollowsEnrollmentAndPresenterChanges------------");
+        Participant anna = testData.participant("Anna", "Nowak", "anna.nowak@example.com");
+        Topic topic = testData.topic("Robotics, Drones; Ethics", Set.of(anna));
+        Presentation afternoon = testData.presentation(conferenceHall, topic, LocalDateTime.of(2025, 4, 29, 14, 0), 45);
+
+        assertThat(agendaService.agenda(participant.getId()))
+                .extracting(AgendaEntryDTO::presentationId, AgendaEntryDTO::presenting)
+                .containsExactly(tuple(presentation.getId(), true));
+
+        enrollmentService.joinAll(presentation.getId(), List.of(anna.getId()));
+        List<AgendaEntryDTO> agenda = agendaService.agenda(anna.getId());
+        assertThat(agenda).extracting(AgendaEntryDTO::presentationId, AgendaEntryDTO::presenting)
+                .containsExactly(tuple(presentation.getId(), false), tuple(afternoon.getId(), true));
+        assertThat(agenda.getLast().endTime()).isEqualTo(LocalDateTime.of(2025, 4, 29, 14, 45));
+        assertThat(agenda.getLast().hotelName()).isEqualTo("Grand Hotel");
+
+        ByteArrayOutputStream ics = new ByteArrayOutputStream();
+        assertThat(agendaService.exportCalendar(anna.getId(), agendaService.agendaOf(anna.getId()), ics)).isEqualTo(2);
+        assertThat(ics.toString(StandardCharsets.UTF_8))
+                .startsWith("BEGIN:VCALENDAR\r\n")
+                .contains("UID:presentation-" + afternoon.getId() + "@symposium\r\n",
+                        "DTSTART:20250429T140000\r\nDTEND:20250429T144500\r\n",
+                        "SUMMARY:Robotics\\, Drones\\; Ethics\r\n", "LOCATION:Main Hall\\, Grand Hotel\r\n",
+                        "CATEGORIES:ATTENDEE\r\n", "CATEGORIES:PRESENTER\r\n")
+                .endsWith("END:VCALENDAR\r\n");
+
+        enrollmentService.leave(presentation.getId(), anna.getId());
+        topicRepository.save(topicRepository.findById(topic.getId()).orElseThrow().withPresenters(Set.of(participant)));
+        assertThat(agendaService.agenda(anna.getId())).isEmpty();
+        assertThat(agendaService.agenda(participant.getId())).extracting(AgendaEntryDTO::presentationId)
+                .containsExactly(presentation.getId(), afternoon.getId());
+
+        afternoon.setParticipants(Set.of(anna));
+        presentationRepository.save(afternoon);
+        AgendaIndex.Agenda incremental = agendaIndex.agenda(anna.getId());
+        assertThat(incremental.attending()).containsExactly(afternoon.getId());
+        agendaIndex.rebuild();
+        assertThat(agendaIndex.agenda(anna.getId()).attending()).isEqualTo(incremental.attending());
+        assertThat(agendaIndex.agenda(participant.getId()).presenting())
+                .containsExactly(presentation.getId(), afternoon.getId());
+
+        presentationRepository.delete(presentation);
+        assertThat(agendaIndex.agenda(participant.getId()).presenting()).containsExactly(afternoon.getId());
+        assertThat(agendaIndex.agenda(participant.getId()).attending()).isEmpty();
+        mockMvc.perform(get("/api/participants/" + anna.getId() + "/agenda"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].presentationId").value(afternoon.getId()));
+        mockMvc.perform(get("/api/participants/-1/agenda")).andExpect(status().isNotFound());
+    }
+}
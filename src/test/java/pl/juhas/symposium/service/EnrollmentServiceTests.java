@@ -0,0 +1,232 @@
+package pl.juhas.symposium.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+import pl.juhas.symposium.dto.EnrollmentResultDTO;
+import pl.juhas.symposium.dto.ScheduleEntryDTO;
+import pl.juhas.symposium.dto.SeatStatusDTO;
+import pl.juhas.symposium.exception.NotFoundException;
+import pl.juhas.symposium.model.ConferenceHall;
+import pl.juhas.symposium.model.Participant;
+import pl.juhas.symposium.model.Presentation;
+import pl.juhas.symposium.repository.ConferenceHallRepository;
+import pl.juhas.symposium.repository.ParticipantRepository;
+import pl.juhas.symposium.repository.PresentationRepository;
+import pl.juhas.symposium.support.SymposiumIntegrationTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Slf4j
+class EnrollmentServiceTests extends SymposiumIntegrationTest {
+
+    private static final int CAPACITY = 50;
+    private static final int PARTICIPANTS = 400;
+    private static final int THREADS = 16;
+
+    @Autowired
+    private ConferenceHallRepository conferenceHallRepository;
+
+    @Autowired
+    private PresentationRepository presentationRepository;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Test
+    void testIncrementalEnrollmentWritesOneRowPerChange() {
+        log.info("------------testIncrementalEnrollmentWritesOneRowPerChange------------");
+        List<Long> attendeeIds = testData.participants("Attendee", 30).stream().map(Participant::getId).toList();
+        long presentationId = presentation.getId();
+
+        var bulk = enrollmentService.joinAll(presentationId, attendeeIds);
+        assertThat(bulk.changed()).isEqualTo(30);
+        assertThat(enrollmentService.joinAll(presentationId, List.of(attendeeIds.getFirst(), -1L)).changed()).isZero();
+        assertThat(enrollmentService.join(presentationId, participant.getId()).changed()).isZero();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        assertThat(enrollmentService.leave(presentationId, attendeeIds.get(3)).changed()).isEqualTo(1);
+        assertThat(enrollmentService.join(presentationId, attendeeIds.get(3)).changed()).isEqualTo(1);
+        assertThat(statistics.getCollectionRecreateCount() + statistics.getCollectionRemoveCount()).isZero();
+
+        ScheduleEntryDTO entry = scheduleService.schedule().getFirst();
+        assertThat(entry.attendeeCount()).isEqualTo(31);
+        assertThrows(NotFoundException.class, () -> enrollmentService.join(-1L, participant.getId()));
+    }
+
+    @Test
+    void testJoiningAsUnknownParticipantIsNotFound() throws Exception {
+        log.info("------------testJoiningAsUnknownParticipantIsNotFound------------");
+        assertThrows(NotFoundException.class, () -> enrollmentService.join(presentation.getId(), -1L));
+        mockMvc.perform(put("/api/presentations/" + presentation.getId() + "/participants/-1"))
+                .andExpect(status().isNotFound());
+        assertThat(attendees(presentation.getId())).doesNotContain(-1L);
+    }
+
+    @Test
+    void testConcurrentJoinsNeverOverbook() throws Exception {
+        log.info("------------testConcurrentJoinsNeverOverbook------------");
+        long keynoteId = keynote();
+        List<Long> guestIds = guests();
+
+        List<EnrollmentResultDTO> results = concurrently(guestIds,
+                participantId -> enrollmentService.join(keynoteId, participantId));
+
+        assertThat(results.stream().mapToInt(EnrollmentResultDTO::changed).sum()).isEqualTo(CAPACITY);
+        assertThat(results.stream().mapToInt(EnrollmentResultDTO::waitlisted).sum()).isEqualTo(PARTICIPANTS - CAPACITY);
+        assertSeatsConsistent(keynoteId, CAPACITY, PARTICIPANTS - CAPACITY);
+    }
+
+    @Test
+    void testConcurrentLeavesPromoteWaitlistInArrivalOrder() throws Exception {
+        log.info("------------testConcurrentLeavesPromoteWaitlistInArrivalOrder------------");
+        long keynoteId = keynote();
+        List<Long> guestIds = guests();
+        guestIds.forEach(participantId -> enrollmentService.join(keynoteId, participantId));
+        List<Long> leaving = guestIds.subList(0, 25);
+        List<Long> staying = guestIds.subList(25, CAPACITY);
+        List<Long> operations = new ArrayList<>(leaving);
+        operations.addAll(staying);
+
+        concurrently(operations, participantId -> leaving.contains(participantId)
+                ? enrollmentService.leave(keynoteId, participantId)
+                : enrollmentService.join(keynoteId, participantId));
+
+        List<Long> expected = new ArrayList<>(staying);
+        expected.addAll(guestIds.subList(CAPACITY, CAPACITY + 25));
+        assertThat(attendees(keynoteId)).containsExactlyInAnyOrderElementsOf(expected);
+        assertThat(jdbcTemplate.queryForList("SELECT participant_id FROM waitlist_entry ORDER BY id", Long.class))
+                .containsExactlyElementsOf(guestIds.subList(CAPACITY + 25, PARTICIPANTS));
+        assertSeatsConsistent(keynoteId, CAPACITY, PARTICIPANTS - CAPACITY - 25);
+    }
+
+    @Test
+    void testConcurrentBatchAndSingleJoinsNeverOverbook() throws Exception {
+        log.info("------------testConcurrentBatchAndSingleJoinsNeverOverbook------------");
+        long keynoteId = keynote();
+        List<Long> guestIds = guests();
+        List<Runnable> operations = new ArrayList<>();
+        for (int from = 0; from < PARTICIPANTS; from += 20) {
+            List<Long> batch = guestIds.subList(from, from + 20);
+            operations.add(from % 40 == 0
+                    ? () -> enrollmentService.joinAll(keynoteId, batch)
+                    : () -> batch.forEach(participantId -> enrollmentService.join(keynoteId, participantId)));
+        }
+        concurrently(operations, operation -> {
+            operation.run();
+            return null;
+        });
+        assertSeatsConsistent(keynoteId, CAPACITY, PARTICIPANTS - CAPACITY);
+    }
+
+    @Test
+    void testCollectionChangesRecountSeatsTakenByConcurrentJoins() throws Exception {
+        log.info("------------testCollectionChangesRecountSeatsTakenByConcurrentJoins------------");
+        long keynoteId = keynote();
+        List<Long> guestIds = guests();
+        List<Long> joining = guestIds.subList(0, 20);
+        List<Long> added = guestIds.subList(20, 40);
+        List<Runnable> operations = new ArrayList<>();
+        joining.forEach(participantId -> operations.add(() -> enrollmentService.join(keynoteId, participantId)));
+        operations.add(() -> added.forEach(participantId -> transactionTemplate.executeWithoutResult(status ->
+                presentationRepository.findById(keynoteId).orElseThrow().getParticipants()
+                        .add(participantRepository.getReferenceById(participantId)))));
+        concurrently(operations, operation -> {
+            operation.run();
+            return null;
+        });
+        assertSeatsConsistent(keynoteId, 40, 0);
+    }
+
+    /**
+     * Seeds a presentation without a topic in a hall with {@value #CAPACITY} seats.
+     */
+    private long keynote() {
+        ConferenceHall hall = new ConferenceHall();
+        hall.setName("Keynote Hall");
+        hall.setCapacity(CAPACITY);
+        conferenceHallRepository.save(hall);
+
+        Presentation keynote = new Presentation();
+        keynote.setConferenceHall(hall);
+        keynote.setStartTime(LocalDateTime.of(2025, 5, 5, 9, 0));
+        return presentationRepository.save(keynote).getId();
+    }
+
+    private List<Long> guests() {
+        return testData.participants("Guest", PARTICIPANTS).stream().map(Participant::getId).toList();
+    }
+
+    private void assertSeatsConsistent(long presentationId, int attendees, int waitlisted) {
+        SeatStatusDTO seats = enrollmentService.seats(presentationId);
+        log.info("Seats after concurrent enrollment: {}", seats);
+        assertThat(seats.taken()).isEqualTo(attendees);
+        assertThat(seats.waitlisted()).isEqualTo(waitlisted);
+        assertThat(attendees(presentationId)).hasSize(attendees);
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT count(*) FROM waitlist_entry w
+                JOIN presentation_participants pp USING (presentation_id, participant_id)
+                """, Long.class)).isZero();
+    }
+
+    private List<Long> attendees(long presentationId) {
+        return jdbcTemplate.queryForList("SELECT participant_id FROM presentation_participants WHERE presentation_id = ?",
+                Long.class, presentationId);
+    }
+
+    private static <T, R> List<R> concurrently(List<T> inputs, Function<T, R> operation) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<R>> futures = new ArrayList<>();
+            for (T input : inputs) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return operation.apply(input);
+                }));
+            }
+            start.countDown();
+            List<R> results = new ArrayList<>();
+            for (Future<R> future : futures) {
+                results.add(future.get(1, TimeUnit.MINUTES));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package pl.juhas.symposium.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdSetsTests {
+
+    @Test
+    void setsMatchBoxedMapAfterRandomAddsRemovalsAndDeletes() {
+        Random random = new Random(42);
+        IdSets sets = new IdSets();
+        Map<Long, TreeSet<Long>> expected = new HashMap<>();
+
+        for (int change = 0; change < 50_000; change++) {
+            // Keys collide on purpose: a small range, negative ids and multiples of the table size
+            long key = random.nextInt(3) == 0 ? random.nextInt(64) * 1024L : random.nextLong(-500, 2_000);
+            long id = random.nextInt(20);
+            switch (random.nextInt(6)) {
+                case 0 -> {
+                    sets.delete(key);
+                    expected.remove(key);
+                }
+                case 1, 2 -> {
+                    sets.remove(key, id);
+                    TreeSet<Long> ids = expected.get(key);
+                    if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                        expected.remove(key);
+                    }
+                }
+                default -> {
+                    sets.add(key, id);
+                    expected.computeIfAbsent(key, k -> new TreeSet<>()).add(id);
+                }
+            }
+        }
+
+        assertThat(sets.size()).isEqualTo(expected.size());
+        for (long key = -500; key < 66_000; key++) {
+            TreeSet<Long> ids = expected.get(key);
+            long[] wanted = ids == null ? IdSets.NONE : ids.stream().mapToLong(Long::longValue).toArray();
+            assertThat(sets.get(key)).as("key %d", key).isEqualTo(wanted);
+        }
+    }
+
+    @Test
+    void agendaJoinsAttendedAndPresentedIds() {
+        AgendaIndex.Agenda agenda = new AgendaIndex.Agenda(new long[]{2, 5, 9}, new long[]{1, 5, 11});
+
+        assertThat(agenda.presentationIds()).containsExactly(1, 2, 5, 9, 11);
+        assertThat(new AgendaIndex.Agenda(IdSets.NONE, new long[]{3}).presentationIds()).containsExactly(3);
+    }
+}
@@ -0,0 +1,94 @@
+package pl.juhas.symposium.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import pl.juhas.symposium.dto.CursorPageDTO;
+import pl.juhas.symposium.dto.ParticipantDTO;
+import pl.juhas.symposium.dto.PresentationDTO;
+import pl.juhas.symposium.enums.Country;
+import pl.juhas.symposium.enums.Role;
+import pl.juhas.symposium.model.Participant;
+import pl.juhas.symposium.model.Presentation;
+import pl.juhas.symposium.model.Topic;
+import pl.juhas.symposium.repository.ParticipantRepository;
+import pl.juhas.symposium.repository.PresentationRepository;
+import pl.juhas.symposium.repository.TopicRepository;
+import pl.juhas.symposium.support.SymposiumIntegrationTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+class KeysetPagingTests extends SymposiumIntegrationTest {
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private PresentationRepository presentationRepository;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    @Autowired
+    private ParticipantListingService participantListingService;
+
+    @Autowired
+    private PresentationListingService presentationListingService;
+
+    private final List<Role> roles = List.of(Role.STUDENT, Role.DOCTOR, Role.ORGANIZER);
+    private final List<Country> countries = List.of(Country.POLAND, Country.USA, Country.CANADA, Country.UK, Country.AUSTRALIA);
+
+    @Test
+    void testKeysetPaginationOfParticipantsAndPresentations() {
+        log.info("------------testKeysetPaginationOfParticipantsAndPresentations------------");
+        for (int i = 0; i < 23; i++) {
+            Participant participant = new Participant();
+            participant.setFirstName("Participant" + i);
+            participant.setLastName("LastName" + i);
+            participant.setEmail("participant" + i + "@gmail.com");
+            participant.setRole(i % 7 == 0 ? null : roles.get(i % roles.size()));
+            participant.setCountry(countries.get(i % countries.size()));
+            participantRepository.save(participant);
+        }
+        for (int i = 0; i < 6; i++) {
+            Topic topic = new Topic();
+            topic.setName("Topic" + i);
+            topicRepository.save(topic);
+            Presentation presentation = new Presentation();
+            presentation.setStartTime(i == 5 ? null : LocalDateTime.of(2025, 4, 29, 14 - i, 0));
+            presentation.setConferenceHall(conferenceHall);
+            presentation.setTopic(topic);
+            presentationRepository.save(presentation);
+        }
+
+        List<ParticipantDTO> participants = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPageDTO<ParticipantDTO> page = participantListingService.list(cursor, 4);
+            assertThat(page.items()).hasSizeLessThanOrEqualTo(4);
+            participants.addAll(page.items());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertThat(participants).hasSize(24).extracting(ParticipantDTO::id).doesNotHaveDuplicates();
+        assertThat(participants).extracting(p -> p.role() == null ? "~" : p.role().name()).isSorted();
+        assertThat(participants.getLast().role()).isNull();
+
+        List<PresentationDTO> presentations = new ArrayList<>();
+        cursor = null;
+        do {
+            CursorPageDTO<PresentationDTO> page = presentationListingService.list(cursor, 2);
+            presentations.addAll(page.items());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertThat(presentations).hasSize(7).extracting(PresentationDTO::id).doesNotHaveDuplicates();
+        assertThat(presentations.subList(0, 6)).extracting(PresentationDTO::startTime).isSorted();
+        assertThat(presentations.getLast().startTime()).isNull();
+    }
+}
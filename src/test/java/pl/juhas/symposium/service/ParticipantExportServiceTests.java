@@ -0,0 +1,61 @@
+package pl.juhas.symposium.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import pl.juhas.symposium.dto.ParticipantDTO;
+import pl.juhas.symposium.enums.Country;
+import pl.juhas.symposium.enums.Role;
+import pl.juhas.symposium.io.ParticipantFormat;
+import pl.juhas.symposium.io.ParticipantImportReader;
+import pl.juhas.symposium.model.Participant;
+import pl.juhas.symposium.repository.ParticipantRepository;
+import pl.juhas.symposium.support.SymposiumIntegrationTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+class ParticipantExportServiceTests extends SymposiumIntegrationTest {
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private ParticipantExportService participantExportService;
+
+    @Autowired
+    private ParticipantImportReader participantImportReader;
+
+    private final List<Role> roles = List.of(Role.STUDENT, Role.DOCTOR, Role.ORGANIZER);
+    private final List<Country> countries = List.of(Country.POLAND, Country.USA, Country.CANADA, Country.UK, Country.AUSTRALIA);
+
+    @Test
+    void testStreamingParticipantExportRoundTrip() throws IOException {
+        log.info("------------testStreamingParticipantExportRoundTrip------------");
+        for (int i = 0; i < 23; i++) {
+            Participant participant = new Participant();
+            participant.setFirstName("Participant" + i);
+            participant.setLastName("Last, \"Name\" " + i);
+            participant.setEmail("participant" + i + "@gmail.com");
+            participant.setRole(roles.get(i % roles.size()));
+            participant.setCountry(countries.get(i % countries.size()));
+            participantRepository.save(participant);
+        }
+        List<ParticipantDTO> expected = participantRepository.findAllAsDto();
+
+        for (ParticipantFormat format : ParticipantFormat.values()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            long written = participantExportService.export(format, false, out);
+
+            List<ParticipantDTO> exported = participantImportReader
+                    .read(new ByteArrayInputStream(out.toByteArray()), format).readAll();
+            assertThat(written).isEqualTo(expected.size());
+            assertThat(exported).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package pl.juhas.symposium.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import pl.juhas.symposium.dto.CursorPageDTO;
+import pl.juhas.symposium.dto.ParticipantDTO;
+import pl.juhas.symposium.enums.Country;
+import pl.juhas.symposium.enums.Role;
+import pl.juhas.symposium.model.Participant;
+import pl.juhas.symposium.repository.ParticipantRepository;
+import pl.juhas.symposium.support.SymposiumIntegrationTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+class ParticipantGroupingServiceTests extends SymposiumIntegrationTest {
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private ParticipantGroupingService participantGroupingService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final List<Role> roles = List.of(Role.STUDENT, Role.DOCTOR, Role.ORGANIZER);
+    private final List<Country> countries = List.of(Country.POLAND, Country.USA, Country.CANADA, Country.UK, Country.AUSTRALIA);
+
+    @Test
+    void testGroupParticipantsInDatabase() {
+        log.info("------------testGroupParticipantsInDatabase------------");
+        for (int i = 0; i < 23; i++) {
+            Participant participant = new Participant();
+            participant.setFirstName("Participant" + i);
+            participant.setLastName("LastName" + i);
+            participant.setEmail("participant" + i + "@gmail.com");
+            participant.setRole(roles.get(i % roles.size()));
+            participant.setCountry(countries.get(i % countries.size()));
+            participantRepository.save(participant);
+        }
+
+        Map<Role, Long> byRole = participantGroupingService.countByRole();
+        Map<Country, Long> byCountry = participantGroupingService.countByCountry();
+        log.info("By role: {}", byRole);
+        log.info("By country: {}", byCountry);
+
+        assertThat(byRole).containsEntry(Role.STUDENT, 8L).containsEntry(Role.DOCTOR, 8L).containsEntry(Role.ORGANIZER, 7L);
+        assertThat(byCountry).containsEntry(Country.POLAND, 6L).containsEntry(Country.USA, 5L).containsEntry(Country.SPAIN, 0L);
+        assertThat(meterRegistry.find("spring.data.repository.invocations").tag("repository", "ParticipantRepository")
+                .tag("method", "countByRole").timer()).isNotNull();
+
+        List<ParticipantDTO> students = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPageDTO<ParticipantDTO> page = participantGroupingService.membersOfRole(Role.STUDENT, cursor, 3);
+            assertThat(page.items()).hasSizeLessThanOrEqualTo(3);
+            students.addAll(page.items());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertThat(students).hasSize(8).allMatch(p -> p.role() == Role.STUDENT);
+        assertThat(students).extracting(ParticipantDTO::id).isSorted().doesNotHaveDuplicates();
+    }
+}
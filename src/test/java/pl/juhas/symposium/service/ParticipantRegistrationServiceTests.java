@@ -0,0 +1,81 @@
+package pl.juhas.symposium.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+import pl.juhas.symposium.dto.ParticipantDTO;
+import pl.juhas.symposium.enums.Country;
+import pl.juhas.symposium.enums.Role;
+import pl.juhas.symposium.io.ParticipantFormat;
+import pl.juhas.symposium.io.ParticipantImportReader;
+import pl.juhas.symposium.repository.ParticipantRepository;
+import pl.juhas.symposium.support.SymposiumIntegrationTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Slf4j
+class ParticipantRegistrationServiceTests extends SymposiumIntegrationTest {
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private ParticipantRegistrationService participantRegistrationService;
+
+    @Autowired
+    private ParticipantImportReader participantImportReader;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private final List<Role> roles = List.of(Role.STUDENT, Role.DOCTOR, Role.ORGANIZER);
+    private final List<Country> countries = List.of(Country.POLAND, Country.USA, Country.CANADA, Country.UK, Country.AUSTRALIA);
+
+    @Test
+    void testBulkRegisterParticipantsFromCsvAndNdjson() throws IOException {
+        log.info("------------testBulkRegisterParticipantsFromCsvAndNdjson------------");
+        StringBuilder csv = new StringBuilder("firstName,lastName,email,role,country\n");
+        for (int i = 0; i < 120; i++) {
+            csv.append("Csv").append(i).append(",Last").append(i).append(",csv").append(i).append("@example.com,")
+                    .append(roles.get(i % roles.size())).append(',').append(countries.get(i % countries.size())).append('\n');
+        }
+        String ndjson = """
+                {"firstName":"Nd","lastName":"Json","email":"nd.json@example.com","role":"DOCTOR","country":"POLAND"}
+                {"firstName":"No","lastName":"Role","email":"no.role@example.com"}
+                """;
+
+        var csvResult = participantRegistrationService.registerAll(participantImportReader.read(
+                new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)), ParticipantFormat.CSV));
+        var ndjsonResult = participantRegistrationService.registerAll(participantImportReader.read(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), ParticipantFormat.NDJSON));
+
+        assertThat(csvResult.registered()).isEqualTo(120);
+        assertThat(ndjsonResult.registered()).isEqualTo(2);
+        assertThat(participantRepository.count()).isEqualTo(123);
+        assertThat(participantRepository.findAllAsDto())
+                .extracting(p -> new ParticipantDTO(null, p.firstName(), p.lastName(), p.email(), p.role(), p.country()))
+                .contains(new ParticipantDTO(null, "Csv7", "Last7", "csv7@example.com", Role.DOCTOR, Country.CANADA),
+                        new ParticipantDTO(null, "No", "Role", "no.role@example.com", null, null));
+    }
+
+    @Test
+    void testMalformedBulkUploadIsRejectedWithoutRegisteringAnyone() throws Exception {
+        log.info("------------testMalformedBulkUploadIsRejectedWithoutRegisteringAnyone------------");
+        String ndjson = """
+                {"firstName":"Nd","lastName":"Json","email":"nd.json@example.com"}
+                {"firstName":"Broken","lastName":
+                """;
+
+        mockMvc.perform(post("/api/participants/bulk").contentType("application/x-ndjson").content(ndjson))
+                .andExpect(status().isBadRequest());
+        assertThat(participantRepository.count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,210 @@
+package pl.juhas.symposium.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import pl.juhas.symposium.controller.ConflictExceptionHandler;
+import pl.juhas.symposium.dto.PresentationMoveDTO;
+import pl.juhas.symposium.enums.EditConflictReason;
+import pl.juhas.symposium.exception.EditConflictException;
+import pl.juhas.symposium.model.ConferenceHall;
+import pl.juhas.symposium.model.Participant;
+import pl.juhas.symposium.model.Presentation;
+import pl.juhas.symposium.model.Topic;
+import pl.juhas.symposium.repository.PresentationRepository;
+import pl.juhas.symposium.repository.TopicRepository;
+import pl.juhas.symposium.support.SymposiumIntegrationTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Slf4j
+class ScheduleEditServiceTests extends SymposiumIntegrationTest {
+
+    @Autowired
+    private PresentationRepository presentationRepository;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    @Autowired
+    private ScheduleEditService scheduleEditService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ConflictExceptionHandler conflictExceptionHandler;
+
+    @Test
+    void testConcurrentScheduleEditsAreRetriedAndStaleEditsRejected() throws Exception {
+        log.info("------------testConcurrentScheduleEditsAreRetriedAndStaleEditsRejected------------");
+        long initialVersion = presentationRepository.findById(presentation.getId()).orElseThrow().getVersion();
+        int editors = 8;
+        int editsPerEditor = 10;
+        List<Future<Integer>> edits = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(editors)) {
+            for (int editor = 0; editor < editors; editor++) {
+                int first = 200 + editor * editsPerEditor;
+                edits.add(executor.submit(() -> {
+                    int applied = 0;
+                    for (int i = 0; i < editsPerEditor; i++) {
+                        try {
+                            scheduleEditService.move(presentation.getId(), new PresentationMoveDTO(null, null, null, first + i));
+                            applied++;
+                        } catch (EditConflictException e) {
+                            assertThat(e.getReason()).isEqualTo(EditConflictReason.CONCURRENT_UPDATES);
+                        }
+                    }
+                    return applied;
+                }));
+            }
+        }
+        int applied = 0;
+        for (Future<Integer> edit : edits) {
+            applied += edit.get();
+        }
+        assertThat(applied).isPositive();
+        Presentation edited = presentationRepository.findById(presentation.getId()).orElseThrow();
+        assertThat(edited.getVersion()).isEqualTo(initialVersion + applied);
+
+        mockMvc.perform(patch("/api/presentations/" + presentation.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"version\": " + initialVersion + ", \"durationMinutes\": 50}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.reason").value("STALE_VERSION"))
+                .andExpect(jsonPath("$.currentVersion").value(edited.getVersion()));
+        mockMvc.perform(patch("/api/presentations/" + presentation.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"version\": " + edited.getVersion() + ", \"durationMinutes\": 50}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(edited.getVersion() + 1))
+                .andExpect(jsonPath("$.durationMinutes").value(50));
+
+        Presentation later = testData.presentation(conferenceHall, null, LocalDateTime.of(2025, 4, 29, 10, 0), 60);
+        mockMvc.perform(patch("/api/presentations/" + later.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"startTime\": \"2025-04-29T09:30:00\"}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.reason").value("SCHEDULE_CONFLICT"))
+                .andExpect(jsonPath("$.conflicts[0].presentationId").value(presentation.getId()));
+
+        Topic topic = topicRepository.findById(presentation.getTopic().getId()).orElseThrow();
+        mockMvc.perform(put("/api/topics/" + topic.getId() + "/presenters")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"version\": " + topic.getVersion() + ", \"presenterIds\": []}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(topic.getVersion() + 1))
+                .andExpect(jsonPath("$.presenterIds").isEmpty());
+        mockMvc.perform(put("/api/topics/" + topic.getId() + "/presenters")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"version\": " + topic.getVersion() + ", \"presenterIds\": [" + participant.getId() + "]}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.reason").value("STALE_VERSION"));
+    }
+
+    @Test
+    void testConcurrentOverlappingMovesAreStoppedByTheDatabase() throws Exception {
+        log.info("------------testConcurrentOverlappingMovesAreStoppedByTheDatabase------------");
+        ConferenceHall sideHall = testData.hall("Side Hall", null);
+        Participant speaker = testData.participant("Ada", "Lovelace", "ada@example.com");
+        LocalDateTime day = LocalDateTime.of(2025, 4, 30, 0, 0);
+        for (int round = 0; round < 10; round++) {
+            Presentation first = testData.presentation(conferenceHall, null, day.plusHours(8), 30);
+            Presentation second = testData.presentation(conferenceHall, null, day.plusHours(9), 30);
+            assertOneMoveWins(first, day.plusHours(12), second, day.plusHours(12).plusMinutes(30),
+                    "ex_presentation_hall_overlap");
+
+            Presentation talk = testData.presentation(conferenceHall,
+                    testData.topic("Talk " + round, Set.of(speaker)), day.plusHours(16), 30);
+            Presentation workshop = testData.presentation(sideHall,
+                    testData.topic("Workshop " + round, Set.of(speaker)), day.plusHours(17), 30);
+            assertOneMoveWins(talk, day.plusHours(19), workshop, day.plusHours(19).plusMinutes(45),
+                    "ex_presenter_slot_overlap");
+            day = day.plusDays(1);
+        }
+    }
+
+    @Test
+    void testOnlyScheduleConstraintViolationsAreReportedAsConflicts() {
+        log.info("------------testOnlyScheduleConstraintViolationsAreReportedAsConflicts------------");
+        assertConflict(catchThrowableOfType(DataIntegrityViolationException.class,
+                () -> testData.presentation(conferenceHall, null, presentation.getStartTime(), 30)),
+                "uk_presentation_hall_start");
+        assertConflict(catchThrowableOfType(DataIntegrityViolationException.class,
+                () -> testData.presentation(conferenceHall, null, presentation.getStartTime().plusMinutes(30), 60)),
+                "ex_presentation_hall_overlap");
+        ConferenceHall sideHall = testData.hall("Side Hall", null);
+        assertConflict(catchThrowableOfType(DataIntegrityViolationException.class,
+                () -> testData.presentation(sideHall, testData.topic("Robotics", Set.of(participant)),
+                        presentation.getStartTime().plusMinutes(30), 60)),
+                "ex_presenter_slot_overlap");
+
+        DataIntegrityViolationException unknownParticipant = catchThrowableOfType(DataIntegrityViolationException.class,
+                () -> jdbcTemplate.update("INSERT INTO presentation_participants (presentation_id, participant_id) VALUES (?, ?)",
+                        presentation.getId(), -1L));
+        assertThatThrownBy(() -> conflictExceptionHandler.constraint(unknownParticipant)).isSameAs(unknownParticipant);
+    }
+
+    /**
+     * Moves both presentations at once into slots that overlap each other and checks that exactly
+     * one move is applied; the other is rejected by the conflict index or by {@code constraint}.
+     */
+    private void assertOneMoveWins(Presentation first, LocalDateTime firstStart, Presentation second,
+                                   LocalDateTime secondStart, String constraint) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> moves = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            for (Presentation moved : List.of(first, second)) {
+                LocalDateTime target = moved == first ? firstStart : secondStart;
+                moves.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        scheduleEditService.move(moved.getId(), new PresentationMoveDTO(null, null, target, 60));
+                        return true;
+                    } catch (EditConflictException e) {
+                        assertThat(e.getReason()).isEqualTo(EditConflictReason.SCHEDULE_CONFLICT);
+                        return false;
+                    } catch (DataIntegrityViolationException e) {
+                        assertConflict(e, constraint);
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+        }
+        assertThat(List.of(moves.get(0).get(), moves.get(1).get())).containsExactlyInAnyOrder(true, false);
+    }
+
+    private void assertConflict(DataIntegrityViolationException violation, String constraint) {
+        ResponseEntity<ProblemDetail> response = conflictExceptionHandler.constraint(violation);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody().getProperties())
+                .containsEntry("reason", EditConflictReason.CONSTRAINT)
+                .containsEntry("constraint", constraint);
+    }
+}
@@ -0,0 +1,69 @@
+package pl.juhas.symposium.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import pl.juhas.symposium.dto.PresentationSlotDTO;
+import pl.juhas.symposium.dto.ProposedSlotDTO;
+import pl.juhas.symposium.dto.ScheduleGenerationRequestDTO;
+import pl.juhas.symposium.dto.ScheduleGenerationResultDTO;
+import pl.juhas.symposium.exception.InvalidSlotException;
+import pl.juhas.symposium.model.Participant;
+import pl.juhas.symposium.repository.PresentationRepository;
+import pl.juhas.symposium.schedule.ScheduleConflictIndex;
+import pl.juhas.symposium.support.SymposiumIntegrationTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Slf4j
+class ScheduleGeneratorServiceTests extends SymposiumIntegrationTest {
+
+    @Autowired
+    private PresentationRepository presentationRepository;
+
+    @Autowired
+    private ScheduleConflictIndex scheduleConflictIndex;
+
+    @Autowired
+    private ScheduleGeneratorService scheduleGeneratorService;
+
+    @Test
+    void testGeneratedScheduleIsConflictFreeAndBalanced() {
+        log.info("------------testGeneratedScheduleIsConflictFreeAndBalanced------------");
+        testData.hall("Side Hall", conferenceHall.getHotel());
+        Participant other = testData.participant("Jane", "Roe", "jane.roe@gmail.com");
+        for (int i = 0; i < 10; i++) {
+            testData.topic("Generated" + i, i < 4 ? Set.of(participant, other) : Set.of(other));
+        }
+
+        List<LocalDateTime> slots = new ArrayList<>();
+        for (int hour = 9; hour < 15; hour++) {
+            slots.add(LocalDateTime.of(2025, 4, 29, hour, 0));
+        }
+        ScheduleGenerationResultDTO result = scheduleGeneratorService.generate(
+                new ScheduleGenerationRequestDTO(conferenceHall.getHotel().getId(), slots, null, 500L, 7L));
+        log.info(result.toString());
+
+        assertThat(result.topics()).isEqualTo(10);
+        assertThat(result.scheduled()).isEqualTo(6);
+        assertThat(result.unscheduled()).isEqualTo(4);
+        List<PresentationSlotDTO> schedule = presentationRepository.findAllSlots();
+        assertThat(schedule).hasSize(7);
+        List<ProposedSlotDTO> proposals = schedule.stream()
+                .map(slot -> new ProposedSlotDTO(slot.presentationId(), slot.hallId(), slot.topicId(), null,
+                        slot.startTime(), slot.durationMinutes()))
+                .toList();
+        assertThat(scheduleConflictIndex.conflicts(proposals)).isEmpty();
+
+        assertThat(scheduleGeneratorService.generate(new ScheduleGenerationRequestDTO(null,
+                List.of(LocalDateTime.of(2025, 4, 30, 9, 0)), 30, 100L, 7L)).scheduled()).isEqualTo(1);
+        assertThrows(InvalidSlotException.class, () -> scheduleGeneratorService.generate(new ScheduleGenerationRequestDTO(
+                null, List.of(LocalDateTime.of(2025, 4, 30, 9, 0), LocalDateTime.of(2025, 4, 30, 9, 30)), null, null, null)));
+    }
+}
@@ -0,0 +1,80 @@
+package pl.juhas.symposium.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import pl.juhas.symposium.dto.ScheduleEntryDTO;
+import pl.juhas.symposium.model.ConferenceHall;
+import pl.juhas.symposium.model.Hotel;
+import pl.juhas.symposium.model.Participant;
+import pl.juhas.symposium.model.Presentation;
+import pl.juhas.symposium.model.Topic;
+import pl.juhas.symposium.repository.HotelRepository;
+import pl.juhas.symposium.repository.PresentationRepository;
+import pl.juhas.symposium.support.SymposiumIntegrationTest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+class ScheduleServiceTests extends SymposiumIntegrationTest {
+
+    @Autowired
+    private PresentationRepository presentationRepository;
+
+    @Autowired
+    private HotelRepository hotelRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Test
+    void testScheduleIsLoadedWithBoundedNumberOfStatements() {
+        log.info("------------testScheduleIsLoadedWithBoundedNumberOfStatements------------");
+        Hotel otherHotel = new Hotel();
+        otherHotel.setName("Seaside Hotel");
+        otherHotel.setAddress("1 Beach Rd");
+        hotelRepository.save(otherHotel);
+        ConferenceHall otherHall = testData.hall("Ocean Hall", otherHotel);
+        Participant coPresenter = testData.participant("Jane", "Smith", "jane.smith@example.com");
+
+        for (int i = 0; i < 10; i++) {
+            Topic topic = testData.topic("Topic" + i, i % 2 == 0 ? Set.of(participant, coPresenter) : Set.of(coPresenter));
+            Presentation presentation = new Presentation();
+            presentation.setStartTime(LocalDateTime.of(2025, 4, 29 + i % 2, 10 + i, 0));
+            presentation.setConferenceHall(i % 3 == 0 ? otherHall : conferenceHall);
+            presentation.setParticipants(Set.of(participant, coPresenter));
+            presentation.setTopic(topic);
+            presentationRepository.save(presentation);
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        List<ScheduleEntryDTO> schedule = scheduleService.schedule();
+        long statements = statistics.getPrepareStatementCount();
+        schedule.forEach(entry -> log.info(entry.toString()));
+
+        assertThat(statements).isEqualTo(2);
+        assertThat(schedule).hasSize(11);
+        assertThat(schedule).extracting(ScheduleEntryDTO::startTime).isSorted();
+        ScheduleEntryDTO first = schedule.stream().filter(e -> "Topic0".equals(e.topicName())).findFirst().orElseThrow();
+        assertThat(first.hallName()).isEqualTo("Ocean Hall");
+        assertThat(first.hotelName()).isEqualTo("Seaside Hotel");
+        assertThat(first.attendeeCount()).isEqualTo(2);
+        assertThat(first.presenters()).extracting(ScheduleEntryDTO.SpeakerDTO::lastName).containsExactlyInAnyOrder("Doe", "Smith");
+
+        statistics.clear();
+        assertThat(scheduleService.schedule(LocalDate.of(2025, 4, 30))).hasSize(5);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,64 @@
+package pl.juhas.symposium.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import pl.juhas.symposium.dto.ParticipantDTO;
+import pl.juhas.symposium.dto.SearchResultDTO;
+import pl.juhas.symposium.dto.TopicSearchHitDTO;
+import pl.juhas.symposium.model.Participant;
+import pl.juhas.symposium.repository.ParticipantRepository;
+import pl.juhas.symposium.support.SymposiumIntegrationTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+class SearchServiceTests extends SymposiumIntegrationTest {
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private SearchService searchService;
+
+    @Test
+    void testSearchAndTypeaheadFollowParticipantChanges() {
+        log.info("------------testSearchAndTypeaheadFollowParticipantChanges------------");
+        Participant anna = testData.participant("Anna", "Johnson", "anna@example.com");
+        Participant jozef = testData.participant("Józef", "Nowak", "jn@example.com");
+
+        assertThat(searchService.typeahead("Jo", 10)).extracting(ParticipantDTO::id)
+                .containsExactly(participant.getId(), anna.getId(), jozef.getId());
+        assertThat(searchService.typeahead("nowak j", 10)).extracting(ParticipantDTO::id).containsExactly(jozef.getId());
+        assertThat(searchService.typeahead("jo", 1)).hasSize(1);
+
+        anna.setLastName("Smith");
+        participantRepository.save(anna);
+        participantRepository.delete(jozef);
+        assertThat(searchService.typeahead("johnson", 10)).isEmpty();
+        assertThat(searchService.typeahead("jozef", 10)).isEmpty();
+        assertThat(searchService.typeahead("smith", 10)).extracting(ParticipantDTO::id).containsExactly(anna.getId());
+
+        SearchResultDTO result = searchService.search("OHN", 10);
+        assertThat(result.participants()).extracting(ParticipantDTO::id).containsExactly(participant.getId());
+        assertThat(searchService.search("health", 10).topics()).extracting(TopicSearchHitDTO::name)
+                .containsExactly("AI in Healthcare");
+        assertThat(searchService.search("healthcare ai", 10).topics()).hasSize(1);
+        assertThat(searchService.search("100%", 10).participants()).isEmpty();
+    }
+
+    @Test
+    void testParticipantMatchesAreRankedByNearnessAndMatchWordsInAnyOrder() {
+        log.info("------------testParticipantMatchesAreRankedByNearnessAndMatchWordsInAnyOrder------------");
+        Participant roberta = testData.participant("Roberta", "Langford", "roberta.langford@example.com");
+        Participant berta = testData.participant("Berta", "Lang", "bl@example.com");
+        Participant maryAnn = testData.participant("Mary Ann", "Berg", "mab@example.com");
+
+        assertThat(searchService.search("erta", 10).participants()).extracting(ParticipantDTO::id)
+                .containsExactly(berta.getId(), roberta.getId());
+        assertThat(searchService.search("erta", 1).participants()).extracting(ParticipantDTO::id)
+                .containsExactly(berta.getId());
+        assertThat(searchService.search("berg ann", 10).participants()).extracting(ParticipantDTO::id)
+                .containsExactly(maryAnn.getId());
+    }
+}
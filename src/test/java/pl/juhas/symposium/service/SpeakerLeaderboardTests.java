@@ -0,0 +1,104 @@
+package pl.juhas.symposium.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import pl.juhas.symposium.dto.SpeakerStatsDTO;
+import pl.juhas.symposium.enums.Country;
+import pl.juhas.symposium.enums.Role;
+import pl.juhas.symposium.model.Participant;
+import pl.juhas.symposium.model.Presentation;
+import pl.juhas.symposium.model.Topic;
+import pl.juhas.symposium.repository.ParticipantRepository;
+import pl.juhas.symposium.repository.PresentationRepository;
+import pl.juhas.symposium.repository.TopicRepository;
+import pl.juhas.symposium.support.SymposiumIntegrationTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+class SpeakerLeaderboardTests extends SymposiumIntegrationTest {
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private PresentationRepository presentationRepository;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    @Autowired
+    private SpeakerLeaderboard speakerLeaderboard;
+
+    @Test
+    void testSpeakerLeaderboardFollowsPresenterChanges() {
+        log.info("------------testSpeakerLeaderboardFollowsPresenterChanges------------");
+
+        Participant otherParticipant = new Participant();
+        otherParticipant.setFirstName("Jane");
+        otherParticipant.setLastName("Smith");
+        otherParticipant.setEmail("jane.smith@example.com");
+        otherParticipant.setRole(Role.STUDENT);
+        otherParticipant.setCountry(Country.USA);
+        participantRepository.save(otherParticipant);
+
+        List<Presentation> janesPresentations = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            Topic topic = new Topic();
+            topic.setName("Leaderboard topic " + i);
+            topic.setPresenters(Set.of(otherParticipant));
+            topicRepository.save(topic);
+
+            Presentation janesPresentation = new Presentation();
+            janesPresentation.setStartTime(LocalDateTime.of(2025, 4, 29, 11 + i, 0));
+            janesPresentation.setConferenceHall(conferenceHall);
+            janesPresentation.setTopic(topic);
+            janesPresentations.add(presentationRepository.save(janesPresentation));
+        }
+
+        List<SpeakerStatsDTO> expected = List.of(new SpeakerStatsDTO("Jane", "Smith", 2L), new SpeakerStatsDTO("John", "Doe", 1L));
+        assertThat(presentationRepository.findTopSpeaker(Pageable.ofSize(2))).isEqualTo(expected);
+        assertThat(speakerLeaderboard.top(2)).isEqualTo(expected);
+
+        // Removing Jane's presentations and renaming John must reach the ranking without a rebuild
+        presentationRepository.deleteAll(janesPresentations);
+        participant.setLastName("Doe-Smith");
+        participantRepository.save(participant);
+
+        assertThat(speakerLeaderboard.top(2)).containsExactly(new SpeakerStatsDTO("John", "Doe-Smith", 1L));
+        assertThat(speakerLeaderboard.top(2)).isEqualTo(presentationRepository.findTopSpeaker(Pageable.ofSize(2)));
+    }
+
+    @Test
+    void testRenamedPresentersKeepTheirNewNameWhenTheirCountChanges() {
+        log.info("------------testRenamedPresentersKeepTheirNewNameWhenTheirCountChanges------------");
+        Participant jane = testData.participant("Jane", "Smith", "jane.smith@example.com");
+        List<Topic> janesTopics = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            janesTopics.add(testData.topic("Rename topic " + i, Set.of(jane)));
+        }
+
+        // Jane presents nothing yet and John is ranked with his fixture presentation
+        jane.setLastName("Kowalska");
+        participantRepository.save(jane);
+        participant.setLastName("Doe-Smith");
+        participantRepository.save(participant);
+
+        for (int i = 0; i < janesTopics.size(); i++) {
+            testData.presentation(conferenceHall, janesTopics.get(i), LocalDateTime.of(2025, 4, 29, 11 + i, 0), 60);
+        }
+        Topic johnsTopic = testData.topic("Rename topic 3", Set.of(participant));
+        testData.presentation(conferenceHall, johnsTopic, LocalDateTime.of(2025, 4, 29, 15, 0), 60);
+
+        List<SpeakerStatsDTO> expected = List.of(new SpeakerStatsDTO("Jane", "Kowalska", 3L), new SpeakerStatsDTO("John", "Doe-Smith", 2L));
+        assertThat(speakerLeaderboard.top(2)).isEqualTo(expected);
+        assertThat(presentationRepository.findTopSpeaker(Pageable.ofSize(2))).isEqualTo(expected);
+    }
+}
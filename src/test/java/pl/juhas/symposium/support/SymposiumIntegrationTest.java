@@ -0,0 +1,40 @@
+package pl.juhas.symposium.support;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import pl.juhas.symposium.config.FreshSchemaConfiguration;
+import pl.juhas.symposium.model.ConferenceHall;
+import pl.juhas.symposium.model.Participant;
+import pl.juhas.symposium.model.Presentation;
+
+/**
+ * Spring Boot test setup shared by the feature test classes. They all extend this class, so they run
+ * against one cached application context and one migrated schema, and every test starts from the
+ * rows {@link TestData#reset()} seeds. The live feed window is an hour so that tests decide when a
+ * batch of changes is flushed.
+ */
+@SpringBootTest(properties = "symposium.feed.window=1h")
+@Import({FreshSchemaConfiguration.class, TestData.class})
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+public abstract class SymposiumIntegrationTest {
+
+    @Autowired
+    protected TestData testData;
+
+    protected ConferenceHall conferenceHall;
+    protected Participant participant;
+    protected Presentation presentation;
+
+    @BeforeEach
+    void resetTestData() {
+        TestData.Fixture fixture = testData.reset();
+        conferenceHall = fixture.conferenceHall();
+        participant = fixture.participant();
+        presentation = fixture.presentation();
+    }
+}
@@ -0,0 +1,118 @@
+package pl.juhas.symposium.support;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.test.context.TestComponent;
+import pl.juhas.symposium.enums.Country;
+import pl.juhas.symposium.model.ConferenceHall;
+import pl.juhas.symposium.model.Hotel;
+import pl.juhas.symposium.model.Participant;
+import pl.juhas.symposium.model.Presentation;
+import pl.juhas.symposium.model.Topic;
+import pl.juhas.symposium.repository.ConferenceHallRepository;
+import pl.juhas.symposium.repository.HotelRepository;
+import pl.juhas.symposium.repository.ParticipantRepository;
+import pl.juhas.symposium.repository.PresentationRepository;
+import pl.juhas.symposium.repository.TopicRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Seeds the rows the feature tests start from. Everything is saved through the repositories, so the
+ * in-memory indexes see the same entity events as they would in production.
+ */
+@TestComponent
+@RequiredArgsConstructor
+public class TestData {
+
+    private final HotelRepository hotelRepository;
+    private final ConferenceHallRepository conferenceHallRepository;
+    private final ParticipantRepository participantRepository;
+    private final TopicRepository topicRepository;
+    private final PresentationRepository presentationRepository;
+
+    /**
+     * Deletes all conference data and seeds one presentation of "AI in Healthcare" by John Doe, who
+     * also attends it, in the Main Hall of the Grand Hotel on 2025-04-29 at 9:00.
+     */
+    public Fixture reset() {
+        presentationRepository.deleteAll();
+        conferenceHallRepository.deleteAll();
+        topicRepository.deleteAll();
+        participantRepository.deleteAll();
+        hotelRepository.deleteAll();
+
+        Hotel hotel = new Hotel();
+        hotel.setName("Grand Hotel");
+        hotel.setAddress("123 Main St");
+        hotelRepository.save(hotel);
+
+        ConferenceHall conferenceHall = hall("Main Hall", hotel);
+
+        Participant participant = new Participant();
+        participant.setFirstName("John");
+        participant.setLastName("Doe");
+        participant.setEmail("john.doe@gmail.com");
+        participant.setCountry(Country.POLAND);
+        participantRepository.save(participant);
+
+        Topic topic = topic("AI in Healthcare", Set.of(participant));
+
+        Presentation presentation = new Presentation();
+        presentation.setStartTime(LocalDateTime.of(2025, 4, 29, 9, 0));
+        presentation.setConferenceHall(conferenceHall);
+        presentation.setParticipants(Set.of(participant));
+        presentation.setTopic(topic);
+        presentationRepository.save(presentation);
+
+        return new Fixture(conferenceHall, participant, presentation);
+    }
+
+    public Participant participant(String firstName, String lastName, String email) {
+        Participant participant = new Participant();
+        participant.setFirstName(firstName);
+        participant.setLastName(lastName);
+        participant.setEmail(email);
+        return participantRepository.save(participant);
+    }
+
+    /**
+     * Registers {@code count} participants named {@code <prefix><i> Last<i>} with the e-mail
+     * {@code <prefix><i>@example.com} in lower case.
+     */
+    public List<Participant> participants(String prefix, int count) {
+        List<Participant> participants = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            participants.add(participant(prefix + i, "Last" + i, prefix.toLowerCase() + i + "@example.com"));
+        }
+        return participants;
+    }
+
+    public ConferenceHall hall(String name, Hotel hotel) {
+        ConferenceHall hall = new ConferenceHall();
+        hall.setName(name);
+        hall.setHotel(hotel);
+        return conferenceHallRepository.save(hall);
+    }
+
+    public Topic topic(String name, Set<Participant> presenters) {
+        Topic topic = new Topic();
+        topic.setName(name);
+        topic.setPresenters(presenters);
+        return topicRepository.save(topic);
+    }
+
+    public Presentation presentation(ConferenceHall hall, Topic topic, LocalDateTime startTime, int durationMinutes) {
+        Presentation presentation = new Presentation();
+        presentation.setStartTime(startTime);
+        presentation.setDurationMinutes(durationMinutes);
+        presentation.setConferenceHall(hall);
+        presentation.setTopic(topic);
+        return presentationRepository.save(presentation);
+    }
+
+    public record Fixture(ConferenceHall conferenceHall, Participant participant, Presentation presentation) {
+    }
+}